@@ -0,0 +1,54 @@
+package com.event.benchmarks;
+
+import com.event.dao.CertificateIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Certificate ID generation: the lock-free generator against the String.format IDs it replaced
+ * The contended variants run eight threads on one generator, as concurrent registrations do
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertificateIdBenchmark {
+
+    private final CertificateIdGenerator generator = new CertificateIdGenerator(1);
+    private final AtomicInteger registrationId = new AtomicInteger();
+
+    @Benchmark
+    public String generator() {
+        return generator.nextId("participation");
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format("%s-%d-%d", "PAR", registrationId.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generatorContended() {
+        return generator.nextId("participation");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String stringFormatContended() {
+        return String.format("%s-%d-%d", "PAR", registrationId.incrementAndGet(), System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,57 @@
+package com.event.benchmarks;
+
+import com.event.servlets.ExportServlet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full exports through ExportServlet, from the database query to the last byte of the response
+ * The response body is discarded, so the numbers cover the query and the formatting, not the network
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ExportBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"csv", "json", "ndjson", "html"})
+    private String format;
+
+    private ExportServlet servlet;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.seedRegistrations(rows);
+        servlet = new ExportServlet();
+        servlet.init();
+    }
+
+    /**
+     * @return Response characters written, so the export cannot be optimized away
+     */
+    @Benchmark
+    public long export() throws Exception {
+        ServletStubs.DiscardingResponse response = new ServletStubs.DiscardingResponse();
+        servlet.service(ServletStubs.adminGet(Map.of("format", format)), response.getResponse());
+        return response.getWritten();
+    }
+}
@@ -0,0 +1,73 @@
+package com.event.benchmarks;
+
+import com.event.model.Registration;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of registrations as the dashboard and exports do it, without a database
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "10000"})
+    private int rows;
+
+    private List<Registration> registrations;
+
+    @Setup
+    public void setUp() {
+        registrations = new ArrayList<>(rows);
+        long start = Timestamp.valueOf("2025-01-01 00:00:00").getTime();
+        for (int i = 1; i <= rows; i++) {
+            String name = i % 10 == 0 ? "Zoë \"Z\" O'Neil, <" + i + ">" : "Participant " + i;
+            registrations.add(new Registration(i, name, "participant" + i + "@example.edu", "College " + (i % 200),
+                "Code Rush", new Timestamp(start + i * 1000L), i % 50 == 0));
+        }
+    }
+
+    /**
+     * A dashboard page: compact array of registrations
+     */
+    @Benchmark
+    public String compactArray() {
+        JSONArray array = new JSONArray();
+        for (Registration registration : registrations) {
+            array.put(registration.toJSON());
+        }
+        return array.toString();
+    }
+
+    /**
+     * The JSON export document, pretty printed
+     */
+    @Benchmark
+    public String prettyExportDocument() {
+        JSONArray array = new JSONArray();
+        for (Registration registration : registrations) {
+            array.put(registration.toJSON());
+        }
+        return new JSONObject().put("total_records", registrations.size()).put("participants", array).toString(2);
+    }
+}
@@ -0,0 +1,398 @@
+package com.event.benchmarks;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator replaying the first minute after registrations open
+ * Registrations arrive front-loaded over the run (most in the first seconds, tapering off), a share of
+ * registrants submit twice as impatient users do, admin dashboards poll statistics and participants
+ * throughout, and exports start mid-spike; pool and executor statistics are sampled from the server
+ *
+ * By default the packaged webapp runs in an embedded Tomcat against the benchmark database
+ * (see BenchmarkDatabase); --url targets an already running server instead and seeds nothing.
+ * Run from DataVault/ after mvn package:
+ *     java -cp benchmarks/target/benchmarks.jar com.event.benchmarks.LoadTest --registrations 5000
+ */
+public final class LoadTest {
+
+    private static final String[] EVENTS = {
+        "Code Rush", "Tech Quiz", "Hackathon", "Web Master", "Debug Dash", "AI Challenge"
+    };
+
+    private static final String[] EXPORT_FORMATS = {"csv", "json", "html"};
+
+    // Attempts per registration when the server answers 429, as the registration page retries
+    private static final int MAX_REGISTRATION_ATTEMPTS = 3;
+
+    private static final long STATISTICS_INTERVAL_MILLIS = 2000;
+    private static final long PARTICIPANTS_INTERVAL_MILLIS = 5000;
+    private static final long POOL_SAMPLE_INTERVAL_MILLIS = 500;
+
+    // How long stragglers may run after the scheduled traffic ends
+    private static final long DRAIN_TIMEOUT_SECONDS = 120;
+
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final LoadTestReport report = new LoadTestReport();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final HttpClient registrantClient;
+    private final String runTag;
+
+    private LoadTest(Map<String, String> options, String baseUrl) {
+        this.options = options;
+        this.baseUrl = baseUrl;
+        this.scheduler = Executors.newScheduledThreadPool(getInt("dashboards") * 2 + getInt("exports") + 4, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.registrantClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        this.runTag = options.get("run-tag");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("registrations", "5000");
+        options.put("duration", "60");
+        options.put("duplicate-rate", "0.1");
+        options.put("dashboards", "5");
+        options.put("exports", "3");
+        options.put("export-at", "10");
+        options.put("seed-rows", "50000");
+        options.put("max-threads", "200");
+        options.put("seed", "42");
+        options.put("webapp", "target/EventTech");
+        options.put("output", "loadtest-result.json");
+        options.put("admin-user", "admin");
+        options.put("admin-password", "admin123");
+        options.put("run-tag", Long.toString(System.currentTimeMillis(), 36));
+        Map<String, String> contextParameters = new LinkedHashMap<>();
+
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+            if (name == null || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+            }
+            String value = args[++i];
+            if ("param".equals(name)) {
+                // --param async.jdbcThreads=40 replaces a web.xml context-param of the embedded server
+                String[] parameter = value.split("=", 2);
+                contextParameters.put(parameter[0], parameter.length > 1 ? parameter[1] : "");
+            } else if (options.containsKey(name) || "url".equals(name)) {
+                options.put(name, value);
+            } else {
+                throw new IllegalArgumentException("Unknown option --" + name);
+            }
+        }
+
+        LoadTestServer server = null;
+        String baseUrl = options.get("url");
+        try {
+            if (baseUrl == null) {
+                BenchmarkDatabase.start();
+                BenchmarkDatabase.seedRegistrations(Integer.parseInt(options.get("seed-rows")));
+                server = new LoadTestServer(new File(options.get("webapp")),
+                    Integer.parseInt(options.get("max-threads")), contextParameters);
+                baseUrl = server.start();
+                System.out.println("Embedded server started at " + baseUrl);
+            }
+
+            LoadTest loadTest = new LoadTest(options, baseUrl);
+            loadTest.run();
+
+            Map<String, Object> configuration = new LinkedHashMap<>(options);
+            configuration.remove("admin-password");
+            configuration.put("context_parameters", contextParameters);
+            loadTest.report.print(System.out);
+            loadTest.report.writeJSON(Paths.get(options.get("output")), configuration);
+            System.out.println("\nResults written to " + options.get("output"));
+
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        int dashboards = getInt("dashboards");
+        long durationMillis = getInt("duration") * 1000L;
+
+        // Sessions are opened before the clock starts, as admins are logged in when registrations open
+        List<HttpClient> adminClients = new ArrayList<>();
+        for (int i = 0; i < dashboards + 1; i++) {
+            adminClients.add(login());
+        }
+        HttpClient samplerClient = adminClients.remove(adminClients.size() - 1);
+
+        report.start();
+        List<ScheduledFuture<?>> pollers = new ArrayList<>();
+
+        scheduleRegistrations(durationMillis);
+
+        for (HttpClient client : adminClients) {
+            pollers.add(scheduler.scheduleWithFixedDelay(() -> adminGet(client, "get_statistics",
+                "admin-dashboard?action=get_statistics"), 0, STATISTICS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+            pollers.add(scheduler.scheduleWithFixedDelay(() -> adminGet(client, "get_participants",
+                "admin-dashboard?action=get_participants&limit=10"), 0, PARTICIPANTS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+        }
+
+        pollers.add(scheduler.scheduleWithFixedDelay(() -> samplePool(samplerClient),
+            0, POOL_SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS));
+
+        for (int i = 0; i < getInt("exports"); i++) {
+            HttpClient client = adminClients.isEmpty() ? samplerClient : adminClients.get(i % adminClients.size());
+            String format = EXPORT_FORMATS[i % EXPORT_FORMATS.length];
+            inFlight.incrementAndGet();
+            scheduler.schedule(() -> {
+                try {
+                    export(client, format);
+                } finally {
+                    requestDone();
+                }
+            }, getInt("export-at") * 1000L, TimeUnit.MILLISECONDS);
+        }
+
+        Thread.sleep(durationMillis);
+        System.out.println("Scheduled traffic done, waiting for requests in flight");
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+        synchronized (inFlight) {
+            while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+                inFlight.wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(drainDeadline - System.nanoTime())));
+            }
+        }
+        if (inFlight.get() > 0) {
+            System.err.println(inFlight.get() + " requests still in flight after "
+                + DRAIN_TIMEOUT_SECONDS + " s; reporting without them");
+        }
+
+        for (ScheduledFuture<?> poller : pollers) {
+            poller.cancel(false);
+        }
+        samplePool(samplerClient);
+        report.finish();
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Schedule every registration up front, so slow responses do not slow the arrivals
+     * Arrival density falls linearly from the opening to the end of the run: t = T * (1 - sqrt(1 - u))
+     */
+    private void scheduleRegistrations(long durationMillis) {
+        int registrations = getInt("registrations");
+        double duplicateRate = Double.parseDouble(options.get("duplicate-rate"));
+        Random random = new Random(Long.parseLong(options.get("seed")));
+
+        for (int i = 0; i < registrations; i++) {
+            double u = (i + 0.5) / registrations;
+            long arrivalMillis = (long) (durationMillis * (1 - Math.sqrt(1 - u)));
+
+            String form = "name=" + encode("Spike Participant " + i)
+                + "&email=" + encode("spike-" + runTag + "-" + i + "@example.edu")
+                + "&college=" + encode("College " + random.nextInt(200))
+                + "&event=" + encode(EVENTS[random.nextInt(EVENTS.length)]);
+
+            submitRegistration(form, arrivalMillis, 1);
+            if (random.nextDouble() < duplicateRate) {
+                // Double submit or impatient resubmission of the same form
+                submitRegistration(form, arrivalMillis + 100 + random.nextInt(1400), 1);
+            }
+        }
+    }
+
+    private void submitRegistration(String form, long delayMillis, int attempt) {
+        inFlight.incrementAndGet();
+        scheduler.schedule(() -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/register"))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+
+            long start = System.nanoTime();
+            registrantClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        long nanos = System.nanoTime() - start;
+                        if (error != null) {
+                            report.record("register", nanos, LoadTestReport.Outcome.ERROR, 0);
+                            return;
+                        }
+
+                        if (response.statusCode() == 429) {
+                            report.record("register", nanos, LoadTestReport.Outcome.THROTTLED, response.body().length());
+                            if (attempt < MAX_REGISTRATION_ATTEMPTS) {
+                                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                                submitRegistration(form, retryAfter * 1000, attempt + 1);
+                            }
+                            return;
+                        }
+
+                        report.record("register", nanos, classifyRegistration(response), response.body().length());
+                    } finally {
+                        requestDone();
+                    }
+                });
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void requestDone() {
+        if (inFlight.decrementAndGet() == 0) {
+            synchronized (inFlight) {
+                inFlight.notifyAll();
+            }
+        }
+    }
+
+    private static LoadTestReport.Outcome classifyRegistration(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            return LoadTestReport.Outcome.ERROR;
+        }
+
+        JSONObject json = parse(response.body());
+        if (json != null && "success".equals(json.optString("status"))) {
+            return LoadTestReport.Outcome.OK;
+        }
+        if (json != null && json.optString("message").contains("already registered")) {
+            return LoadTestReport.Outcome.DUPLICATE;
+        }
+        return LoadTestReport.Outcome.ERROR;
+    }
+
+    private void adminGet(HttpClient client, String operation, String path) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + path))
+                .timeout(Duration.ofSeconds(60)).GET().build(), HttpResponse.BodyHandlers.ofString());
+            JSONObject json = parse(response.body());
+
+            LoadTestReport.Outcome outcome;
+            if (response.statusCode() == 429) {
+                outcome = LoadTestReport.Outcome.THROTTLED;
+            } else if (response.statusCode() == 200 && json != null && "success".equals(json.optString("status"))) {
+                outcome = LoadTestReport.Outcome.OK;
+            } else {
+                outcome = LoadTestReport.Outcome.ERROR;
+            }
+            report.record(operation, System.nanoTime() - start, outcome, response.body().length());
+
+        } catch (IOException e) {
+            report.record(operation, System.nanoTime() - start, LoadTestReport.Outcome.ERROR, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void export(HttpClient client, String format) {
+        String operation = "export_" + format;
+        long start = System.nanoTime();
+        try {
+            HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(
+                URI.create(baseUrl + "/export?format=" + format)).GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+
+            long bytes = 0;
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream in = response.body()) {
+                for (int read; (read = in.read(buffer)) != -1; ) {
+                    bytes += read;
+                }
+            }
+
+            String contentType = response.headers().firstValue("Content-Type").orElse("");
+            boolean ok = response.statusCode() == 200
+                && ("json".equals(format) || !contentType.startsWith("application/json"));
+            report.record(operation, System.nanoTime() - start,
+                ok ? LoadTestReport.Outcome.OK : LoadTestReport.Outcome.ERROR, bytes);
+
+        } catch (IOException e) {
+            report.record(operation, System.nanoTime() - start, LoadTestReport.Outcome.ERROR, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void samplePool(HttpClient client) {
+        try {
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create(baseUrl + "/admin-dashboard?action=get_pool_statistics")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            JSONObject json = parse(response.body());
+            if (json != null && json.has("pool_statistics")) {
+                report.recordPoolSample(json.getJSONObject("pool_statistics"),
+                    json.optJSONObject("request_executor_statistics"));
+            }
+        } catch (IOException e) {
+            System.err.println("Pool sample failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Open an admin session
+     * @return Client holding the session cookie
+     */
+    private HttpClient login() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+            .cookieHandler(new CookieManager())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        String form = "username=" + encode(options.get("admin-user"))
+            + "&password=" + encode(options.get("admin-password"));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/admin-login"))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form)).build(), HttpResponse.BodyHandlers.ofString());
+
+        JSONObject json = parse(response.body());
+        if (json == null || !"success".equals(json.optString("status"))) {
+            throw new IllegalStateException("Admin login failed: " + response.statusCode() + " " + response.body());
+        }
+        return client;
+    }
+
+    private int getInt(String name) {
+        return Integer.parseInt(options.get(name));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static JSONObject parse(String body) {
+        try {
+            return new JSONObject(body);
+        } catch (JSONException e) {
+            return null;
+        }
+    }
+}
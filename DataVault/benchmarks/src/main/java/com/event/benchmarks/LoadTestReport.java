@@ -0,0 +1,194 @@
+package com.event.benchmarks;
+
+import com.event.metrics.Histogram;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Results of a load test run: latency and outcomes per operation, plus connection pool samples
+ */
+final class LoadTestReport {
+
+    /**
+     * How an exchange ended
+     */
+    enum Outcome {
+        /** 2xx with a successful JSON status, or a download */
+        OK,
+        /** Rejected as a duplicate registration, which the retries are expected to cause */
+        DUPLICATE,
+        /** 429 from the JDBC executor; the client retries after Retry-After */
+        THROTTLED,
+        /** Any other status, an error JSON status, or a transport failure */
+        ERROR
+    }
+
+    private final ConcurrentMap<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final AtomicLong maxActiveConnections = new AtomicLong();
+    private final AtomicLong maxWaitingThreads = new AtomicLong();
+    private final AtomicLong maxExecutorQueued = new AtomicLong();
+    private volatile JSONObject lastPoolStatistics;
+    private volatile JSONObject lastExecutorStatistics;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    void start() {
+        startedAt = System.nanoTime();
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    /**
+     * Record one HTTP exchange
+     * @param operation Operation name, e.g. register or get_statistics
+     * @param nanos Time from sending the request to receiving the whole response
+     * @param outcome How it ended
+     * @param bytes Response body size
+     */
+    void record(String operation, long nanos, Outcome outcome, long bytes) {
+        operations.computeIfAbsent(operation, k -> new OperationStats()).record(nanos, outcome, bytes);
+    }
+
+    /**
+     * Record a sample of the server's pool and executor statistics
+     */
+    void recordPoolSample(JSONObject poolStatistics, JSONObject executorStatistics) {
+        maxActiveConnections.accumulateAndGet(poolStatistics.optLong("active_connections"), Math::max);
+        maxWaitingThreads.accumulateAndGet(poolStatistics.optLong("waiting_threads"), Math::max);
+        lastPoolStatistics = poolStatistics;
+        if (executorStatistics != null) {
+            maxExecutorQueued.accumulateAndGet(executorStatistics.optLong("queued"), Math::max);
+            lastExecutorStatistics = executorStatistics;
+        }
+    }
+
+    /**
+     * Print a table of the results
+     */
+    void print(PrintStream out) {
+        double seconds = elapsedSeconds();
+        out.printf("%nLoad test finished in %.1f s%n%n", seconds);
+        out.printf("%-18s %8s %9s %6s %6s %6s %6s %9s %9s %9s %9s %9s%n", "operation", "count", "req/s",
+            "ok", "dup", "429", "error", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+
+        for (Map.Entry<String, OperationStats> entry : new TreeMap<>(operations).entrySet()) {
+            OperationStats stats = entry.getValue();
+            Histogram.Snapshot latency = stats.latency.snapshot();
+            out.printf("%-18s %8d %9.1f %6d %6d %6d %6d %9.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(),
+                latency.getCount(), latency.getCount() / seconds, stats.count(Outcome.OK),
+                stats.count(Outcome.DUPLICATE), stats.count(Outcome.THROTTLED), stats.count(Outcome.ERROR),
+                latency.getValueAtQuantile(0.5) / 1000.0, latency.getValueAtQuantile(0.9) / 1000.0,
+                latency.getValueAtQuantile(0.99) / 1000.0, latency.getValueAtQuantile(0.999) / 1000.0,
+                latency.getMax() / 1000.0);
+        }
+
+        JSONObject pool = lastPoolStatistics;
+        if (pool != null) {
+            out.printf("%nDB pool: max %d connections, peak %d active, peak %d waiting threads, %d borrow timeouts%n",
+                pool.optLong("max_size"), maxActiveConnections.get(), maxWaitingThreads.get(),
+                pool.optLong("borrow_timeouts"));
+        }
+        JSONObject executor = lastExecutorStatistics;
+        if (executor != null) {
+            out.printf("JDBC executor: %d threads, peak %d queued, %d rejected, %d failed%n",
+                executor.optLong("threads"), maxExecutorQueued.get(), executor.optLong("rejected"),
+                executor.optLong("failed"));
+        }
+    }
+
+    /**
+     * Write the results as JSON for comparison between runs
+     * @param path Output file
+     * @param configuration Settings of the run
+     */
+    void writeJSON(Path path, Map<String, Object> configuration) throws IOException {
+        double seconds = elapsedSeconds();
+
+        JSONObject operationsJSON = new JSONObject();
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            OperationStats stats = entry.getValue();
+            Histogram.Snapshot latency = stats.latency.snapshot();
+
+            Map<String, Object> outcomes = new LinkedHashMap<>();
+            for (Outcome outcome : Outcome.values()) {
+                outcomes.put(outcome.name().toLowerCase(), stats.count(outcome));
+            }
+
+            operationsJSON.put(entry.getKey(), new JSONObject()
+                .put("count", latency.getCount())
+                .put("throughput_per_second", latency.getCount() / seconds)
+                .put("outcomes", outcomes)
+                .put("error_rate", latency.getCount() == 0 ? 0.0 : (double) stats.count(Outcome.ERROR) / latency.getCount())
+                .put("response_bytes", stats.bytes.get())
+                .put("latency_ms", new JSONObject()
+                    .put("mean", latency.getMean() / 1000.0)
+                    .put("p50", latency.getValueAtQuantile(0.5) / 1000.0)
+                    .put("p90", latency.getValueAtQuantile(0.9) / 1000.0)
+                    .put("p99", latency.getValueAtQuantile(0.99) / 1000.0)
+                    .put("p999", latency.getValueAtQuantile(0.999) / 1000.0)
+                    .put("max", latency.getMax() / 1000.0)));
+        }
+
+        JSONObject database = new JSONObject()
+            .put("peak_active_connections", maxActiveConnections.get())
+            .put("peak_waiting_threads", maxWaitingThreads.get())
+            .put("peak_executor_queued", maxExecutorQueued.get());
+        if (lastPoolStatistics != null) {
+            database.put("final_pool_statistics", lastPoolStatistics);
+        }
+        if (lastExecutorStatistics != null) {
+            database.put("final_executor_statistics", lastExecutorStatistics);
+        }
+
+        JSONObject result = new JSONObject()
+            .put("configuration", configuration)
+            .put("duration_seconds", seconds)
+            .put("operations", operationsJSON)
+            .put("database", database);
+        Files.write(path, result.toString(2).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double elapsedSeconds() {
+        long end = finishedAt != 0 ? finishedAt : System.nanoTime();
+        return Math.max(1e-9, (end - startedAt) / 1e9);
+    }
+
+    /**
+     * Latency histogram (microseconds) and outcome counters of one operation
+     */
+    private static final class OperationStats {
+
+        private final Histogram latency = new Histogram();
+        private final AtomicLong[] outcomes = new AtomicLong[Outcome.values().length];
+        private final AtomicLong bytes = new AtomicLong();
+
+        OperationStats() {
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = new AtomicLong();
+            }
+        }
+
+        void record(long nanos, Outcome outcome, long responseBytes) {
+            latency.record(nanos / 1000);
+            outcomes[outcome.ordinal()].incrementAndGet();
+            bytes.addAndGet(responseBytes);
+        }
+
+        long count(Outcome outcome) {
+            return outcomes[outcome.ordinal()].get();
+        }
+    }
+}
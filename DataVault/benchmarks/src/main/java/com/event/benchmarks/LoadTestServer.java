@@ -0,0 +1,74 @@
+package com.event.benchmarks;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.ApplicationParameter;
+import org.apache.tomcat.util.scan.StandardJarScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+
+/**
+ * Embedded Tomcat running the packaged EventTech webapp (the exploded war or the .war file)
+ * The webapp loads its own classes and libraries from WEB-INF, as it does when deployed
+ */
+final class LoadTestServer {
+
+    private final Tomcat tomcat = new Tomcat();
+    private final Connector connector;
+
+    /**
+     * Configure the server
+     * @param webapp Exploded webapp directory or war file, e.g. target/EventTech
+     * @param maxThreads Request threads of the HTTP connector
+     * @param contextParameters Values that replace web.xml context-params, e.g. async.jdbcThreads
+     * @throws IOException if the working directory cannot be created
+     */
+    LoadTestServer(File webapp, int maxThreads, Map<String, String> contextParameters) throws IOException {
+        if (!webapp.exists()) {
+            throw new IllegalArgumentException("Webapp not found: " + webapp.getAbsolutePath()
+                + " (run mvn package in DataVault first)");
+        }
+
+        tomcat.setBaseDir(Files.createTempDirectory("eventtech-loadtest").toString());
+        tomcat.setPort(0);
+        connector = tomcat.getConnector();
+        connector.setProperty("maxThreads", String.valueOf(maxThreads));
+
+        Context context = tomcat.addWebapp("", webapp.getAbsolutePath());
+        // Only WEB-INF/lib is scanned; the load generator's own classpath is not part of the webapp
+        ((StandardJarScanner) context.getJarScanner()).setScanClassPath(false);
+
+        for (Map.Entry<String, String> parameter : contextParameters.entrySet()) {
+            ApplicationParameter applicationParameter = new ApplicationParameter();
+            applicationParameter.setName(parameter.getKey());
+            applicationParameter.setValue(parameter.getValue());
+            // Not overridable, so this value wins over the web.xml context-param
+            applicationParameter.setOverride(false);
+            context.addApplicationParameter(applicationParameter);
+        }
+    }
+
+    /**
+     * Start the server
+     * @return Base URL, e.g. http://localhost:41234
+     * @throws LifecycleException if Tomcat or the webapp fails to start
+     */
+    String start() throws LifecycleException {
+        tomcat.start();
+        return "http://localhost:" + connector.getLocalPort();
+    }
+
+    void stop() {
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } catch (LifecycleException e) {
+            System.err.println("Error stopping load test server: " + e.getMessage());
+        }
+    }
+}
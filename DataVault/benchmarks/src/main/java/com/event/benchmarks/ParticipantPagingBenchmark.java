@@ -0,0 +1,65 @@
+package com.event.benchmarks;
+
+import com.event.dao.RegistrationDAO;
+import com.event.model.Registration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard participant paging over 100k registrations: OFFSET pages against keyset pages at the same depth
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParticipantPagingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"0", "5000", "90000"})
+    private int depth;
+
+    private RegistrationDAO registrationDAO;
+    private Timestamp cursorDate;
+    private int cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.seedRegistrations(100000);
+        registrationDAO = new RegistrationDAO();
+
+        // The keyset cursor is the last row of the page before this depth
+        if (depth > 0) {
+            List<Registration> previous = registrationDAO.getAllRegistrations(depth - 1, 1);
+            cursorDate = previous.get(0).getRegistrationDate();
+            cursorId = previous.get(0).getId();
+        }
+    }
+
+    @Benchmark
+    public List<Registration> offsetPage() {
+        return registrationDAO.getAllRegistrations(depth, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Registration> keysetPage() {
+        return registrationDAO.getRegistrationsAfter(cursorDate, cursorId, PAGE_SIZE);
+    }
+}
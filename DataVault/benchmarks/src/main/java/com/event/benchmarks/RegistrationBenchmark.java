@@ -0,0 +1,79 @@
+package com.event.benchmarks;
+
+import com.event.dao.RegistrationDAO;
+import com.event.dao.RegistrationRequest;
+import com.event.dao.RegistrationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registration throughput: single registrations with their certificate, alone and under concurrency,
+ * and the multi-row insert the registration batcher uses
+ * Every call registers new email addresses, so the table grows through the run from a 10k-row start
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    private static final String[] EVENTS = {
+        "Code Rush", "Tech Quiz", "Hackathon", "Web Master", "Debug Dash", "AI Challenge"
+    };
+
+    private static final int BATCH_SIZE = 50;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private RegistrationDAO registrationDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.seedRegistrations(10000);
+        registrationDAO = new RegistrationDAO();
+    }
+
+    @Benchmark
+    public RegistrationResult registerWithCertificate() {
+        long n = sequence.incrementAndGet();
+        return registrationDAO.registerWithCertificate("Benchmark " + n, "bench" + n + "@example.edu",
+            "Benchmark College", EVENTS[(int) (n % EVENTS.length)]);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public RegistrationResult registerWithCertificateConcurrent() {
+        return registerWithCertificate();
+    }
+
+    /**
+     * One batcher flush; throughput is in batches, so multiply by the batch size for registrations
+     */
+    @Benchmark
+    public List<RegistrationResult> registerBatch() throws Exception {
+        List<RegistrationRequest> requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            long n = sequence.incrementAndGet();
+            requests.add(new RegistrationRequest("Benchmark " + n, "bench" + n + "@example.edu",
+                "Benchmark College", EVENTS[(int) (n % EVENTS.length)]));
+        }
+        return registrationDAO.registerBatchWithCertificates(requests);
+    }
+}
@@ -0,0 +1,179 @@
+package com.event.benchmarks;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minimal servlet request and response stand-ins for calling servlets outside a container
+ * Requests carry an admin session; responses discard the body but count its characters or bytes
+ */
+final class ServletStubs {
+
+    private ServletStubs() {
+    }
+
+    /**
+     * Create a GET request from the logged-in admin
+     * @param parameters Query parameters
+     * @return Request proxy
+     */
+    static HttpServletRequest adminGet(Map<String, String> parameters) {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("admin_id", 1);
+        sessionAttributes.put("admin_role", "admin");
+
+        HttpSession session = (HttpSession) Proxy.newProxyInstance(ServletStubs.class.getClassLoader(),
+            new Class<?>[] {HttpSession.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getAttribute":
+                        return sessionAttributes.get((String) args[0]);
+                    case "setAttribute":
+                        sessionAttributes.put((String) args[0], args[1]);
+                        return null;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+
+        return (HttpServletRequest) Proxy.newProxyInstance(ServletStubs.class.getClassLoader(),
+            new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getMethod":
+                        return "GET";
+                    case "getProtocol":
+                        return "HTTP/1.1";
+                    case "getRequestURI":
+                        return "/benchmark";
+                    case "getParameter":
+                        return parameters.get((String) args[0]);
+                    case "getParameterMap":
+                        return Collections.unmodifiableMap(parameters);
+                    case "getSession":
+                        return session;
+                    case "getHeader":
+                        return null;
+                    case "getRemoteAddr":
+                        return "127.0.0.1";
+                    case "toString":
+                        return "Benchmark request " + parameters;
+                    default:
+                        return defaultValue(method.getReturnType());
+                }
+            });
+    }
+
+    /**
+     * Response whose body goes nowhere
+     */
+    static final class DiscardingResponse {
+
+        private final HttpServletResponse response;
+        private long written;
+        private PrintWriter writer;
+        private ServletOutputStream outputStream;
+
+        DiscardingResponse() {
+            response = (HttpServletResponse) Proxy.newProxyInstance(ServletStubs.class.getClassLoader(),
+                new Class<?>[] {HttpServletResponse.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getWriter":
+                            return getWriter();
+                        case "getOutputStream":
+                            return getOutputStream();
+                        case "getCharacterEncoding":
+                            return "UTF-8";
+                        case "toString":
+                            return "Benchmark response";
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+        }
+
+        HttpServletResponse getResponse() {
+            return response;
+        }
+
+        /**
+         * @return Characters or bytes written to the body
+         */
+        long getWritten() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return written;
+        }
+
+        private PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(char[] cbuf, int off, int len) {
+                        written += len;
+                    }
+
+                    @Override
+                    public void write(String str, int off, int len) {
+                        written += len;
+                    }
+
+                    @Override
+                    public void flush() {
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                });
+            }
+            return writer;
+        }
+
+        private ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) {
+                        written++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) {
+                        written += len;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        throw new UnsupportedOperationException("Blocking output only");
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
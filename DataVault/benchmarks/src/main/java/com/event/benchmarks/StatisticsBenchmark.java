@@ -0,0 +1,65 @@
+package com.event.benchmarks;
+
+import com.event.dao.RegistrationDAO;
+import com.event.dao.RegistrationStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard statistics over 100k registrations: the in-memory snapshot against the aggregates behind it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    private RegistrationDAO registrationDAO;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        BenchmarkDatabase.seedRegistrations(100000);
+        registrationDAO = new RegistrationDAO();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RegistrationStatistics.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, Object> snapshot() {
+        return RegistrationStatistics.getSnapshot();
+    }
+
+    @Benchmark
+    public boolean reconcile() {
+        return RegistrationStatistics.reconcile();
+    }
+
+    @Benchmark
+    public int exactCount() {
+        return registrationDAO.getTotalRegistrationCount();
+    }
+
+    @Benchmark
+    public int estimatedCount() {
+        return registrationDAO.getEstimatedRegistrationCount();
+    }
+}
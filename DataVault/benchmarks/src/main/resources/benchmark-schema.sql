@@ -0,0 +1,82 @@
+-- =====================================================
+-- EventTech benchmark schema (PostgreSQL)
+-- The tables and constraints the DAOs rely on; statements are separated by semicolons at line ends
+-- =====================================================
+
+CREATE TABLE users (
+    id SERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(20) NOT NULL DEFAULT 'user',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE events (
+    id SERIAL PRIMARY KEY,
+    event_name VARCHAR(100) NOT NULL UNIQUE,
+    description TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE registrations (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(150) NOT NULL,
+    college VARCHAR(200) NOT NULL,
+    event VARCHAR(100) NOT NULL REFERENCES events(event_name) ON UPDATE CASCADE,
+    winner_status INTEGER DEFAULT 0,
+    registration_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_email_event UNIQUE (email, event)
+);
+
+CREATE INDEX idx_event ON registrations (event);
+CREATE INDEX idx_winner_status ON registrations (winner_status);
+CREATE INDEX idx_registration_date ON registrations (registration_date, id);
+
+CREATE TABLE certificate_log (
+    id SERIAL PRIMARY KEY,
+    registration_id INT NOT NULL REFERENCES registrations(id) ON DELETE CASCADE,
+    certificate_type VARCHAR(20) NOT NULL,
+    certificate_id VARCHAR(100) NOT NULL UNIQUE,
+    generated_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT unique_reg_type UNIQUE (registration_id, certificate_type)
+);
+
+CREATE TABLE audit_log (
+    id SERIAL PRIMARY KEY,
+    admin_id INT REFERENCES users(id) ON DELETE SET NULL,
+    action TEXT NOT NULL,
+    timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    ip_address VARCHAR(45),
+    user_agent TEXT
+);
+
+CREATE TABLE jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'queued',
+    admin_id INT REFERENCES users(id) ON DELETE SET NULL,
+    description VARCHAR(500),
+    progress_done BIGINT NOT NULL DEFAULT 0,
+    progress_total BIGINT NOT NULL DEFAULT -1,
+    message VARCHAR(500),
+    artifact_name VARCHAR(255),
+    artifact_content_type VARCHAR(100),
+    artifact_size BIGINT,
+    node_id VARCHAR(64),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL
+);
+
+INSERT INTO users (username, password, role) VALUES ('admin', 'admin123', 'admin');
+
+INSERT INTO events (event_name, description) VALUES
+('Code Rush', 'Speed coding competition'),
+('Tech Quiz', 'Technology quiz'),
+('Hackathon', '24-hour coding marathon'),
+('Web Master', 'Web development and design'),
+('Debug Dash', 'Find and fix bugs'),
+('AI Challenge', 'Machine learning competition');
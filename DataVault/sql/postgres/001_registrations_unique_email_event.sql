@@ -0,0 +1,32 @@
+-- =====================================================
+-- Migration 001: one registration per email per event
+-- PostgreSQL; required by the ON CONFLICT (email, event) inserts in RegistrationDAO
+-- Safe to run more than once
+-- =====================================================
+
+BEGIN;
+
+-- Keep registrations from arriving while duplicates are removed
+LOCK TABLE registrations IN SHARE ROW EXCLUSIVE MODE;
+
+-- Keep one row per (email, event): the winner if there is one, otherwise the earliest registration
+-- Certificates of the removed rows go with them (certificate_log cascades on delete)
+DELETE FROM registrations r
+USING (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY email, event ORDER BY winner_status DESC, id) AS position
+    FROM registrations
+) ranked
+WHERE r.id = ranked.id
+  AND ranked.position > 1;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'unique_email_event') THEN
+        ALTER TABLE registrations ADD CONSTRAINT unique_email_event UNIQUE (email, event);
+    END IF;
+END $$;
+
+-- The constraint's index replaces the old composite lookup index
+DROP INDEX IF EXISTS idx_email_event;
+
+COMMIT;
@@ -0,0 +1,31 @@
+-- =====================================================
+-- Migration 002: background jobs record the instance that runs them
+-- PostgreSQL; lets a restarting instance fail only its own interrupted jobs
+-- Safe to run more than once
+-- =====================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'queued', -- queued, running, completed, failed, cancelled
+    admin_id INT REFERENCES users(id) ON DELETE SET NULL,
+    description VARCHAR(500),
+    progress_done BIGINT NOT NULL DEFAULT 0,
+    progress_total BIGINT NOT NULL DEFAULT -1, -- -1 while the total is unknown
+    message VARCHAR(500),
+    artifact_name VARCHAR(255),
+    artifact_content_type VARCHAR(100),
+    artifact_size BIGINT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL
+);
+
+-- NULL for jobs created before this migration; any instance may fail those on restart
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS node_id VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_status ON jobs (status);
+
+COMMIT;
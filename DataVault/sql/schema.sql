@@ -55,7 +55,7 @@ CREATE TABLE registrations (
     INDEX idx_event (event),
     INDEX idx_winner_status (winner_status),
     INDEX idx_registration_date (registration_date),
-    INDEX idx_email_event (email, event), -- Composite index for duplicate check
+    UNIQUE KEY unique_email_event (email, event), -- One registration per email per event (ON CONFLICT target)
     
     FOREIGN KEY (event) REFERENCES events(event_name) ON UPDATE CASCADE
 );
@@ -97,6 +97,32 @@ CREATE TABLE audit_log (
     FOREIGN KEY (admin_id) REFERENCES users(id) ON DELETE SET NULL
 );
 
+-- =====================================================
+-- Jobs Table (Background Admin Operations)
+-- =====================================================
+CREATE TABLE jobs (
+    id VARCHAR(36) PRIMARY KEY,
+    job_type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'queued', -- queued, running, completed, failed, cancelled
+    admin_id INT,
+    description VARCHAR(500),
+    progress_done BIGINT NOT NULL DEFAULT 0,
+    progress_total BIGINT NOT NULL DEFAULT -1, -- -1 while the total is unknown
+    message VARCHAR(500),
+    artifact_name VARCHAR(255),
+    artifact_content_type VARCHAR(100),
+    artifact_size BIGINT,
+    node_id VARCHAR(64), -- instance running the job (JOB_NODE_ID, or the host name)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP NULL,
+    finished_at TIMESTAMP NULL,
+    
+    INDEX idx_jobs_status (status),
+    INDEX idx_jobs_created_at (created_at),
+    
+    FOREIGN KEY (admin_id) REFERENCES users(id) ON DELETE SET NULL
+);
+
 -- =====================================================
 -- Insert Default Admin User
 -- =====================================================
@@ -261,6 +287,7 @@ DELIMITER ;
 -- Additional composite indexes for complex queries
 CREATE INDEX idx_reg_event_winner ON registrations(event, winner_status);
 CREATE INDEX idx_reg_date_event ON registrations(registration_date, event);
+CREATE INDEX idx_reg_date_id ON registrations(registration_date, id); -- Keyset pagination of the participant list
 CREATE INDEX idx_cert_reg_type ON certificate_log(registration_id, certificate_type);
 
 -- Full-text search index for participant names and colleges
@@ -0,0 +1,399 @@
+package com.event.certificate;
+
+import com.event.dao.CertificateDAO;
+import com.event.dao.DBConnection;
+import com.event.model.IssuedCertificate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Bulk certificate job: renders every certificate of an event and streams them as a ZIP archive
+ * Certificates are read a page at a time and rendered on a shared bounded worker pool; entries are
+ * written in order as they complete, with at most a small window of rendered files held in memory
+ */
+public final class BulkCertificateJob {
+
+    /**
+     * Job lifecycle
+     */
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        CANCELLED,
+        FAILED
+    }
+
+    /**
+     * Callback for background runs that mirror progress elsewhere
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called after each certificate is added to the archive
+         * @param written Certificates written so far
+         * @param total Certificates expected
+         */
+        void onProgress(int written, int total);
+    }
+
+    private static final int PAGE_SIZE = 200;
+
+    // Jobs nobody started downloading, and finished jobs, are forgotten after this long
+    private static final long RETENTION_MILLIS = 30 * 60 * 1000L;
+
+    private static final int RENDER_THREADS = Math.max(1, DBConnection.getIntSetting("CERTIFICATE_RENDER_THREADS",
+        Runtime.getRuntime().availableProcessors()));
+
+    // Rendering is CPU bound, so only a couple of archives are built at once
+    private static final int MAX_RUNNING = Math.max(1, DBConnection.getIntSetting("CERTIFICATE_BULK_MAX_RUNNING", 2));
+    private static final Semaphore RUNNING_SLOTS = new Semaphore(MAX_RUNNING);
+
+    private static final ExecutorService RENDER_POOL = Executors.newFixedThreadPool(RENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "eventtech-certificate-render");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final CertificateRenderer RENDERER = new CertificateRenderer();
+    private static final ConcurrentHashMap<String, BulkCertificateJob> JOBS = new ConcurrentHashMap<>();
+
+    private final String id;
+    private final String event;
+    private final CertificateFormat format;
+    private final int adminId;
+    private final long createdAt = System.currentTimeMillis();
+
+    private final AtomicInteger rendered = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private volatile State state = State.PENDING;
+    private volatile int total = -1;
+    private volatile int issued;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private volatile boolean cancelRequested;
+    private volatile String error;
+
+    private BulkCertificateJob(String event, CertificateFormat format, int adminId) {
+        this.id = UUID.randomUUID().toString();
+        this.event = event;
+        this.format = format;
+        this.adminId = adminId;
+    }
+
+    /**
+     * Create a job; it runs once its archive is requested with {@link #writeZip}
+     * @param event Event name
+     * @param format Certificate file format
+     * @param adminId Admin who requested the job
+     * @return New pending job
+     */
+    public static BulkCertificateJob create(String event, CertificateFormat format, int adminId) {
+        purgeExpired();
+
+        BulkCertificateJob job = new BulkCertificateJob(event, format, adminId);
+        JOBS.put(job.id, job);
+        return job;
+    }
+
+    /**
+     * Look up a job
+     * @param id Job ID
+     * @return Job, or null if unknown or expired
+     */
+    public static BulkCertificateJob get(String id) {
+        return id != null ? JOBS.get(id) : null;
+    }
+
+    /**
+     * List known jobs, oldest first
+     * @return Jobs still within their retention period
+     */
+    public static List<BulkCertificateJob> list() {
+        purgeExpired();
+
+        List<BulkCertificateJob> jobs = new ArrayList<>(JOBS.values());
+        jobs.sort((a, b) -> Long.compare(a.createdAt, b.createdAt));
+        return jobs;
+    }
+
+    /**
+     * Stop the render pool; called when the application shuts down
+     */
+    public static void shutdown() {
+        for (BulkCertificateJob job : JOBS.values()) {
+            job.cancel();
+        }
+        RENDER_POOL.shutdownNow();
+    }
+
+    /**
+     * Request cancellation; a running job stops after the entry it is writing
+     */
+    public void cancel() {
+        cancelRequested = true;
+        if (state == State.PENDING) {
+            state = State.CANCELLED;
+            finishedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Get the number of archives built at once, each reading from its own database connection
+     * @return Maximum running archives (CERTIFICATE_BULK_MAX_RUNNING)
+     */
+    public static int getMaxRunning() {
+        return MAX_RUNNING;
+    }
+
+    /**
+     * Run the job, writing the archive to the given stream
+     * A cancelled job ends its archive with an INCOMPLETE.txt entry so the partial download is recognizable
+     * @param out Destination stream, typically the servlet response
+     * @param certificateDAO DAO used to read the event's certificates
+     * @return false if the job had already run or too many jobs are running; nothing is written in that case
+     * @throws IOException if the stream fails (for example the client disconnected) or the database cannot be read
+     */
+    public boolean writeZip(OutputStream out, CertificateDAO certificateDAO) throws IOException {
+        if (!RUNNING_SLOTS.tryAcquire()) {
+            return false;
+        }
+        return run(out, certificateDAO, null);
+    }
+
+    /**
+     * Run the job from a background worker, waiting for a free archive slot instead of giving up
+     * @param out Destination stream, typically a job artifact file
+     * @param certificateDAO DAO used to read the event's certificates
+     * @param listener Notified after each certificate is written, or null
+     * @return false if the job had already run; nothing is written in that case
+     * @throws IOException if the stream fails or the database cannot be read
+     */
+    public boolean writeZipWhenReady(OutputStream out, CertificateDAO certificateDAO,
+                                     ProgressListener listener) throws IOException {
+        try {
+            RUNNING_SLOTS.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to build certificate archive", e);
+        }
+        return run(out, certificateDAO, listener);
+    }
+
+    /**
+     * Build the archive; the caller has acquired a running slot, which is released here
+     */
+    private boolean run(OutputStream out, CertificateDAO certificateDAO, ProgressListener listener) throws IOException {
+        synchronized (this) {
+            if (state != State.PENDING) {
+                RUNNING_SLOTS.release();
+                return false;
+            }
+            state = State.RUNNING;
+            startedAt = System.currentTimeMillis();
+        }
+
+        Deque<Future<byte[]>> renders = new ArrayDeque<>();
+        Deque<IssuedCertificate> pending = new ArrayDeque<>();
+        int window = RENDER_THREADS * 2;
+
+        try {
+            ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, 64 * 1024));
+
+            issued = Math.max(0, certificateDAO.issueMissingParticipationCertificates(event));
+            total = certificateDAO.countEventCertificates(event);
+
+            int afterId = 0;
+            while (!cancelRequested) {
+                List<IssuedCertificate> page = certificateDAO.getEventCertificatesAfter(event, afterId, PAGE_SIZE);
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+
+                for (IssuedCertificate certificate : page) {
+                    if (cancelRequested) {
+                        break;
+                    }
+
+                    pending.add(certificate);
+                    renders.add(RENDER_POOL.submit(() -> render(certificate)));
+                    if (renders.size() >= window) {
+                        writeNext(zip, pending.poll(), renders.poll(), listener);
+                    }
+                }
+            }
+
+            while (!renders.isEmpty() && !cancelRequested) {
+                writeNext(zip, pending.poll(), renders.poll(), listener);
+            }
+
+            if (cancelRequested) {
+                writeText(zip, "INCOMPLETE.txt", "This archive was cancelled after " + written.get()
+                    + " of " + total + " certificates.\n");
+            }
+            zip.finish();
+            zip.flush();
+
+            state = cancelRequested ? State.CANCELLED : State.COMPLETED;
+            return true;
+
+        } catch (SQLException e) {
+            error = "Failed to read certificates";
+            state = State.FAILED;
+            throw new IOException("Error reading certificates for " + event, e);
+        } catch (IOException | RuntimeException e) {
+            error = "Archive stream failed";
+            state = cancelRequested ? State.CANCELLED : State.FAILED;
+            throw e;
+        } finally {
+            for (Future<byte[]> render : renders) {
+                render.cancel(true);
+            }
+            finishedAt = System.currentTimeMillis();
+            RUNNING_SLOTS.release();
+        }
+    }
+
+    /**
+     * Get job progress for status polling
+     * @return Map of state, counters and timings
+     */
+    public Map<String, Object> getProgress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("job_id", id);
+        progress.put("event", event);
+        progress.put("format", format.getExtension());
+        progress.put("admin_id", adminId);
+        progress.put("state", state.name().toLowerCase(Locale.ROOT));
+        progress.put("total", total);
+        progress.put("rendered", rendered.get());
+        progress.put("written", written.get());
+        progress.put("failed", failed.get());
+        progress.put("newly_issued", issued);
+        progress.put("created_at", createdAt);
+        if (startedAt > 0) {
+            long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+            progress.put("elapsed_millis", end - startedAt);
+        }
+        if (error != null) {
+            progress.put("error", error);
+        }
+        return progress;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public CertificateFormat getFormat() {
+        return format;
+    }
+
+    public int getAdminId() {
+        return adminId;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private byte[] render(IssuedCertificate certificate) throws IOException {
+        byte[] content = RENDERER.render(certificate.toCertificateData(), format);
+        rendered.incrementAndGet();
+        return content;
+    }
+
+    /**
+     * Wait for the oldest render and add it to the archive; a failed render is counted and skipped
+     */
+    private void writeNext(ZipOutputStream zip, IssuedCertificate certificate, Future<byte[]> render,
+                           ProgressListener listener) throws IOException {
+        byte[] content;
+        try {
+            content = render.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering certificates", e);
+        } catch (ExecutionException e) {
+            failed.incrementAndGet();
+            System.err.println("Error rendering certificate " + certificate.getCertificateId() + ": "
+                + e.getCause().getMessage());
+            return;
+        }
+
+        writeStored(zip, entryName(certificate), content);
+        int count = written.incrementAndGet();
+        if (listener != null) {
+            listener.onProgress(count, total);
+        }
+    }
+
+    private void writeText(ZipOutputStream zip, String name, String text) throws IOException {
+        writeStored(zip, name, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * PDF and PNG files are already compressed, so entries are stored rather than deflated again
+     */
+    private static void writeStored(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+
+        zip.putNextEntry(entry);
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    /**
+     * Archive path such as "winner/ada-lovelace-WIN-06JKG42F80W00.pdf"
+     */
+    private String entryName(IssuedCertificate certificate) {
+        String name = certificate.getName() != null ? certificate.getName() : "";
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        String certificateId = certificate.getCertificateId().replaceAll("[^A-Za-z0-9-]", "");
+        return certificate.getCertificateType() + "/" + (slug.isEmpty() ? "" : slug + "-")
+            + certificateId + "." + format.getExtension();
+    }
+
+    private static void purgeExpired() {
+        long cutoff = System.currentTimeMillis() - RETENTION_MILLIS;
+        JOBS.values().removeIf(job -> job.state != State.RUNNING
+            && (job.finishedAt > 0 ? job.finishedAt : job.createdAt) < cutoff);
+    }
+}
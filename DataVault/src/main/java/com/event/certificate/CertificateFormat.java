@@ -0,0 +1,43 @@
+package com.event.certificate;
+
+/**
+ * Output formats supported by the server-side certificate renderer
+ */
+public enum CertificateFormat {
+    PDF("application/pdf", "pdf"),
+    PNG("image/png", "png");
+
+    private final String contentType;
+    private final String extension;
+
+    CertificateFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse a format request parameter
+     * @param value Parameter value such as "pdf" or "png", null for the default
+     * @return Matching format, PDF when no value is given, or null if the value is not supported
+     */
+    public static CertificateFormat parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return PDF;
+        }
+
+        for (CertificateFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,151 @@
+package com.event.certificate;
+
+import com.event.dao.DBConnection;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Byte-bounded LRU cache of rendered certificates, keyed by certificate ID and format
+ * Concurrent requests for the same uncached certificate share a single render
+ */
+public final class CertificateRenderCache {
+
+    private static final CertificateRenderCache INSTANCE = new CertificateRenderCache(
+        DBConnection.getLongSetting("CERTIFICATE_RENDER_CACHE_MB", 64) * 1024 * 1024);
+
+    private final long maxBytes;
+    private final CertificateRenderer renderer = new CertificateRenderer();
+
+    // Access-ordered, so the eldest entry is the least recently downloaded file
+    private final LinkedHashMap<String, RenderedCertificate> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<RenderedCertificate>> inFlight = new ConcurrentHashMap<>();
+    private long cachedBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong renderNanos = new AtomicLong();
+
+    /**
+     * Create a cache
+     * @param maxBytes Total size of rendered files kept in memory
+     */
+    public CertificateRenderCache(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+    }
+
+    /**
+     * Get the shared cache, sized from CERTIFICATE_RENDER_CACHE_MB
+     * @return Shared cache
+     */
+    public static CertificateRenderCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Return the cached file for a certificate, rendering it on a miss
+     * Callers must have verified the certificate first; the cache does not track revocation
+     * @param certificate Certificate fields as returned by CertificateDAO.verifyCertificate
+     * @param format Output format
+     * @return Rendered file
+     * @throws IOException if rendering fails
+     */
+    public RenderedCertificate get(Map<String, Object> certificate, CertificateFormat format) throws IOException {
+        String certificateId = String.valueOf(certificate.get("certificate_id"));
+        String key = certificateId + '/' + format.getExtension();
+
+        RenderedCertificate cached = lookup(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<RenderedCertificate> future = new CompletableFuture<>();
+        CompletableFuture<RenderedCertificate> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            long start = System.nanoTime();
+            RenderedCertificate rendered = new RenderedCertificate(certificateId, format,
+                renderer.render(certificate, format));
+            renderNanos.addAndGet(System.nanoTime() - start);
+
+            store(key, rendered);
+            future.complete(rendered);
+            return rendered;
+        } catch (IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Get cache statistics for the admin dashboard
+     * @return Map of size and hit counters
+     */
+    public synchronized Map<String, Object> getStatistics() {
+        long renders = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("cached_bytes", cachedBytes);
+        stats.put("max_bytes", maxBytes);
+        stats.put("hits", hits.get());
+        stats.put("misses", renders);
+        stats.put("evictions", evictions.get());
+        stats.put("average_render_millis", renders == 0 ? 0.0 : renderNanos.get() / 1_000_000.0 / renders);
+        return stats;
+    }
+
+    private synchronized RenderedCertificate lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(String key, RenderedCertificate rendered) {
+        if (rendered.getContentLength() > maxBytes) {
+            return;
+        }
+
+        RenderedCertificate previous = entries.put(key, rendered);
+        if (previous != null) {
+            cachedBytes -= previous.getContentLength();
+        }
+        cachedBytes += rendered.getContentLength();
+
+        Iterator<RenderedCertificate> iterator = entries.values().iterator();
+        while (cachedBytes > maxBytes && iterator.hasNext()) {
+            cachedBytes -= iterator.next().getContentLength();
+            iterator.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static RenderedCertificate await(CompletableFuture<RenderedCertificate> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for certificate render", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Certificate render failed", cause);
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.event.certificate;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Server-side certificate renderer for EventTech Application
+ * Draws the participation and winner certificate templates with Java2D and encodes them as PNG,
+ * or as a single-page A4 landscape PDF embedding the same image, without external libraries
+ */
+public final class CertificateRenderer {
+
+    // A4 landscape at 150 DPI; the PDF page is the same sheet in points
+    private static final int WIDTH = 1754;
+    private static final int HEIGHT = 1240;
+    private static final int PDF_PAGE_WIDTH = 842;
+    private static final int PDF_PAGE_HEIGHT = 595;
+
+    private static final String EVENT_TITLE = "TARUNYAM - Tech Event 2025";
+
+    private static final Color PRIMARY = new Color(0x1e3a8a);
+    private static final Color WINNER_ACCENT = new Color(0xb45309);
+    private static final Color TEXT = new Color(0x333333);
+    private static final Color MUTED = new Color(0x666666);
+
+    static {
+        // Rendering runs inside the servlet container, which has no display
+        if (System.getProperty("java.awt.headless") == null) {
+            System.setProperty("java.awt.headless", "true");
+        }
+    }
+
+    /**
+     * Render a certificate
+     * @param certificate Certificate fields: certificate_id, certificate_type, name, college, event, generated_date
+     * @param format Output format
+     * @return Encoded file
+     * @throws IOException if the image cannot be encoded
+     */
+    public byte[] render(Map<String, Object> certificate, CertificateFormat format) throws IOException {
+        BufferedImage image = draw(certificate);
+        return format == CertificateFormat.PNG ? encodePng(image) : encodePdf(image, certificate);
+    }
+
+    /**
+     * Draw the certificate template onto a white sheet
+     */
+    private BufferedImage draw(Map<String, Object> certificate) {
+        boolean winner = "winner".equals(certificate.get("certificate_type"));
+        Color accent = winner ? WINNER_ACCENT : PRIMARY;
+
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+
+            // Double border, gold for winners
+            g.setColor(accent);
+            g.setStroke(new BasicStroke(12f));
+            g.drawRect(40, 40, WIDTH - 80, HEIGHT - 80);
+            g.setStroke(new BasicStroke(3f));
+            g.drawRect(70, 70, WIDTH - 140, HEIGHT - 140);
+
+            int maxTextWidth = WIDTH - 300;
+            int center = WIDTH / 2;
+
+            g.setColor(accent);
+            drawCentered(g, winner ? "WINNER CERTIFICATE" : "CERTIFICATE OF PARTICIPATION",
+                new Font(Font.SERIF, Font.BOLD, 80), center, 230, maxTextWidth);
+
+            g.setColor(PRIMARY);
+            drawCentered(g, EVENT_TITLE, new Font(Font.SANS_SERIF, Font.BOLD, 44), center, 315, maxTextWidth);
+
+            g.setColor(TEXT);
+            drawCentered(g, "This is to certify that", new Font(Font.SANS_SERIF, Font.PLAIN, 38), center, 420, maxTextWidth);
+
+            g.setColor(PRIMARY);
+            int nameWidth = drawCentered(g, text(certificate.get("name"), "Participant"),
+                new Font(Font.SERIF, Font.BOLD, 72), center, 530, maxTextWidth);
+            g.setStroke(new BasicStroke(3f));
+            int underline = Math.max(nameWidth + 80, 600);
+            g.drawLine(center - underline / 2, 560, center + underline / 2, 560);
+
+            g.setColor(TEXT);
+            drawCentered(g, "from " + text(certificate.get("college"), "Institution"),
+                new Font(Font.SANS_SERIF, Font.PLAIN, 36), center, 640, maxTextWidth);
+            drawCentered(g, winner ? "has WON" : "has successfully participated in",
+                new Font(Font.SANS_SERIF, winner ? Font.BOLD : Font.PLAIN, 36), center, 720, maxTextWidth);
+
+            g.setColor(accent);
+            drawCentered(g, text(certificate.get("event"), "Tech Event"),
+                new Font(Font.SERIF, Font.BOLD, 64), center, 820, maxTextWidth);
+
+            g.setColor(TEXT);
+            drawCentered(g, winner ? "in recognition of outstanding performance and achievement"
+                    : "demonstrating technical skills and innovation",
+                new Font(Font.SANS_SERIF, Font.ITALIC, 32), center, 905, maxTextWidth);
+
+            drawFooter(g, certificate);
+        } finally {
+            g.dispose();
+        }
+
+        return image;
+    }
+
+    /**
+     * Certificate ID on the left, organizer signature in the middle, issue date on the right
+     */
+    private void drawFooter(Graphics2D g, Map<String, Object> certificate) {
+        Font label = new Font(Font.SANS_SERIF, Font.PLAIN, 24);
+        int left = 160;
+        int right = WIDTH - 160;
+        int center = WIDTH / 2;
+
+        g.setColor(MUTED);
+        g.setFont(label);
+        g.drawString("Certificate ID", left, 1060);
+        g.setColor(TEXT);
+        g.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 26));
+        g.drawString(text(certificate.get("certificate_id"), ""), left, 1100);
+
+        g.setStroke(new BasicStroke(3f));
+        g.drawLine(center - 170, 1040, center + 170, 1040);
+        drawCentered(g, "Event Organizer", new Font(Font.SANS_SERIF, Font.BOLD, 28), center, 1080, 400);
+        g.setColor(MUTED);
+        drawCentered(g, "TARUNYAM Team", label, center, 1115, 400);
+
+        g.setFont(label);
+        FontMetrics metrics = g.getFontMetrics();
+        g.drawString("Date of Issue", right - metrics.stringWidth("Date of Issue"), 1060);
+
+        String issueDate = formatDate(certificate.get("generated_date"));
+        g.setColor(TEXT);
+        g.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 28));
+        metrics = g.getFontMetrics();
+        g.drawString(issueDate, right - metrics.stringWidth(issueDate), 1100);
+    }
+
+    /**
+     * Draw a line of text centered on x, shrinking the font until it fits
+     * @return Width of the drawn text
+     */
+    private int drawCentered(Graphics2D g, String text, Font font, int x, int baseline, int maxWidth) {
+        Font fitted = font;
+        FontMetrics metrics = g.getFontMetrics(fitted);
+        while (metrics.stringWidth(text) > maxWidth && fitted.getSize() > 16) {
+            fitted = fitted.deriveFont(fitted.getSize2D() - 2f);
+            metrics = g.getFontMetrics(fitted);
+        }
+
+        int width = metrics.stringWidth(text);
+        g.setFont(fitted);
+        g.drawString(text, x - width / 2, baseline);
+        return width;
+    }
+
+    private byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        if (!ImageIO.write(image, "png", out)) {
+            throw new IOException("No PNG encoder available");
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Write a one-page PDF whose page is covered by the certificate image
+     * The image is stored as Flate-compressed RGB, which PDF readers decode natively
+     */
+    private byte[] encodePdf(BufferedImage image, Map<String, Object> certificate) throws IOException {
+        byte[] pixels = compressRgb(image);
+        byte[] contents = ("q " + PDF_PAGE_WIDTH + " 0 0 " + PDF_PAGE_HEIGHT + " 0 0 cm /Im0 Do Q\n")
+            .getBytes(StandardCharsets.US_ASCII);
+        String title = "Certificate " + text(certificate.get("certificate_id"), "");
+
+        PdfWriter pdf = new PdfWriter();
+        pdf.object("<< /Type /Catalog /Pages 2 0 R >>");
+        pdf.object("<< /Type /Pages /Kids [3 0 R] /Count 1 >>");
+        pdf.object("<< /Type /Page /Parent 2 0 R /MediaBox [0 0 " + PDF_PAGE_WIDTH + " " + PDF_PAGE_HEIGHT + "]"
+            + " /Resources << /XObject << /Im0 4 0 R >> >> /Contents 5 0 R >>");
+        pdf.stream("<< /Type /XObject /Subtype /Image /Width " + image.getWidth() + " /Height " + image.getHeight()
+            + " /ColorSpace /DeviceRGB /BitsPerComponent 8 /Filter /FlateDecode /Length " + pixels.length + " >>",
+            pixels);
+        pdf.stream("<< /Length " + contents.length + " >>", contents);
+        pdf.object("<< /Title " + pdfString(title) + " /Producer (EventTech) >>");
+        return pdf.finish(1, 6);
+    }
+
+    private byte[] compressRgb(BufferedImage image) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] row = new int[width];
+        byte[] rgb = new byte[width * 3];
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(out)) {
+            for (int y = 0; y < height; y++) {
+                image.getRGB(0, y, width, 1, row, 0, width);
+                for (int x = 0, i = 0; x < width; x++) {
+                    int pixel = row[x];
+                    rgb[i++] = (byte) (pixel >> 16);
+                    rgb[i++] = (byte) (pixel >> 8);
+                    rgb[i++] = (byte) pixel;
+                }
+                deflater.write(rgb);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * PDF literal string; characters outside Latin-1 are dropped from metadata
+     */
+    private static String pdfString(String value) {
+        StringBuilder sb = new StringBuilder("(");
+        for (char c : value.toCharArray()) {
+            if (c == '(' || c == ')' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c >= 32 && c < 127) {
+                sb.append(c);
+            }
+        }
+        return sb.append(')').toString();
+    }
+
+    private static String text(Object value, String fallback) {
+        if (value == null || value.toString().trim().isEmpty()) {
+            return fallback;
+        }
+        return value.toString().trim();
+    }
+
+    private static String formatDate(Object value) {
+        Date date = value instanceof Date ? (Date) value : new Date();
+        return new SimpleDateFormat("MMMM d, yyyy", Locale.US).format(date);
+    }
+
+    /**
+     * Minimal PDF file writer: numbered objects followed by a cross-reference table
+     */
+    private static class PdfWriter {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+        private final List<Integer> offsets = new ArrayList<>();
+
+        PdfWriter() {
+            // Binary comment marks the file as binary for transfer tools
+            write("%PDF-1.4\n%\u00e2\u00e3\u00cf\u00d3\n");
+        }
+
+        void object(String body) {
+            begin();
+            write(body + "\nendobj\n");
+        }
+
+        void stream(String dictionary, byte[] data) {
+            begin();
+            write(dictionary + "\nstream\n");
+            out.write(data, 0, data.length);
+            write("\nendstream\nendobj\n");
+        }
+
+        byte[] finish(int rootObject, int infoObject) {
+            int xrefOffset = out.size();
+            write("xref\n0 " + (offsets.size() + 1) + "\n0000000000 65535 f \n");
+            for (int offset : offsets) {
+                write(String.format("%010d 00000 n \n", offset));
+            }
+            write("trailer\n<< /Size " + (offsets.size() + 1) + " /Root " + rootObject + " 0 R /Info "
+                + infoObject + " 0 R >>\nstartxref\n" + xrefOffset + "\n%%EOF\n");
+            return out.toByteArray();
+        }
+
+        private void begin() {
+            offsets.add(out.size());
+            write(offsets.size() + " 0 obj\n");
+        }
+
+        private void write(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.event.certificate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Rendered certificate file held by the render cache
+ * Immutable; the bytes are never handed out, only written to a response
+ */
+public final class RenderedCertificate {
+
+    private final String certificateId;
+    private final CertificateFormat format;
+    private final byte[] content;
+    private final String etag;
+
+    RenderedCertificate(String certificateId, CertificateFormat format, byte[] content) {
+        this.certificateId = certificateId;
+        this.format = format;
+        this.content = content;
+
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        this.etag = "\"" + certificateId + "-" + format.getExtension() + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    public String getCertificateId() {
+        return certificateId;
+    }
+
+    public CertificateFormat getFormat() {
+        return format;
+    }
+
+    public String getContentType() {
+        return format.getContentType();
+    }
+
+    public int getContentLength() {
+        return content.length;
+    }
+
+    /**
+     * Strong validator derived from the certificate ID, format and rendered bytes
+     * @return Quoted ETag value
+     */
+    public String getETag() {
+        return etag;
+    }
+
+    /**
+     * Write the rendered file
+     * @param out Destination stream
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(content);
+    }
+}
@@ -1,8 +1,9 @@
 package com.event.dao;
 
+import com.event.model.AdminUser;
+
 import java.sql.*;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 
 /**
  * Data Access Object for Admin operations
@@ -14,9 +15,9 @@ public class AdminDAO {
      * Authenticate admin login
      * @param username Admin username
      * @param password Admin password (plain text for now, should be hashed in production)
-     * @return Admin details map if successful, null if failed
+     * @return Admin user if successful, null if failed
      */
-    public Map<String, Object> authenticateAdmin(String username, String password) {
+    public AdminUser authenticateAdmin(String username, String password) {
         String sql = "SELECT id, username, role FROM users WHERE username = ? AND password = ? AND role = 'admin'";
         
         Connection connection = null;
@@ -33,12 +34,7 @@ public class AdminDAO {
             resultSet = statement.executeQuery();
             
             if (resultSet.next()) {
-                Map<String, Object> admin = new HashMap<>();
-                admin.put("id", resultSet.getInt("id"));
-                admin.put("username", resultSet.getString("username"));
-                admin.put("role", resultSet.getString("role"));
-                
-                return admin;
+                return new AdminUser(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3));
             }
             
             return null;
@@ -156,9 +152,9 @@ public class AdminDAO {
     /**
      * Get admin by ID
      * @param adminId Admin ID
-     * @return Admin details map or null if not found
+     * @return Admin user or null if not found
      */
-    public Map<String, Object> getAdminById(int adminId) {
+    public AdminUser getAdminById(int adminId) {
         String sql = "SELECT id, username, role FROM users WHERE id = ? AND role = 'admin'";
         
         Connection connection = null;
@@ -173,12 +169,7 @@ public class AdminDAO {
             resultSet = statement.executeQuery();
             
             if (resultSet.next()) {
-                Map<String, Object> admin = new HashMap<>();
-                admin.put("id", resultSet.getInt("id"));
-                admin.put("username", resultSet.getString("username"));
-                admin.put("role", resultSet.getString("role"));
-                
-                return admin;
+                return new AdminUser(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3));
             }
             
         } catch (SQLException e) {
@@ -192,11 +183,17 @@ public class AdminDAO {
     
     /**
      * Log admin action for audit trail
+     * Queued for the background audit writer when one is installed, written immediately otherwise
      * @param adminId Admin ID who performed the action
      * @param action Description of the action performed
-     * @return true if logged successfully, false otherwise
+     * @return true if logged (or queued) successfully, false otherwise
      */
     public boolean logAdminAction(int adminId, String action) {
+        AuditLogWriter writer = AuditLogWriter.getInstance();
+        if (writer != null) {
+            return writer.submit(adminId, action.trim());
+        }
+        
         String sql = "INSERT INTO audit_log (admin_id, action, timestamp) VALUES (?, ?, NOW())";
         
         Connection connection = null;
@@ -220,6 +217,46 @@ public class AdminDAO {
         }
     }
     
+    /**
+     * Write a batch of queued admin actions in one transaction
+     * @param entries Audit entries, each carrying the time its action happened
+     * @throws SQLException if the batch could not be written (nothing is stored)
+     */
+    void logAdminActions(List<AuditEntry> entries) throws SQLException {
+        String sql = "INSERT INTO audit_log (admin_id, action, timestamp) VALUES (?, ?, ?)";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sql);
+            
+            for (AuditEntry entry : entries) {
+                statement.setInt(1, entry.getAdminId());
+                statement.setString(2, entry.getAction());
+                statement.setTimestamp(3, entry.getTimestamp());
+                statement.addBatch();
+            }
+            
+            statement.executeBatch();
+            connection.commit();
+            
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.rollback();
+                } catch (SQLException rollbackError) {
+                    System.err.println("Error rolling back audit batch: " + rollbackError.getMessage());
+                }
+            }
+            throw e;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+    
     /**
      * Validate admin session (check if admin ID exists and is active)
      * @param adminId Admin ID to validate
@@ -0,0 +1,32 @@
+package com.event.dao;
+
+import java.sql.Timestamp;
+
+/**
+ * Admin action waiting to be written to audit_log
+ * The timestamp is taken when the action happens, not when the row is flushed
+ */
+class AuditEntry {
+
+    private final int adminId;
+    private final String action;
+    private final Timestamp timestamp;
+
+    AuditEntry(int adminId, String action, Timestamp timestamp) {
+        this.adminId = adminId;
+        this.action = action;
+        this.timestamp = timestamp;
+    }
+
+    int getAdminId() {
+        return adminId;
+    }
+
+    String getAction() {
+        return action;
+    }
+
+    Timestamp getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,281 @@
+package com.event.dao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous audit log writer
+ * Admin actions are queued in a bounded buffer and inserted in batches by a background thread,
+ * so admin requests do not wait for audit_log I/O
+ */
+public class AuditLogWriter {
+
+    /**
+     * What to do with an entry when the buffer is full
+     */
+    public enum OverflowPolicy {
+        /** Wait for space, up to the block timeout, then drop */
+        BLOCK,
+        /** Drop the entry and count it */
+        DROP,
+        /** Append the entry to the spill file */
+        SPILL;
+
+        /**
+         * Parse a policy name, case-insensitively
+         * @param value Policy name (block, drop or spill)
+         * @param defaultPolicy Policy used when the value is missing or unknown
+         * @return Overflow policy
+         */
+        public static OverflowPolicy parse(String value, OverflowPolicy defaultPolicy) {
+            if (value == null || value.trim().isEmpty()) {
+                return defaultPolicy;
+            }
+
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Unknown audit overflow policy: " + value + ", using " + defaultPolicy);
+                return defaultPolicy;
+            }
+        }
+    }
+
+    // Writer used by AdminDAO.logAdminAction; null means audit rows are written synchronously
+    private static volatile AuditLogWriter instance;
+
+    private final AdminDAO adminDAO;
+    private final BlockingQueue<AuditEntry> queue;
+    private final int maxBatchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final Path spillFile;
+    private final Thread writerThread;
+
+    private final AtomicLong entriesWritten = new AtomicLong();
+    private final AtomicLong batchesWritten = new AtomicLong();
+    private final AtomicLong entriesDropped = new AtomicLong();
+    private final AtomicLong entriesSpilled = new AtomicLong();
+    private final AtomicLong entriesFailed = new AtomicLong();
+
+    private BufferedWriter spillWriter;
+    private volatile boolean running = true;
+
+    /**
+     * Create and start an audit writer
+     * @param adminDAO DAO used to insert batches
+     * @param queueCapacity Maximum number of entries waiting to be written
+     * @param maxBatchSize Maximum number of rows per INSERT batch
+     * @param overflowPolicy What to do when the buffer is full
+     * @param blockTimeoutMillis How long BLOCK waits for space before dropping
+     * @param spillFile Append-only file for SPILL overflow and failed batches, or null for none
+     */
+    public AuditLogWriter(AdminDAO adminDAO, int queueCapacity, int maxBatchSize,
+                          OverflowPolicy overflowPolicy, long blockTimeoutMillis, String spillFile) {
+        this.adminDAO = adminDAO;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = Math.max(0, blockTimeoutMillis);
+        this.spillFile = spillFile != null && !spillFile.trim().isEmpty() ? Paths.get(spillFile.trim()) : null;
+
+        if (overflowPolicy == OverflowPolicy.SPILL && this.spillFile == null) {
+            System.err.println("Audit overflow policy SPILL has no spill file configured; overflowing entries will be dropped");
+        }
+
+        this.writerThread = new Thread(this::runWriter, "eventtech-audit-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Install the writer used by AdminDAO.logAdminAction
+     * @param writer Writer to install, or null to go back to synchronous inserts
+     */
+    public static void install(AuditLogWriter writer) {
+        instance = writer;
+    }
+
+    /**
+     * Get the installed writer
+     * @return Installed writer, or null if audit rows are written synchronously
+     */
+    public static AuditLogWriter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queue an admin action for the next batch
+     * @param adminId Admin ID who performed the action
+     * @param action Description of the action performed
+     * @return true if the entry was queued or spilled, false if it was dropped
+     */
+    public boolean submit(int adminId, String action) {
+        AuditEntry entry = new AuditEntry(adminId, action, new Timestamp(System.currentTimeMillis()));
+
+        if (running && queue.offer(entry)) {
+            return true;
+        }
+
+        if (running && overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                if (queue.offer(entry, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (overflowPolicy == OverflowPolicy.SPILL && spill(entry)) {
+            entriesSpilled.incrementAndGet();
+            return true;
+        }
+
+        entriesDropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Stop accepting entries and flush whatever is still queued
+     * @param timeoutMillis How long to wait for the writer to drain the buffer
+     */
+    public void shutdown(long timeoutMillis) {
+        running = false;
+
+        try {
+            writerThread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Whatever the writer did not reach is written from the calling thread
+        List<AuditEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int start = 0; start < remaining.size(); start += maxBatchSize) {
+            flush(remaining.subList(start, Math.min(remaining.size(), start + maxBatchSize)));
+        }
+
+        synchronized (this) {
+            if (spillWriter != null) {
+                try {
+                    spillWriter.close();
+                } catch (IOException e) {
+                    System.err.println("Error closing audit spill file: " + e.getMessage());
+                }
+                spillWriter = null;
+            }
+        }
+    }
+
+    /**
+     * Get writer statistics
+     * @return Map of buffer depth and write, drop and spill counters
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("overflow_policy", overflowPolicy.name().toLowerCase(Locale.ROOT));
+        stats.put("queued", queue.size());
+        stats.put("entries_written", entriesWritten.get());
+        stats.put("batches_written", batchesWritten.get());
+        stats.put("entries_dropped", entriesDropped.get());
+        stats.put("entries_spilled", entriesSpilled.get());
+        stats.put("entries_failed", entriesFailed.get());
+        return stats;
+    }
+
+    /**
+     * Writer loop: wait for the first entry, take whatever else is queued, and write it as one batch
+     */
+    private void runWriter() {
+        List<AuditEntry> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                System.err.println("Error in audit writer: " + e.getMessage());
+                e.printStackTrace();
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Insert one batch; if the database rejects it, keep the entries in the spill file when there is one
+     */
+    private void flush(List<AuditEntry> batch) {
+        try {
+            adminDAO.logAdminActions(batch);
+            batchesWritten.incrementAndGet();
+            entriesWritten.addAndGet(batch.size());
+        } catch (SQLException e) {
+            System.err.println("Audit batch of " + batch.size() + " failed: " + e.getMessage());
+
+            for (AuditEntry entry : batch) {
+                if (spill(entry)) {
+                    entriesSpilled.incrementAndGet();
+                } else {
+                    entriesFailed.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Append an entry to the spill file as one tab-separated line: timestamp, admin ID, action
+     * @return true if the entry was written
+     */
+    private synchronized boolean spill(AuditEntry entry) {
+        if (spillFile == null) {
+            return false;
+        }
+
+        try {
+            if (spillWriter == null) {
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+            }
+
+            spillWriter.write(entry.getTimestamp().toString());
+            spillWriter.write('\t');
+            spillWriter.write(Integer.toString(entry.getAdminId()));
+            spillWriter.write('\t');
+            spillWriter.write(entry.getAction()
+                .replace("\\", "\\\\").replace("\t", "\\t").replace("\r", "\\r").replace("\n", "\\n"));
+            spillWriter.newLine();
+            spillWriter.flush();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing audit spill file: " + e.getMessage());
+            return false;
+        }
+    }
+}
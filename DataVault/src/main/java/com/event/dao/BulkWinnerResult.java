@@ -0,0 +1,47 @@
+package com.event.dao;
+
+import com.event.model.Registration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk winner selection or revocation
+ * Separates the registrations that changed from those already in the requested state
+ */
+public class BulkWinnerResult {
+
+    private final List<Registration> changed = new ArrayList<>();
+    private final List<Integer> unchanged = new ArrayList<>();
+    private final List<Integer> notFound = new ArrayList<>();
+    private final List<Map<String, Object>> certificates = new ArrayList<>();
+
+    /**
+     * Registrations whose winner status was changed, with their new status
+     */
+    public List<Registration> getChanged() {
+        return changed;
+    }
+
+    /**
+     * IDs that already had the requested winner status
+     */
+    public List<Integer> getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Requested IDs that do not exist
+     */
+    public List<Integer> getNotFound() {
+        return notFound;
+    }
+
+    /**
+     * Winner certificate data for each newly selected winner
+     */
+    public List<Map<String, Object>> getCertificates() {
+        return certificates;
+    }
+}
@@ -1,10 +1,21 @@
 package com.event.dao;
 
+import com.event.events.DashboardEvents;
+import com.event.metrics.Metrics;
+import com.event.model.CertificateRecord;
+import com.event.model.IssuedCertificate;
+import com.event.model.Registration;
+
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Data Access Object for Certificate operations
@@ -12,6 +23,31 @@ import java.util.Map;
  */
 public class CertificateDAO {
     
+    // Length of IDs from CertificateIdGenerator ("PAR-" + 13 symbols + check character)
+    private static final int NEW_CERTIFICATE_ID_LENGTH = 18;
+    
+    private static final int BLOOM_EXPECTED_IDS = DBConnection.getIntSetting("CERTIFICATE_BLOOM_EXPECTED_IDS", 1000000);
+    
+    // Verification results shared by all DAO instances; unknown IDs are cached for a shorter time
+    private static final CertificateVerificationCache verificationCache = new CertificateVerificationCache(
+        DBConnection.getIntSetting("CERTIFICATE_VERIFY_CACHE_SIZE", 10000),
+        DBConnection.getIntSetting("CERTIFICATE_VERIFY_TTL_SECONDS", 600) * 1000L,
+        DBConnection.getIntSetting("CERTIFICATE_VERIFY_NEGATIVE_TTL_SECONDS", 60) * 1000L);
+    
+    // Every certificate ID ever issued; only consulted once warmVerificationFilter has loaded the table
+    private static final BloomFilter issuedCertificateIds = new BloomFilter(BLOOM_EXPECTED_IDS, 0.01);
+    private static volatile boolean issuedFilterReady;
+    private static final AtomicLong filterRejections = new AtomicLong();
+    private static final AtomicLong filterFallbacks = new AtomicLong();
+    
+    // Other instances issue IDs this one never sees, so the filter is reloaded every
+    // CERTIFICATE_BLOOM_REFRESH_SECONDS (0 loads it once) and a miss is only trusted for IDs
+    // generated comfortably before the last load started; newer IDs are checked in the database
+    private static final int FILTER_REFRESH_SECONDS = DBConnection.getIntSetting("CERTIFICATE_BLOOM_REFRESH_SECONDS", 300);
+    private static final long FILTER_MARGIN_MILLIS = 60000;
+    private static volatile long filterCoversIssuedBefore;
+    private static ScheduledExecutorService filterRefresher;
+    
     /**
      * Generate certificate data for a participant
      * @param registrationId Registration ID
@@ -34,27 +70,16 @@ public class CertificateDAO {
             resultSet = statement.executeQuery();
             
             if (resultSet.next()) {
-                Map<String, Object> certificateData = new HashMap<>();
-                
-                // Participant details
-                certificateData.put("id", resultSet.getInt("id"));
-                certificateData.put("name", resultSet.getString("name"));
-                certificateData.put("email", resultSet.getString("email"));
-                certificateData.put("college", resultSet.getString("college"));
-                certificateData.put("event", resultSet.getString("event"));
-                certificateData.put("registration_date", resultSet.getTimestamp("registration_date"));
-                certificateData.put("winner_status", resultSet.getBoolean("winner_status"));
-                
-                // Certificate metadata
-                certificateData.put("certificate_type", certificateType);
-                certificateData.put("event_title", "TARUNYAM - Tech Event 2025");
-                certificateData.put("issue_date", new Timestamp(System.currentTimeMillis()));
-                
-                // Generate certificate ID
-                String certificateId = generateCertificateId(registrationId, certificateType);
-                certificateData.put("certificate_id", certificateId);
-                
-                return certificateData;
+                return buildCertificateData(
+                    resultSet.getInt("id"),
+                    resultSet.getString("name"),
+                    resultSet.getString("email"),
+                    resultSet.getString("college"),
+                    resultSet.getString("event"),
+                    resultSet.getTimestamp("registration_date"),
+                    resultSet.getBoolean("winner_status"),
+                    certificateType,
+                    generateCertificateId(certificateType));
             }
             
         } catch (SQLException e) {
@@ -68,17 +93,21 @@ public class CertificateDAO {
     
     /**
      * Track certificate generation
+     * A registration keeps its first certificate ID; regenerating only refreshes the generated date
      * @param registrationId Registration ID
      * @param certificateType Certificate type
-     * @param certificateId Certificate ID
-     * @return true if tracked successfully, false otherwise
+     * @param certificateId Certificate ID to store if none is stored yet
+     * @return The stored certificate ID, which differs from certificateId on regeneration, or null if tracking failed
      */
-    public boolean trackCertificateGeneration(int registrationId, String certificateType, String certificateId) {
+    public String trackCertificateGeneration(int registrationId, String certificateType, String certificateId) {
+        // xmax is 0 only for a freshly inserted row, which tells a new certificate from a regenerated one
         String sql = "INSERT INTO certificate_log (registration_id, certificate_type, certificate_id, generated_date) " +
-                    "VALUES (?, ?, ?, NOW()) ON DUPLICATE KEY UPDATE generated_date = NOW()";
+                    "VALUES (?, ?, ?, NOW()) ON CONFLICT (registration_id, certificate_type) " +
+                    "DO UPDATE SET generated_date = NOW() RETURNING certificate_id, (xmax = 0) AS inserted";
         
         Connection connection = null;
         PreparedStatement statement = null;
+        ResultSet resultSet = null;
         
         try {
             connection = DBConnection.getConnection();
@@ -88,14 +117,25 @@ public class CertificateDAO {
             statement.setString(2, certificateType);
             statement.setString(3, certificateId);
             
-            int rowsAffected = statement.executeUpdate();
-            return rowsAffected > 0;
+            resultSet = statement.executeQuery();
+            if (!resultSet.next()) {
+                return null;
+            }
+            
+            if (resultSet.getBoolean("inserted")) {
+                recordIssuedCertificate(certificateId);
+                synchronized (RegistrationStatistics.updateLock()) {
+                    RegistrationStatistics.recordCertificateIssued(certificateType);
+                    DashboardEvents.certificatesIssued(certificateType, 1);
+                }
+            }
+            return resultSet.getString("certificate_id");
             
         } catch (SQLException e) {
             System.err.println("Error tracking certificate generation: " + e.getMessage());
-            return false;
+            return null;
         } finally {
-            closeResources(connection, statement, null);
+            closeResources(connection, statement, resultSet);
         }
     }
     
@@ -104,14 +144,14 @@ public class CertificateDAO {
      * @param registrationId Registration ID
      * @return List of certificate generation records
      */
-    public List<Map<String, Object>> getCertificateHistory(int registrationId) {
-        String sql = "SELECT certificate_type, certificate_id, generated_date " +
+    public List<CertificateRecord> getCertificateHistory(int registrationId) {
+        String sql = "SELECT registration_id, certificate_type, certificate_id, generated_date " +
                     "FROM certificate_log WHERE registration_id = ? ORDER BY generated_date DESC";
         
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
-        List<Map<String, Object>> history = new ArrayList<>();
+        List<CertificateRecord> history = new ArrayList<>();
         
         try {
             connection = DBConnection.getConnection();
@@ -121,12 +161,8 @@ public class CertificateDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> record = new HashMap<>();
-                record.put("certificate_type", resultSet.getString("certificate_type"));
-                record.put("certificate_id", resultSet.getString("certificate_id"));
-                record.put("generated_date", resultSet.getTimestamp("generated_date"));
-                
-                history.add(record);
+                history.add(new CertificateRecord(resultSet.getInt(1), resultSet.getString(2),
+                    resultSet.getString(3), resultSet.getTimestamp(4)));
             }
             
         } catch (SQLException e) {
@@ -135,21 +171,22 @@ public class CertificateDAO {
             closeResources(connection, statement, resultSet);
         }
         
+        Metrics.recordRows("CertificateDAO.getCertificateHistory", history.size());
         return history;
     }
     
     /**
      * Get all winners for certificate generation
-     * @return List of winner registration maps
+     * @return List of winner registrations
      */
-    public List<Map<String, Object>> getAllWinners() {
-        String sql = "SELECT id, name, email, college, event, registration_date " +
+    public List<Registration> getAllWinners() {
+        String sql = "SELECT " + RegistrationDAO.REGISTRATION_COLUMNS + " " +
                     "FROM registrations WHERE winner_status = 1 ORDER BY event, name";
         
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
-        List<Map<String, Object>> winners = new ArrayList<>();
+        List<Registration> winners = new ArrayList<>();
         
         try {
             connection = DBConnection.getConnection();
@@ -157,15 +194,7 @@ public class CertificateDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> winner = new HashMap<>();
-                winner.put("id", resultSet.getInt("id"));
-                winner.put("name", resultSet.getString("name"));
-                winner.put("email", resultSet.getString("email"));
-                winner.put("college", resultSet.getString("college"));
-                winner.put("event", resultSet.getString("event"));
-                winner.put("registration_date", resultSet.getTimestamp("registration_date"));
-                
-                winners.add(winner);
+                winners.add(RegistrationDAO.mapRegistration(resultSet));
             }
             
         } catch (SQLException e) {
@@ -174,17 +203,63 @@ public class CertificateDAO {
             closeResources(connection, statement, resultSet);
         }
         
+        Metrics.recordRows("CertificateDAO.getAllWinners", winners.size());
         return winners;
     }
     
     /**
      * Verify certificate authenticity
+     * Results are cached; IDs missing from the issued-ID Bloom filter are rejected without a query
+     * when the filter is known to cover them (see filterCovers), otherwise the database decides
      * @param certificateId Certificate ID to verify
-     * @return Certificate verification map or null if invalid
+     * @return Certificate verification map; "valid" is false for unknown or revoked certificates
      */
     public Map<String, Object> verifyCertificate(String certificateId) {
+        // Lower case and O/I/L aliases pass the check character, so they must hit the same cache entry and row
+        String id = CertificateIdGenerator.canonicalize(certificateId != null ? certificateId.trim() : "");
+        
+        Map<String, Object> cached = verificationCache.get(id);
+        if (cached != null) {
+            return new HashMap<>(cached);
+        }
+        
+        // Mistyped new-style IDs fail their check character; anything never issued misses the Bloom filter
+        boolean malformed = id.isEmpty() || id.length() > 100
+            || (id.length() == NEW_CERTIFICATE_ID_LENGTH && !CertificateIdGenerator.isWellFormed(id));
+        if (malformed) {
+            filterRejections.incrementAndGet();
+            return invalidVerification();
+        }
+        
+        if (issuedFilterReady && !issuedCertificateIds.mightContain(id)) {
+            if (filterCovers(id)) {
+                filterRejections.incrementAndGet();
+                return invalidVerification();
+            }
+            // Possibly issued by another instance since the last load; an unknown ID is cached as invalid below
+            filterFallbacks.incrementAndGet();
+        }
+        
+        Map<String, Object> verification = lookupCertificate(id);
+        if (verification == null) {
+            // Database error: report invalid but do not cache the outcome
+            return invalidVerification();
+        }
+        
+        if (verification.containsKey("registration_id")) {
+            recordIssuedCertificate(id);
+        }
+        verificationCache.put(id, verification);
+        return new HashMap<>(verification);
+    }
+    
+    /**
+     * Load a certificate and its registration from the database
+     * @return Verification map, or null if the database could not be read
+     */
+    private Map<String, Object> lookupCertificate(String certificateId) {
         String sql = "SELECT cl.registration_id, cl.certificate_type, cl.generated_date, " +
-                    "r.name, r.email, r.college, r.event " +
+                    "r.name, r.email, r.college, r.event, r.winner_status " +
                     "FROM certificate_log cl " +
                     "JOIN registrations r ON cl.registration_id = r.id " +
                     "WHERE cl.certificate_id = ?";
@@ -200,42 +275,359 @@ public class CertificateDAO {
             
             resultSet = statement.executeQuery();
             
-            if (resultSet.next()) {
-                Map<String, Object> verification = new HashMap<>();
-                verification.put("valid", true);
-                verification.put("registration_id", resultSet.getInt("registration_id"));
-                verification.put("certificate_type", resultSet.getString("certificate_type"));
-                verification.put("generated_date", resultSet.getTimestamp("generated_date"));
-                verification.put("name", resultSet.getString("name"));
-                verification.put("email", resultSet.getString("email"));
-                verification.put("college", resultSet.getString("college"));
-                verification.put("event", resultSet.getString("event"));
-                
-                return verification;
+            if (!resultSet.next()) {
+                return invalidVerification();
+            }
+            
+            String certificateType = resultSet.getString(2);
+            // A winner certificate stops being valid once the winner status is revoked
+            boolean revoked = "winner".equals(certificateType) && !resultSet.getBoolean(8);
+            
+            Map<String, Object> verification = new HashMap<>();
+            verification.put("valid", !revoked);
+            verification.put("registration_id", resultSet.getInt(1));
+            verification.put("certificate_type", certificateType);
+            verification.put("generated_date", resultSet.getTimestamp(3));
+            verification.put("name", resultSet.getString(4));
+            verification.put("email", resultSet.getString(5));
+            verification.put("college", resultSet.getString(6));
+            verification.put("event", resultSet.getString(7));
+            if (revoked) {
+                verification.put("revoked", true);
             }
             
+            return verification;
+            
         } catch (SQLException e) {
             System.err.println("Error verifying certificate: " + e.getMessage());
+            return null;
         } finally {
             closeResources(connection, statement, resultSet);
         }
-        
-        // Certificate not found or invalid
+    }
+    
+    /**
+     * Check whether the last filter load must have included an ID if it had been issued
+     * Old-format IDs are no longer generated, so every one of them was loaded; new-format IDs carry
+     * their generation time, and those from before the last load (less a margin for clock skew and
+     * slow transactions) were committed by then
+     */
+    private static boolean filterCovers(String certificateId) {
+        if (certificateId.length() != NEW_CERTIFICATE_ID_LENGTH) {
+            return true;
+        }
+        long issuedAt = CertificateIdGenerator.getIssuedAt(certificateId);
+        return issuedAt >= 0 && issuedAt < filterCoversIssuedBefore;
+    }
+    
+    private static Map<String, Object> invalidVerification() {
         Map<String, Object> invalidResult = new HashMap<>();
         invalidResult.put("valid", false);
         return invalidResult;
     }
     
     /**
-     * Generate unique certificate ID
+     * Load the verification filter now and then every CERTIFICATE_BLOOM_REFRESH_SECONDS in the background
+     */
+    public static synchronized void startVerificationFilterRefresh() {
+        if (filterRefresher != null) {
+            return;
+        }
+        
+        filterRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventtech-certificate-filter-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (FILTER_REFRESH_SECONDS > 0) {
+            filterRefresher.scheduleWithFixedDelay(CertificateDAO::warmVerificationFilter,
+                0, FILTER_REFRESH_SECONDS, TimeUnit.SECONDS);
+        } else {
+            filterRefresher.execute(CertificateDAO::warmVerificationFilter);
+        }
+    }
+    
+    /**
+     * Stop reloading the verification filter
+     */
+    public static synchronized void stopVerificationFilterRefresh() {
+        if (filterRefresher != null) {
+            filterRefresher.shutdownNow();
+            filterRefresher = null;
+        }
+    }
+    
+    /**
+     * Load every issued certificate ID into the Bloom filter, then start using it to reject unknown IDs
+     * IDs issued by this instance while this runs are added by the write paths; IDs issued by other
+     * instances are picked up by the next load, and until then are checked in the database
+     */
+    public static void warmVerificationFilter() {
+        String sql = "SELECT certificate_id FROM certificate_log";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        long loaded = 0;
+        long startedAt = System.currentTimeMillis();
+        
+        try {
+            connection = DBConnection.getStreamingConnection();
+            // The PostgreSQL driver only uses a cursor inside a transaction
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sql);
+            statement.setFetchSize(5000);
+            
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                issuedCertificateIds.add(resultSet.getString(1));
+                loaded++;
+            }
+            connection.commit();
+            
+            if (loaded > BLOOM_EXPECTED_IDS) {
+                System.err.println("Certificate Bloom filter holds " + loaded + " IDs, more than the "
+                    + BLOOM_EXPECTED_IDS + " it was sized for; raise CERTIFICATE_BLOOM_EXPECTED_IDS");
+            }
+            filterCoversIssuedBefore = startedAt - FILTER_MARGIN_MILLIS;
+            issuedFilterReady = true;
+            
+        } catch (SQLException e) {
+            System.err.println("Error warming certificate Bloom filter: " + e.getMessage());
+        } finally {
+            if (resultSet != null) {
+                try {
+                    resultSet.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing ResultSet: " + e.getMessage());
+                }
+            }
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing PreparedStatement: " + e.getMessage());
+                }
+            }
+            DBConnection.closeConnection(connection);
+        }
+    }
+    
+    /**
+     * Get verification cache and Bloom filter statistics
+     * @return Map of cache counters, filter state and rejections
+     */
+    public static Map<String, Object> getVerificationStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>(verificationCache.getStatistics());
+        stats.put("bloom_filter_ready", issuedFilterReady);
+        stats.put("filter_rejections", filterRejections.get());
+        stats.put("filter_database_fallbacks", filterFallbacks.get());
+        stats.put("bloom_filter_covers_issued_before", filterCoversIssuedBefore);
+        return stats;
+    }
+    
+    /**
+     * Register a newly issued certificate ID with the verification Bloom filter
+     * @param certificateId Issued certificate ID
+     */
+    static void recordIssuedCertificate(String certificateId) {
+        issuedCertificateIds.add(certificateId);
+    }
+    
+    /**
+     * Drop cached verification results of a registration after its winner status changes or it is deleted
+     * @param registrationId Registration ID
+     */
+    static void invalidateVerification(int registrationId) {
+        verificationCache.invalidateRegistration(registrationId);
+    }
+    
+    /**
+     * Build the certificate data map returned to the frontend
      * @param registrationId Registration ID
+     * @param name Participant name
+     * @param email Participant email
+     * @param college Participant college
+     * @param event Event name
+     * @param registrationDate Registration timestamp
+     * @param winnerStatus Winner flag
+     * @param certificateType Type of certificate (participation/winner)
+     * @param certificateId Certificate ID
+     * @return Certificate data map
+     */
+    static Map<String, Object> buildCertificateData(int registrationId, String name, String email,
+                                                    String college, String event, Timestamp registrationDate,
+                                                    boolean winnerStatus, String certificateType,
+                                                    String certificateId) {
+        Map<String, Object> certificateData = new HashMap<>();
+        
+        // Participant details
+        certificateData.put("id", registrationId);
+        certificateData.put("name", name);
+        certificateData.put("email", email);
+        certificateData.put("college", college);
+        certificateData.put("event", event);
+        certificateData.put("registration_date", registrationDate);
+        certificateData.put("winner_status", winnerStatus);
+        
+        // Certificate metadata
+        certificateData.put("certificate_type", certificateType);
+        certificateData.put("event_title", "TARUNYAM - Tech Event 2025");
+        certificateData.put("issue_date", new Timestamp(System.currentTimeMillis()));
+        certificateData.put("certificate_id", certificateId);
+        
+        return certificateData;
+    }
+    
+    /**
+     * Generate unique certificate ID
      * @param certificateType Certificate type
-     * @return Unique certificate ID
+     * @return Unique, time-ordered certificate ID
+     */
+    static String generateCertificateId(String certificateType) {
+        return CertificateIdGenerator.getInstance().nextId(certificateType);
+    }
+    
+    /**
+     * Issue participation certificates to registrations of an event that have none yet
+     * (registrations stored before certificates were issued at sign-up)
+     * @param event Event name
+     * @return Number of certificates issued, or -1 if the database could not be updated
+     */
+    public int issueMissingParticipationCertificates(String event) {
+        String selectSql = "SELECT r.id FROM registrations r WHERE r.event = ? AND NOT EXISTS (" +
+                          "SELECT 1 FROM certificate_log cl WHERE cl.registration_id = r.id " +
+                          "AND cl.certificate_type = 'participation')";
+        String insertSql = "INSERT INTO certificate_log (registration_id, certificate_type, certificate_id, generated_date) " +
+                          "SELECT r, 'participation', c, NOW() FROM unnest(?::int[], ?::text[]) AS t(r, c) " +
+                          "ON CONFLICT (registration_id, certificate_type) DO NOTHING " +
+                          "RETURNING certificate_id";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(selectSql);
+            statement.setString(1, event);
+            
+            List<Integer> registrationIds = new ArrayList<>();
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                registrationIds.add(resultSet.getInt(1));
+            }
+            resultSet.close();
+            statement.close();
+            
+            if (registrationIds.isEmpty()) {
+                return 0;
+            }
+            
+            Integer[] ids = registrationIds.toArray(new Integer[0]);
+            String[] certificateIds = new String[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                certificateIds[i] = generateCertificateId("participation");
+            }
+            
+            statement = connection.prepareStatement(insertSql);
+            statement.setArray(1, connection.createArrayOf("integer", ids));
+            statement.setArray(2, connection.createArrayOf("text", certificateIds));
+            
+            int issued = 0;
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                recordIssuedCertificate(resultSet.getString(1));
+                issued++;
+            }
+            synchronized (RegistrationStatistics.updateLock()) {
+                for (int i = 0; i < issued; i++) {
+                    RegistrationStatistics.recordCertificateIssued("participation");
+                }
+                DashboardEvents.certificatesIssued("participation", issued);
+            }
+            return issued;
+            
+        } catch (SQLException e) {
+            System.err.println("Error issuing missing certificates: " + e.getMessage());
+            return -1;
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+    }
+    
+    /**
+     * Count the valid certificates of an event (revoked winner certificates excluded)
+     * @param event Event name
+     * @return Certificate count, or -1 if the database could not be read
      */
-    private String generateCertificateId(int registrationId, String certificateType) {
-        String prefix = certificateType.equals("winner") ? "WIN" : "PAR";
-        long timestamp = System.currentTimeMillis();
-        return String.format("%s-%d-%d", prefix, registrationId, timestamp);
+    public int countEventCertificates(String event) {
+        String sql = "SELECT COUNT(*) FROM certificate_log cl " +
+                    "JOIN registrations r ON cl.registration_id = r.id " +
+                    "WHERE r.event = ? AND (cl.certificate_type <> 'winner' OR r.winner_status = 1)";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setString(1, event);
+            
+            resultSet = statement.executeQuery();
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+            
+        } catch (SQLException e) {
+            System.err.println("Error counting event certificates: " + e.getMessage());
+            return -1;
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+    }
+    
+    /**
+     * Get one page of an event's valid certificates in certificate log order
+     * Keyset paging keeps each connection lease short while a bulk job works through the event
+     * @param event Event name
+     * @param afterId Certificate log ID of the last row of the previous page, 0 for the first page
+     * @param limit Page size
+     * @return Certificates with participant details
+     * @throws SQLException if the database could not be read
+     */
+    public List<IssuedCertificate> getEventCertificatesAfter(String event, int afterId, int limit) throws SQLException {
+        String sql = "SELECT cl.id, cl.certificate_id, cl.certificate_type, cl.generated_date, " +
+                    "r.id, r.name, r.college, r.event " +
+                    "FROM certificate_log cl " +
+                    "JOIN registrations r ON cl.registration_id = r.id " +
+                    "WHERE r.event = ? AND cl.id > ? AND (cl.certificate_type <> 'winner' OR r.winner_status = 1) " +
+                    "ORDER BY cl.id LIMIT ?";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        List<IssuedCertificate> certificates = new ArrayList<>();
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setString(1, event);
+            statement.setInt(2, afterId);
+            statement.setInt(3, limit);
+            
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                certificates.add(new IssuedCertificate(resultSet.getInt(1), resultSet.getString(2),
+                    resultSet.getString(3), resultSet.getTimestamp(4), resultSet.getInt(5),
+                    resultSet.getString(6), resultSet.getString(7), resultSet.getString(8)));
+            }
+            
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        Metrics.recordRows("CertificateDAO.getEventCertificatesAfter", certificates.size());
+        return certificates;
     }
     
     /**
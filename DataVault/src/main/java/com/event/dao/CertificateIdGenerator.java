@@ -0,0 +1,212 @@
+package com.event.dao;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Certificate ID generator for EventTech Application
+ * Produces time-ordered, collision-free IDs such as PAR-06JKG42F80W00$ without locks:
+ * a 64-bit value of 42 bits milliseconds since 2025-01-01, 10 bits node ID and a 12-bit sequence,
+ * written as 13 Crockford base32 characters followed by a Crockford mod-37 check character
+ */
+public final class CertificateIdGenerator {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final String CHECK_ALPHABET = ALPHABET + "*~$=U";
+
+    // 2025-01-01T00:00:00Z; 42 bits of milliseconds last until the year 2164
+    private static final long EPOCH_MILLIS = 1735689600000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int BODY_LENGTH = 13;
+    private static final int PREFIX_LENGTH = 4;
+
+    private static final CertificateIdGenerator INSTANCE = new CertificateIdGenerator(configuredNodeId());
+
+    private final long nodeBits;
+
+    // (milliseconds since epoch << SEQUENCE_BITS) | sequence of the last ID handed out;
+    // a sequence overflow carries into the time field, borrowing the next millisecond,
+    // so more than 4096 IDs per millisecond run ahead of the clock instead of waiting
+    private final AtomicLong lastState = new AtomicLong();
+
+    /**
+     * Create a generator
+     * @param nodeId Node ID between 0 and 1023, unique per application instance sharing a database
+     */
+    public CertificateIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * Get the shared generator, configured from CERTIFICATE_NODE_ID
+     * @return Shared generator
+     */
+    public static CertificateIdGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Generate a certificate ID
+     * @param certificateType Certificate type (winner or participation)
+     * @return New certificate ID with WIN- or PAR- prefix
+     */
+    public String nextId(String certificateType) {
+        long value = nextValue();
+
+        char[] id = new char[PREFIX_LENGTH + BODY_LENGTH + 1];
+        if ("winner".equals(certificateType)) {
+            id[0] = 'W';
+            id[1] = 'I';
+            id[2] = 'N';
+        } else {
+            id[0] = 'P';
+            id[1] = 'A';
+            id[2] = 'R';
+        }
+        id[3] = '-';
+
+        long remaining = value;
+        for (int i = PREFIX_LENGTH + BODY_LENGTH - 1; i >= PREFIX_LENGTH; i--) {
+            id[i] = ALPHABET.charAt((int) (remaining & 31));
+            remaining >>>= 5;
+        }
+        id[PREFIX_LENGTH + BODY_LENGTH] = CHECK_ALPHABET.charAt((int) Long.remainderUnsigned(value, 37));
+
+        return new String(id);
+    }
+
+    /**
+     * Check that an ID has the generator's format and a matching check character
+     * Lets verification reject mistyped IDs without a database lookup
+     * @param certificateId ID to check, case-insensitive
+     * @return true if the ID is well formed
+     */
+    public static boolean isWellFormed(String certificateId) {
+        if (certificateId == null || certificateId.length() != PREFIX_LENGTH + BODY_LENGTH + 1) {
+            return false;
+        }
+
+        String prefix = certificateId.substring(0, PREFIX_LENGTH).toUpperCase();
+        if (!"WIN-".equals(prefix) && !"PAR-".equals(prefix)) {
+            return false;
+        }
+
+        long value = 0;
+        for (int i = PREFIX_LENGTH; i < PREFIX_LENGTH + BODY_LENGTH; i++) {
+            int digit = decodeSymbol(certificateId.charAt(i));
+            if (digit < 0 || (i == PREFIX_LENGTH && digit > 15)) {
+                return false;
+            }
+            value = (value << 5) | digit;
+        }
+
+        char check = Character.toUpperCase(certificateId.charAt(PREFIX_LENGTH + BODY_LENGTH));
+        return CHECK_ALPHABET.charAt((int) Long.remainderUnsigned(value, 37)) == check;
+    }
+
+    /**
+     * Get the stored spelling of an ID typed in lower case or with O, I or L for 0 and 1
+     * @param certificateId ID to normalize
+     * @return The canonical ID if it is well formed, otherwise certificateId unchanged
+     */
+    public static String canonicalize(String certificateId) {
+        if (!isWellFormed(certificateId)) {
+            return certificateId;
+        }
+
+        char[] id = certificateId.toUpperCase().toCharArray();
+        for (int i = PREFIX_LENGTH; i < PREFIX_LENGTH + BODY_LENGTH; i++) {
+            id[i] = ALPHABET.charAt(decodeSymbol(id[i]));
+        }
+        return new String(id);
+    }
+
+    /**
+     * Get the time an ID was generated, from its embedded millisecond field
+     * @param certificateId ID to decode
+     * @return Milliseconds since 1970 (may run slightly ahead of the clock under bursts), or -1 if the ID is not well formed
+     */
+    public static long getIssuedAt(String certificateId) {
+        if (!isWellFormed(certificateId)) {
+            return -1;
+        }
+
+        long value = 0;
+        for (int i = PREFIX_LENGTH; i < PREFIX_LENGTH + BODY_LENGTH; i++) {
+            value = (value << 5) | decodeSymbol(certificateId.charAt(i));
+        }
+        return EPOCH_MILLIS + (value >>> (NODE_BITS + SEQUENCE_BITS));
+    }
+
+    /**
+     * Reserve the next (time, sequence) slot with a compare-and-set loop and combine it with the node ID
+     */
+    private long nextValue() {
+        while (true) {
+            long previous = lastState.get();
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+
+            // A clock that stands still or steps backwards keeps counting from the last slot
+            long next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+
+            if (lastState.compareAndSet(previous, next)) {
+                long time = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (time << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+            }
+        }
+    }
+
+    /**
+     * Decode a Crockford base32 symbol, accepting lower case and the I/L/O aliases
+     * @return Symbol value, or -1 if the character is not a base32 symbol
+     */
+    private static int decodeSymbol(char symbol) {
+        char upper = Character.toUpperCase(symbol);
+        if (upper == 'O') {
+            return 0;
+        }
+        if (upper == 'I' || upper == 'L') {
+            return 1;
+        }
+        return ALPHABET.indexOf(upper);
+    }
+
+    /**
+     * Node ID from CERTIFICATE_NODE_ID, or derived from the host name and process ID when it is not set
+     * Set CERTIFICATE_NODE_ID explicitly when several instances share one database
+     */
+    private static int configuredNodeId() {
+        String value = System.getenv("CERTIFICATE_NODE_ID");
+        if (value != null && !value.trim().isEmpty()) {
+            try {
+                int nodeId = Integer.parseInt(value.trim());
+                // Checked here rather than left to the constructor, which would fail the class initializer
+                if (nodeId >= 0 && nodeId <= MAX_NODE_ID) {
+                    return nodeId;
+                }
+                System.err.println("CERTIFICATE_NODE_ID must be between 0 and " + MAX_NODE_ID + ": " + value
+                    + ", deriving one from the host name");
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid value for CERTIFICATE_NODE_ID: " + value + ", deriving one from the host name");
+            }
+        }
+
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "localhost";
+        }
+        String identity = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        return (identity.hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+    }
+}
@@ -0,0 +1,115 @@
+package com.event.dao;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size- and TTL-bounded cache of certificate verification results
+ * Valid and invalid results are cached with separate lifetimes so repeated lookups of
+ * popular or bogus IDs stay off the database
+ */
+class CertificateVerificationCache {
+
+    private final int maxSize;
+    private final long validTtlMillis;
+    private final long invalidTtlMillis;
+
+    // Access-ordered, so the eldest entry is the least recently verified ID
+    private final LinkedHashMap<String, CachedResult> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    CertificateVerificationCache(int maxSize, long validTtlMillis, long invalidTtlMillis) {
+        this.maxSize = Math.max(1, maxSize);
+        this.validTtlMillis = validTtlMillis;
+        this.invalidTtlMillis = invalidTtlMillis;
+        this.entries = new LinkedHashMap<String, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > CertificateVerificationCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Look up a cached result
+     * @param certificateId Certificate ID
+     * @return Cached verification map, or null on a miss or expired entry
+     */
+    synchronized Map<String, Object> get(String certificateId) {
+        CachedResult cached = entries.get(certificateId);
+        if (cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        if (System.currentTimeMillis() >= cached.expiresAt) {
+            entries.remove(certificateId);
+            expirations.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        return cached.result;
+    }
+
+    /**
+     * Cache a verification result; invalid results expire sooner than valid ones
+     * @param certificateId Certificate ID
+     * @param result Verification map (treated as read-only once cached)
+     */
+    synchronized void put(String certificateId, Map<String, Object> result) {
+        long ttl = Boolean.TRUE.equals(result.get("valid")) ? validTtlMillis : invalidTtlMillis;
+        entries.put(certificateId, new CachedResult(result, System.currentTimeMillis() + ttl));
+    }
+
+    /**
+     * Drop every cached result that belongs to a registration
+     * @param registrationId Registration ID
+     */
+    synchronized void invalidateRegistration(int registrationId) {
+        Iterator<CachedResult> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (Integer.valueOf(registrationId).equals(iterator.next().result.get("registration_id"))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Get cache statistics
+     * @return Map of size, hit and miss counters
+     */
+    synchronized Map<String, Object> getStatistics() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("max_size", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("expirations", expirations.get());
+        stats.put("hit_ratio", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        return stats;
+    }
+
+    /**
+     * Cached verification result and its expiry time
+     */
+    private static class CachedResult {
+
+        private final Map<String, Object> result;
+        private final long expiresAt;
+
+        CachedResult(Map<String, Object> result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.event.dao;
+
+import com.event.metrics.Histogram;
+import com.event.metrics.Metrics;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded JDBC connection pool for EventTech Application
+ * Keeps PostgreSQL connections open between requests instead of reconnecting per DAO call
+ */
+public class ConnectionPool {
+
+    // Connections returned more recently than this are trusted without a validation round-trip
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+
+    // Walks a sampled borrower's stack to name the DAO method a lease is timed under
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    // How often the housekeeper evicts idle connections, tops up the minimum and checks for leaks
+    private static final long HOUSEKEEPING_INTERVAL_SECONDS = 5;
+
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+    private final int borrowerSampleInterval;
+
+    // Most recently returned connection sits at the head so hot connections get reused first
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> activeConnections = ConcurrentHashMap.newKeySet();
+    private final Semaphore permits;
+
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicInteger waitingThreads = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong borrowTimeouts = new AtomicLong();
+    private final AtomicLong connectionsCreated = new AtomicLong();
+    private final AtomicLong connectionsDestroyed = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+    // Borrow waits in microseconds
+    private final Histogram borrowLatency = new Histogram();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final AtomicLong statementCacheEvictions = new AtomicLong();
+
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    /**
+     * Create a connection pool
+     * @param url JDBC URL
+     * @param username Database username
+     * @param password Database password
+     * @param minSize Number of idle connections to keep warm
+     * @param maxSize Maximum number of physical connections
+     * @param borrowTimeoutMillis How long a caller waits for a free connection
+     * @param idleTimeoutMillis How long a surplus connection may stay idle before it is closed
+     * @param leakDetectionThresholdMillis Lease age that triggers a leak report, 0 to disable
+     * @param statementCacheSize PreparedStatements cached per connection, 0 to disable
+     * @param borrowerSampleInterval Name the borrowing DAO method on every this many borrows, 0 to never
+     */
+    public ConnectionPool(String url, String username, String password,
+                          int minSize, int maxSize, long borrowTimeoutMillis,
+                          long idleTimeoutMillis, long leakDetectionThresholdMillis,
+                          int statementCacheSize, int borrowerSampleInterval) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+        this.validationTimeoutSeconds = 5;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.borrowerSampleInterval = Math.max(0, borrowerSampleInterval);
+        this.permits = new Semaphore(this.maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventtech-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep,
+            0, HOUSEKEEPING_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Borrow a connection from the pool
+     * @return Connection whose close() hands it back to the pool
+     * @throws SQLException if the pool is closed, exhausted past the timeout, or cannot connect
+     */
+    public Connection borrow() throws SQLException {
+        return borrow(false);
+    }
+
+    /**
+     * Borrow a connection for a long cursor read, such as an export streamed to a client
+     * Holding such a connection for minutes is expected, so these leases are never reported as leaks
+     * @return Connection whose close() hands it back to the pool
+     * @throws SQLException if the pool is closed, exhausted past the timeout, or cannot connect
+     */
+    public Connection borrowForStreaming() throws SQLException {
+        return borrow(true);
+    }
+
+    private Connection borrow(boolean streaming) throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+
+        waitingThreads.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waitingThreads.decrementAndGet();
+        }
+
+        if (!acquired) {
+            borrowTimeouts.incrementAndGet();
+            throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis
+                + "ms waiting for a database connection (active=" + activeConnections.size()
+                + ", max=" + maxSize + ")");
+        }
+
+        try {
+            PooledConnection pooled = takeIdleOrCreate();
+            long borrows = borrowCount.incrementAndGet();
+            // The borrow site is only captured when leak detection is on; it costs a stack walk per borrow
+            Throwable stackTrace = leakDetectionThresholdMillis > 0 && !streaming
+                ? new Throwable("Connection borrowed here") : null;
+            // Naming the borrower walks the stack too, so only a sample of leases is timed per DAO method
+            String borrower = borrowerSampleInterval > 0 && borrows % borrowerSampleInterval == 0
+                ? findBorrower() : null;
+            Connection connection = pooled.lease(stackTrace, borrower);
+            activeConnections.add(pooled);
+
+            long waited = System.nanoTime() - start;
+            borrowLatency.record(waited / 1000);
+            Metrics.recordConnectionAcquire(waited);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Name the method that asked for a connection, e.g. RegistrationDAO.getRegistrations
+     */
+    private static String findBorrower() {
+        return STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !frame.getClassName().equals(ConnectionPool.class.getName())
+                && !frame.getClassName().equals(DBConnection.class.getName()))
+            .findFirst()
+            .map(frame -> {
+                String className = frame.getClassName();
+                return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+            })
+            .orElse("unknown"));
+    }
+
+    /**
+     * Return a leased connection to the pool
+     * @param pooled Connection being returned
+     */
+    void release(PooledConnection pooled) {
+        activeConnections.remove(pooled);
+        if (pooled.getBorrower() != null) {
+            Metrics.recordDaoCall(pooled.getBorrower(), System.nanoTime() - pooled.getLeasedAtNanos());
+        }
+
+        if (closed || !pooled.reset()) {
+            destroy(pooled);
+        } else {
+            idleConnections.offerFirst(pooled);
+        }
+
+        permits.release();
+    }
+
+    /**
+     * Close every idle connection and stop accepting new borrowers
+     * Leased connections are closed as their owners return them
+     */
+    public void shutdown() {
+        closed = true;
+        housekeeper.shutdownNow();
+
+        PooledConnection pooled;
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            destroy(pooled);
+        }
+    }
+
+    /**
+     * Get the maximum number of open connections
+     * @return Pool size limit
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get pool statistics for the admin dashboard
+     * @return Map with connection counts, counters and borrow latency summary
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("active_connections", activeConnections.size());
+        stats.put("idle_connections", idleConnections.size());
+        stats.put("total_connections", totalConnections.get());
+        stats.put("waiting_threads", waitingThreads.get());
+        stats.put("min_size", minSize);
+        stats.put("max_size", maxSize);
+        stats.put("borrow_count", borrowCount.get());
+        stats.put("borrow_timeouts", borrowTimeouts.get());
+        stats.put("connections_created", connectionsCreated.get());
+        stats.put("connections_destroyed", connectionsDestroyed.get());
+        stats.put("validation_failures", validationFailures.get());
+        stats.put("leaks_detected", leaksDetected.get());
+        
+        Histogram.Snapshot latency = borrowLatency.snapshot();
+        Map<String, Object> borrowLatencySummary = new LinkedHashMap<>();
+        borrowLatencySummary.put("count", latency.getCount());
+        borrowLatencySummary.put("mean_ms", latency.getMean() / 1000.0);
+        borrowLatencySummary.put("p50_ms", latency.getValueAtQuantile(0.5) / 1000.0);
+        borrowLatencySummary.put("p99_ms", latency.getValueAtQuantile(0.99) / 1000.0);
+        borrowLatencySummary.put("max_ms", latency.getMax() / 1000.0);
+        stats.put("borrow_latency", borrowLatencySummary);
+        
+        long hits = statementCacheHits.get();
+        long misses = statementCacheMisses.get();
+        Map<String, Object> statementCache = new LinkedHashMap<>();
+        statementCache.put("size_per_connection", statementCacheSize);
+        statementCache.put("hits", hits);
+        statementCache.put("misses", misses);
+        statementCache.put("evictions", statementCacheEvictions.get());
+        statementCache.put("hit_ratio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        stats.put("statement_cache", statementCache);
+        return stats;
+    }
+
+    void recordStatementCacheHit() {
+        statementCacheHits.incrementAndGet();
+    }
+
+    void recordStatementCacheMiss() {
+        statementCacheMisses.incrementAndGet();
+    }
+
+    void recordStatementCacheEviction() {
+        statementCacheEvictions.incrementAndGet();
+    }
+
+    /**
+     * Reuse an idle connection if a healthy one exists, otherwise open a new one
+     */
+    private PooledConnection takeIdleOrCreate() throws SQLException {
+        PooledConnection pooled;
+
+        while ((pooled = idleConnections.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            validationFailures.incrementAndGet();
+            destroy(pooled);
+        }
+
+        return createConnection();
+    }
+
+    /**
+     * Validate a connection on borrow unless it was returned moments ago
+     */
+    private boolean isUsable(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.getLastReturnedAt() < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+
+        try {
+            return pooled.getPhysicalConnection().isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PooledConnection createConnection() throws SQLException {
+        totalConnections.incrementAndGet();
+        try {
+            Connection connection = DriverManager.getConnection(url, username, password);
+            connection.setAutoCommit(true);
+            connectionsCreated.incrementAndGet();
+            return new PooledConnection(this, connection, statementCacheSize);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        pooled.closePhysical();
+        totalConnections.decrementAndGet();
+        connectionsDestroyed.incrementAndGet();
+    }
+
+    /**
+     * Periodic maintenance: idle eviction, minimum size top-up and leak detection
+     */
+    private void housekeep() {
+        try {
+            evictIdleConnections();
+            fillToMinimum();
+            detectLeaks();
+        } catch (RuntimeException e) {
+            System.err.println("Error during connection pool housekeeping: " + e.getMessage());
+        }
+    }
+
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+
+        while (iterator.hasNext() && totalConnections.get() > minSize) {
+            PooledConnection pooled = iterator.next();
+            if (now - pooled.getLastReturnedAt() > idleTimeoutMillis && idleConnections.remove(pooled)) {
+                destroy(pooled);
+            }
+        }
+    }
+
+    private void fillToMinimum() {
+        while (!closed && totalConnections.get() < minSize && permits.tryAcquire()) {
+            try {
+                idleConnections.offerLast(createConnection());
+            } catch (SQLException e) {
+                System.err.println("Unable to pre-open pooled connection: " + e.getMessage());
+                return;
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private void detectLeaks() {
+        if (leakDetectionThresholdMillis <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : activeConnections) {
+            Throwable stackTrace = pooled.getLeaseStackTrace();
+            if (!pooled.isLeakReported() && stackTrace != null
+                    && now - pooled.getLeasedAt() > leakDetectionThresholdMillis) {
+                pooled.setLeakReported(true);
+                leaksDetected.incrementAndGet();
+                System.err.println("Possible connection leak: connection held for "
+                    + (now - pooled.getLeasedAt()) + "ms without being closed");
+                stackTrace.printStackTrace();
+            }
+        }
+    }
+}
@@ -1,14 +1,15 @@
 package com.event.dao;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Map;
 
 /**
  * Database Connection Manager for EventTech Application
  * Handles MySQL database connectivity using JDBC
+ * Connections are served from a bounded ConnectionPool; closing one returns it to the pool
  */
 public class DBConnection {
     
@@ -20,12 +21,27 @@ public class DBConnection {
     // JDBC Driver class
     private static final String JDBC_DRIVER = "org.postgresql.Driver";
     
+    // Shared connection pool used by every DAO
+    private static ConnectionPool pool;
+    
     static {
         try {
             // Load PostgreSQL JDBC Driver first
             Class.forName(JDBC_DRIVER);
             // Then parse database URL
             parseDatabaseURL();
+            // Finally create the pool (connections are opened lazily by the pool itself)
+            pool = new ConnectionPool(DB_URL, DB_USERNAME, DB_PASSWORD,
+                getIntSetting("DB_POOL_MIN_SIZE", 2),
+                // Covers the 20 JDBC executor threads plus the connections reserved for the other consumers (see web.xml)
+                getIntSetting("DB_POOL_MAX_SIZE", 30),
+                getIntSetting("DB_POOL_BORROW_TIMEOUT_MS", 5000),
+                getIntSetting("DB_POOL_IDLE_TIMEOUT_MS", 600000),
+                // Leak detection captures a stack trace per borrow, so it is off unless a threshold is set
+                getIntSetting("DB_POOL_LEAK_THRESHOLD_MS", 0),
+                getIntSetting("DB_STATEMENT_CACHE_SIZE", 50),
+                // Per-DAO timings name the borrower with a stack walk, so only every Nth borrow is sampled
+                getIntSetting("DB_POOL_BORROWER_SAMPLE_INTERVAL", 16));
         } catch (ClassNotFoundException e) {
             System.err.println("PostgreSQL JDBC Driver not found: " + e.getMessage());
             throw new RuntimeException("Failed to load PostgreSQL JDBC Driver", e);
@@ -33,7 +49,8 @@ public class DBConnection {
     }
     
     private static void parseDatabaseURL() {
-        String databaseUrl = System.getenv("DATABASE_URL");
+        // The system property lets tools that start their own database (e.g. the benchmarks) override the environment
+        String databaseUrl = System.getProperty("eventtech.database.url", System.getenv("DATABASE_URL"));
         if (databaseUrl != null) {
             try {
                 URI uri = new URI(databaseUrl);
@@ -71,16 +88,69 @@ public class DBConnection {
         DB_PASSWORD = "";
     }
     
+    /**
+     * Read an integer setting from the environment
+     * @param name Environment variable name
+     * @param defaultValue Value used when the variable is missing or malformed
+     * @return Configured value
+     */
+    public static int getIntSetting(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + name + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Read a long integer setting from the environment
+     * @param name Environment variable name
+     * @param defaultValue Value used when the variable is missing or malformed
+     * @return Configured value
+     */
+    public static long getLongSetting(String name, long defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + name + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
     /**
      * Get database connection
-     * @return Connection object for database operations
-     * @throws SQLException if connection fails
+     * @return Pooled connection for database operations (auto-commit enabled)
+     * @throws SQLException if no connection can be obtained
      */
     public static Connection getConnection() throws SQLException {
         try {
-            Connection connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-            connection.setAutoCommit(true); // Enable auto-commit for simplicity
-            return connection;
+            return pool.borrow();
+        } catch (SQLException e) {
+            System.err.println("Database connection failed: " + e.getMessage());
+            throw new SQLException("Unable to connect to database", e);
+        }
+    }
+    
+    /**
+     * Get a connection for a long cursor read (exports, cache warm-ups)
+     * Same pool as getConnection, but the lease is exempt from leak detection
+     * @return Pooled connection (auto-commit enabled)
+     * @throws SQLException if no connection can be obtained
+     */
+    public static Connection getStreamingConnection() throws SQLException {
+        try {
+            return pool.borrowForStreaming();
         } catch (SQLException e) {
             System.err.println("Database connection failed: " + e.getMessage());
             throw new SQLException("Unable to connect to database", e);
@@ -88,7 +158,7 @@ public class DBConnection {
     }
     
     /**
-     * Close database connection safely
+     * Close database connection safely (returns pooled connections to the pool)
      * @param connection Connection to close
      */
     public static void closeConnection(Connection connection) {
@@ -117,4 +187,27 @@ public class DBConnection {
             closeConnection(connection);
         }
     }
+    
+    /**
+     * Get connection pool statistics
+     * @return Map of pool counters and borrow latency histogram
+     */
+    public static Map<String, Object> getPoolStatistics() {
+        return pool.getStatistics();
+    }
+    
+    /**
+     * Get the maximum number of connections the pool opens
+     * @return Pool size limit (DB_POOL_MAX_SIZE)
+     */
+    public static int getMaxPoolSize() {
+        return pool.getMaxSize();
+    }
+    
+    /**
+     * Close all pooled connections (called on application shutdown)
+     */
+    public static void shutdown() {
+        pool.shutdown();
+    }
 }
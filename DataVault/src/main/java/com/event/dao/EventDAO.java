@@ -1,10 +1,17 @@
 package com.event.dao;
 
+import com.event.events.DashboardEvents;
+import com.event.model.Event;
+
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
 
 /**
  * Data Access Object for Event operations
@@ -12,17 +19,79 @@ import java.util.Map;
  */
 public class EventDAO {
     
+    // Upper bound on staleness for edits made outside this application (other nodes, manual SQL)
+    private static final long CATALOG_MAX_AGE_MILLIS = 5 * 60 * 1000;
+    
+    // Event catalog shared by all EventDAO instances; replaced wholesale, never modified in place
+    private static volatile EventCatalog cachedCatalog;
+    
+    // Bumped on every invalidation so a load that raced with a write is not cached
+    private static final AtomicLong catalogVersion = new AtomicLong();
+    
     /**
      * Get all available events
-     * @return List of event maps containing id, name, and description
+     * Served from the in-memory catalog, which is reloaded after any event is added, updated or deleted
+     * @return Unmodifiable list of events ordered by name
+     */
+    public List<Event> getAllEvents() {
+        EventCatalog catalog = getCatalog();
+        return catalog != null ? catalog.events : Collections.emptyList();
+    }
+    
+    /**
+     * Get a validator for the current event catalog, suitable for an HTTP ETag
+     * @return Quoted entity tag, or null if the catalog could not be loaded
+     */
+    public String getCatalogETag() {
+        EventCatalog catalog = getCatalog();
+        return catalog != null ? catalog.etag : null;
+    }
+    
+    /**
+     * Drop the cached catalog so the next read goes to the database
+     */
+    public static void invalidateCatalog() {
+        catalogVersion.incrementAndGet();
+        cachedCatalog = null;
+    }
+    
+    /**
+     * Return the cached catalog, loading it on a miss or once it is older than the maximum age
+     * @return Catalog, or null if the database could not be read
      */
-    public List<Map<String, Object>> getAllEvents() {
+    private EventCatalog getCatalog() {
+        EventCatalog catalog = cachedCatalog;
+        if (catalog != null && System.currentTimeMillis() - catalog.loadedAt < CATALOG_MAX_AGE_MILLIS) {
+            return catalog;
+        }
+        
+        long version = catalogVersion.get();
+        List<Event> events = loadAllEvents();
+        if (events == null) {
+            return null;
+        }
+        
+        catalog = new EventCatalog(events);
+        synchronized (EventDAO.class) {
+            if (catalogVersion.get() == version) {
+                cachedCatalog = catalog;
+            }
+        }
+        
+        return catalog;
+    }
+    
+    /**
+     * Read every event from the database
+     * @return List of events, or null if the query failed
+     */
+    private List<Event> loadAllEvents() {
         String sql = "SELECT id, event_name, description FROM events ORDER BY event_name";
         
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
-        List<Map<String, Object>> events = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
         
         try {
             connection = DBConnection.getConnection();
@@ -30,21 +99,17 @@ public class EventDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> event = new HashMap<>();
-                event.put("id", resultSet.getInt("id"));
-                event.put("event_name", resultSet.getString("event_name"));
-                event.put("description", resultSet.getString("description"));
-                
-                events.add(event);
+                events.add(new Event(resultSet.getInt(1), resultSet.getString(2), resultSet.getString(3)));
             }
             
+            return events;
+            
         } catch (SQLException e) {
             System.err.println("Error fetching events: " + e.getMessage());
+            return null;
         } finally {
             closeResources(connection, statement, resultSet);
         }
-        
-        return events;
     }
     
     /**
@@ -71,6 +136,7 @@ public class EventDAO {
             
             if (rowsAffected > 0) {
                 generatedKeys = statement.getGeneratedKeys();
+                invalidateCatalog();
                 if (generatedKeys.next()) {
                     return generatedKeys.getInt(1);
                 }
@@ -108,6 +174,13 @@ public class EventDAO {
             statement.setInt(3, eventId);
             
             int rowsAffected = statement.executeUpdate();
+            if (rowsAffected > 0) {
+                invalidateCatalog();
+                // A rename cascades to registrations, which the per-event counters and the duplicate index cannot follow
+                RegistrationStatistics.invalidate();
+                RegistrationIndex.invalidate();
+                DashboardEvents.statisticsInvalidated("event renamed");
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
@@ -150,6 +223,9 @@ public class EventDAO {
             deleteStatement.setInt(1, eventId);
             
             int rowsAffected = deleteStatement.executeUpdate();
+            if (rowsAffected > 0) {
+                invalidateCatalog();
+            }
             return rowsAffected > 0;
             
         } catch (SQLException e) {
@@ -170,38 +246,11 @@ public class EventDAO {
     /**
      * Get event by ID
      * @param eventId Event ID
-     * @return Event map or null if not found
+     * @return Event or null if not found
      */
-    public Map<String, Object> getEventById(int eventId) {
-        String sql = "SELECT id, event_name, description FROM events WHERE id = ?";
-        
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
-        
-        try {
-            connection = DBConnection.getConnection();
-            statement = connection.prepareStatement(sql);
-            statement.setInt(1, eventId);
-            
-            resultSet = statement.executeQuery();
-            
-            if (resultSet.next()) {
-                Map<String, Object> event = new HashMap<>();
-                event.put("id", resultSet.getInt("id"));
-                event.put("event_name", resultSet.getString("event_name"));
-                event.put("description", resultSet.getString("description"));
-                
-                return event;
-            }
-            
-        } catch (SQLException e) {
-            System.err.println("Error fetching event by ID: " + e.getMessage());
-        } finally {
-            closeResources(connection, statement, resultSet);
-        }
-        
-        return null;
+    public Event getEventById(int eventId) {
+        EventCatalog catalog = getCatalog();
+        return catalog != null ? catalog.eventsById.get(eventId) : null;
     }
     
     /**
@@ -289,4 +338,31 @@ public class EventDAO {
         
         DBConnection.closeConnection(connection);
     }
+    
+    /**
+     * Immutable snapshot of the events table with an ID index and content-derived ETag
+     */
+    private static final class EventCatalog {
+        
+        private final List<Event> events;
+        private final Map<Integer, Event> eventsById;
+        private final String etag;
+        private final long loadedAt;
+        
+        EventCatalog(List<Event> events) {
+            Map<Integer, Event> byId = new HashMap<>();
+            CRC32 checksum = new CRC32();
+            
+            for (Event event : events) {
+                byId.put(event.getId(), event);
+                String row = event.getId() + "\u0000" + event.getName() + "\u0000" + event.getDescription() + "\n";
+                checksum.update(row.getBytes(StandardCharsets.UTF_8));
+            }
+            
+            this.events = Collections.unmodifiableList(events);
+            this.eventsById = Collections.unmodifiableMap(byId);
+            this.etag = "\"events-" + events.size() + "-" + Long.toHexString(checksum.getValue()) + "\"";
+            this.loadedAt = System.currentTimeMillis();
+        }
+    }
 }
@@ -0,0 +1,293 @@
+package com.event.dao;
+
+import com.event.model.BackgroundJob;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Access Object for background jobs
+ * Persists job state and progress so status survives across requests and server restarts
+ */
+public class JobDAO {
+
+    private static final String JOB_COLUMNS = "id, job_type, status, admin_id, description, progress_done, " +
+                                             "progress_total, message, artifact_name, artifact_content_type, " +
+                                             "artifact_size, created_at, started_at, finished_at";
+
+    private static final String NODE_ID = resolveNodeId();
+
+    /**
+     * Record a newly submitted job
+     * @param id Job ID
+     * @param jobType Job type, e.g. "export"
+     * @param adminId Admin who submitted the job
+     * @param description Human-readable summary
+     * @return true if stored, false otherwise
+     */
+    public boolean createJob(String id, String jobType, int adminId, String description) {
+        String sql = "INSERT INTO jobs (id, job_type, status, admin_id, description, node_id, created_at) " +
+                    "VALUES (?, ?, 'queued', ?, ?, ?, NOW())";
+        return update(sql, "creating job", id, jobType, adminId, truncate(description), NODE_ID);
+    }
+
+    /**
+     * Mark a queued job as started
+     * @param id Job ID
+     * @return true if the job was still queued, false if it was cancelled meanwhile or the update failed
+     */
+    public boolean markRunning(String id) {
+        String sql = "UPDATE jobs SET status = 'running', started_at = NOW() WHERE id = ? AND status = 'queued'";
+        return update(sql, "starting job", id);
+    }
+
+    /**
+     * Store job progress
+     * @param id Job ID
+     * @param done Work done so far
+     * @param total Expected work, -1 if unknown
+     * @return true if updated, false otherwise
+     */
+    public boolean updateProgress(String id, long done, long total) {
+        String sql = "UPDATE jobs SET progress_done = ?, progress_total = ? WHERE id = ? AND status = 'running'";
+        return update(sql, "updating job progress", done, total, id);
+    }
+
+    /**
+     * Mark a job as completed
+     * @param id Job ID
+     * @param done Final amount of work done
+     * @param total Final expected work, -1 if unknown
+     * @param message Result summary
+     * @param artifactName Download file name, or null if the job produced no file
+     * @param artifactContentType Download content type
+     * @param artifactSize Download size in bytes
+     * @return true if the job was still running, false if it was finished meanwhile or the update failed
+     */
+    public boolean markCompleted(String id, long done, long total, String message,
+                                 String artifactName, String artifactContentType, long artifactSize) {
+        String sql = "UPDATE jobs SET status = 'completed', progress_done = ?, progress_total = ?, message = ?, " +
+                    "artifact_name = ?, artifact_content_type = ?, artifact_size = ?, finished_at = NOW() " +
+                    "WHERE id = ? AND status = 'running'";
+        return update(sql, "completing job", done, total, truncate(message),
+            artifactName, artifactContentType, artifactSize, id);
+    }
+
+    /**
+     * Mark a job as failed or cancelled
+     * @param id Job ID
+     * @param status BackgroundJob.STATUS_FAILED or BackgroundJob.STATUS_CANCELLED
+     * @param message Reason shown to the admin
+     * @return true if the job was not already finished, false otherwise
+     */
+    public boolean markFinished(String id, String status, String message) {
+        String sql = "UPDATE jobs SET status = ?, message = ?, finished_at = NOW() " +
+                    "WHERE id = ? AND status IN ('queued', 'running')";
+        return update(sql, "finishing job", status, truncate(message), id);
+    }
+
+    /**
+     * Fail jobs this node left queued or running before it restarted
+     * Jobs of other instances sharing the database are left alone; jobs without a node predate node tracking
+     * @return Number of jobs marked as failed, or -1 if the update failed
+     */
+    public int failInterruptedJobs() {
+        String sql = "UPDATE jobs SET status = 'failed', message = 'Interrupted by server restart', finished_at = NOW() " +
+                    "WHERE status IN ('queued', 'running') AND (node_id = ? OR node_id IS NULL)";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setString(1, NODE_ID);
+            return statement.executeUpdate();
+
+        } catch (SQLException e) {
+            System.err.println("Error failing interrupted jobs: " + e.getMessage());
+            return -1;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    /**
+     * Delete finished jobs older than a cutoff
+     * @param finishedBefore Jobs finished before this time are deleted
+     * @return IDs of the deleted jobs, so their artifacts can be removed
+     */
+    public List<String> deleteFinishedJobs(Timestamp finishedBefore) {
+        String sql = "DELETE FROM jobs WHERE finished_at < ? RETURNING id";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        List<String> ids = new ArrayList<>();
+
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setTimestamp(1, finishedBefore);
+
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                ids.add(resultSet.getString(1));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting finished jobs: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return ids;
+    }
+
+    /**
+     * Get a job by ID
+     * @param id Job ID
+     * @return Job, or null if not found or the database could not be read
+     */
+    public BackgroundJob getJob(String id) {
+        String sql = "SELECT " + JOB_COLUMNS + " FROM jobs WHERE id = ?";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setString(1, id);
+
+            resultSet = statement.executeQuery();
+            return resultSet.next() ? mapJob(resultSet) : null;
+
+        } catch (SQLException e) {
+            System.err.println("Error fetching job: " + e.getMessage());
+            return null;
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+    }
+
+    /**
+     * Get the most recently submitted jobs
+     * @param limit Maximum number of jobs
+     * @return Jobs, newest first
+     */
+    public List<BackgroundJob> getRecentJobs(int limit) {
+        String sql = "SELECT " + JOB_COLUMNS + " FROM jobs ORDER BY created_at DESC LIMIT ?";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        List<BackgroundJob> jobs = new ArrayList<>();
+
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setInt(1, limit);
+
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                jobs.add(mapJob(resultSet));
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error fetching jobs: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        return jobs;
+    }
+
+    private static BackgroundJob mapJob(ResultSet resultSet) throws SQLException {
+        return new BackgroundJob(resultSet.getString(1), resultSet.getString(2), resultSet.getString(3),
+            resultSet.getInt(4), resultSet.getString(5), resultSet.getLong(6), resultSet.getLong(7),
+            resultSet.getString(8), resultSet.getString(9), resultSet.getString(10), resultSet.getLong(11),
+            resultSet.getTimestamp(12), resultSet.getTimestamp(13), resultSet.getTimestamp(14));
+    }
+
+    /**
+     * Get the node that jobs submitted by this instance are recorded under
+     * @return Node ID
+     */
+    public static String getNodeId() {
+        return NODE_ID;
+    }
+
+    /**
+     * Node ID from JOB_NODE_ID, or the host name when it is not set
+     * It must stay the same across restarts, so set JOB_NODE_ID when several instances run on one host
+     */
+    private static String resolveNodeId() {
+        String value = System.getenv("JOB_NODE_ID");
+        if (value == null || value.trim().isEmpty()) {
+            try {
+                value = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                value = "localhost";
+            }
+        }
+        value = value.trim();
+        // Fits the node_id column
+        return value.length() > 64 ? value.substring(0, 64) : value;
+    }
+
+    /**
+     * Run a single-row update
+     * @return true if a row was updated
+     */
+    private boolean update(String sql, String operation, Object... parameters) {
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return statement.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error " + operation + ": " + e.getMessage());
+            return false;
+        } finally {
+            closeResources(connection, statement, null);
+        }
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 500 ? value.substring(0, 500) : value;
+    }
+
+    /**
+     * Close database resources safely
+     */
+    private void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing ResultSet: " + e.getMessage());
+            }
+        }
+
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing PreparedStatement: " + e.getMessage());
+            }
+        }
+
+        DBConnection.closeConnection(connection);
+    }
+}
@@ -0,0 +1,177 @@
+package com.event.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Physical database connection owned by the ConnectionPool
+ * Hands out a fresh proxy per lease so close() returns the connection instead of dropping it
+ */
+class PooledConnection {
+
+    private final ConnectionPool pool;
+    private final Connection physicalConnection;
+    private final StatementCache statementCache;
+    private final long createdAt;
+
+    private volatile long lastReturnedAt;
+    private volatile long leasedAt;
+    private volatile long leasedAtNanos;
+    private volatile String borrower;
+    private volatile Throwable leaseStackTrace;
+    private volatile boolean leakReported;
+
+    PooledConnection(ConnectionPool pool, Connection physicalConnection, int statementCacheSize) {
+        this.pool = pool;
+        this.physicalConnection = physicalConnection;
+        this.statementCache = statementCacheSize > 0
+            ? new StatementCache(physicalConnection, pool, statementCacheSize) : null;
+        this.createdAt = System.currentTimeMillis();
+        this.lastReturnedAt = createdAt;
+    }
+
+    /**
+     * Mark the connection as leased and build the proxy the DAO will see
+     * @param stackTrace Borrow site captured for leak reports, or null when leak detection is off
+     * @param borrower DAO method the lease is timed under, or null when this borrow was not sampled
+     * @return Connection proxy bound to this lease
+     */
+    Connection lease(Throwable stackTrace, String borrower) {
+        leasedAt = System.currentTimeMillis();
+        leasedAtNanos = System.nanoTime();
+        this.borrower = borrower;
+        leaseStackTrace = stackTrace;
+        leakReported = false;
+
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new LeaseHandler());
+    }
+
+    /**
+     * Restore connection defaults before it goes back to the idle queue
+     * @return true if the connection is still usable, false if it should be discarded
+     */
+    boolean reset() {
+        if (statementCache != null) {
+            statementCache.releaseAll();
+        }
+        
+        try {
+            if (!physicalConnection.getAutoCommit()) {
+                physicalConnection.rollback();
+                physicalConnection.setAutoCommit(true);
+            }
+            physicalConnection.clearWarnings();
+            lastReturnedAt = System.currentTimeMillis();
+            leaseStackTrace = null;
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error resetting pooled connection: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Close the underlying database connection
+     */
+    void closePhysical() {
+        if (statementCache != null) {
+            statementCache.closeAll();
+        }
+        
+        try {
+            physicalConnection.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    Connection getPhysicalConnection() {
+        return physicalConnection;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastReturnedAt() {
+        return lastReturnedAt;
+    }
+
+    long getLeasedAt() {
+        return leasedAt;
+    }
+
+    long getLeasedAtNanos() {
+        return leasedAtNanos;
+    }
+
+    String getBorrower() {
+        return borrower;
+    }
+
+    Throwable getLeaseStackTrace() {
+        return leaseStackTrace;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported(boolean leakReported) {
+        this.leakReported = leakReported;
+    }
+
+    /**
+     * Invocation handler for a single lease of the physical connection
+     */
+    private class LeaseHandler implements InvocationHandler {
+
+        private boolean returned;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            switch (name) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        pool.release(PooledConnection.this);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physicalConnection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physicalConnection + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+
+            // Plain prepareStatement(sql) calls are served from the per-connection cache
+            if (statementCache != null && "prepareStatement".equals(name) && args.length == 1) {
+                return statementCache.prepare((String) args[0]);
+            }
+
+            try {
+                return method.invoke(physicalConnection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.event.dao;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind batcher for participant registrations
+ * Queues registrations from request threads and stores them in batches from a single writer thread
+ */
+public class RegistrationBatcher {
+
+    private final RegistrationDAO registrationDAO;
+    private final BlockingQueue<PendingRegistration> queue;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final Thread writerThread;
+
+    private final AtomicLong batchesFlushed = new AtomicLong();
+    private final AtomicLong registrationsFlushed = new AtomicLong();
+    private final AtomicLong batchFallbacks = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    /**
+     * Create and start a batcher
+     * @param registrationDAO DAO used to store batches
+     * @param queueCapacity Maximum number of registrations waiting to be written
+     * @param maxBatchSize Flush as soon as this many registrations are queued
+     * @param maxDelayMillis Flush at the latest this long after the first registration of a batch arrives
+     */
+    public RegistrationBatcher(RegistrationDAO registrationDAO, int queueCapacity,
+                               int maxBatchSize, long maxDelayMillis) {
+        this.registrationDAO = registrationDAO;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+
+        this.writerThread = new Thread(this::runWriter, "eventtech-registration-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queue a registration for the next batch
+     * The future is completed on the writer thread; callers must not do slow work in its callbacks
+     * @param request Registration to store
+     * @return Future completed once the batch is committed, or null if the queue is full or shut down
+     */
+    public CompletableFuture<RegistrationResult> submit(RegistrationRequest request) {
+        if (!running) {
+            return null;
+        }
+
+        PendingRegistration pending = new PendingRegistration(request);
+        if (!queue.offer(pending)) {
+            return null;
+        }
+
+        // Shutdown may have drained the queue between the check above and the offer; if nobody
+        // took this registration, withdraw it so the caller stores it directly
+        if (!running && queue.remove(pending)) {
+            return null;
+        }
+        return pending.future;
+    }
+
+    /**
+     * Stop accepting registrations and flush whatever is still queued
+     * @param timeoutMillis How long to wait for the writer to drain the queue
+     */
+    public void shutdown(long timeoutMillis) {
+        running = false;
+
+        try {
+            writerThread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Anything the writer could not reach is reported as failed rather than left hanging
+        PendingRegistration pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future.complete(RegistrationResult.failed());
+        }
+    }
+
+    /**
+     * Get batcher statistics
+     * @return Map of queue depth and flush counters
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("batches_flushed", batchesFlushed.get());
+        stats.put("registrations_flushed", registrationsFlushed.get());
+        stats.put("batch_fallbacks", batchFallbacks.get());
+        return stats;
+    }
+
+    /**
+     * Writer loop: collect a batch until it is full or the delay expires, then flush it
+     */
+    private void runWriter() {
+        List<PendingRegistration> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRegistration first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || remaining <= 0) {
+                        break;
+                    }
+
+                    PendingRegistration next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (RuntimeException e) {
+                System.err.println("Error in registration writer: " + e.getMessage());
+                e.printStackTrace();
+                for (PendingRegistration pending : batch) {
+                    pending.future.complete(RegistrationResult.failed());
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Store one batch; if the batch is rejected as a whole, retry row by row so one bad row
+     * (for example an unknown event) cannot fail everyone else's registration
+     */
+    private void flush(List<PendingRegistration> batch) {
+        List<RegistrationRequest> requests = new ArrayList<>(batch.size());
+        for (PendingRegistration pending : batch) {
+            requests.add(pending.request);
+        }
+
+        try {
+            List<RegistrationResult> results = registrationDAO.registerBatchWithCertificates(requests);
+            batchesFlushed.incrementAndGet();
+            registrationsFlushed.addAndGet(batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future.complete(results.get(i));
+            }
+        } catch (SQLException e) {
+            System.err.println("Registration batch of " + batch.size() + " failed, retrying individually: " + e.getMessage());
+            batchFallbacks.incrementAndGet();
+
+            for (PendingRegistration pending : batch) {
+                RegistrationRequest request = pending.request;
+                pending.future.complete(registrationDAO.registerWithCertificate(
+                    request.getName(), request.getEmail(), request.getCollege(), request.getEvent()));
+            }
+        }
+    }
+
+    /**
+     * Queued registration and the future its request thread is waiting on
+     */
+    private static class PendingRegistration {
+
+        private final RegistrationRequest request;
+        private final CompletableFuture<RegistrationResult> future = new CompletableFuture<>();
+
+        PendingRegistration(RegistrationRequest request) {
+            this.request = request;
+        }
+    }
+}
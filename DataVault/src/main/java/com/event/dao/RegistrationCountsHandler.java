@@ -0,0 +1,19 @@
+package com.event.dao;
+
+import java.io.IOException;
+
+/**
+ * Callback for the totals of a registration stream, called before its first row
+ * The totals and the rows are read from the same snapshot, so they always agree
+ */
+@FunctionalInterface
+public interface RegistrationCountsHandler {
+
+    /**
+     * Handle the totals of the rows about to be streamed
+     * @param totalRegistrations Registrations matching the filter
+     * @param winners Winners among them
+     * @throws IOException if writing the totals fails (for example the client disconnected)
+     */
+    void handleCounts(int totalRegistrations, int winners) throws IOException;
+}
@@ -1,10 +1,19 @@
 package com.event.dao;
 
+import com.event.events.DashboardEvents;
+import com.event.metrics.Metrics;
+import com.event.model.Registration;
+
+import java.io.IOException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Data Access Object for Registration operations
@@ -12,6 +21,15 @@ import java.util.Map;
  */
 public class RegistrationDAO {
     
+    // Rows fetched per round-trip when streaming; keeps export memory flat regardless of table size
+    private static final int STREAM_FETCH_SIZE = 1000;
+    
+    // Column order expected by mapRegistration and the streaming row handler
+    static final String REGISTRATION_COLUMNS = "id, name, email, college, event, registration_date, winner_status";
+    
+    // Exact registration count shared by all DAO instances: {count, time loaded in millis}
+    private static volatile long[] cachedTotalCount;
+    
     /**
      * Register a new participant for an event
      * @param name Full name of participant
@@ -39,10 +57,18 @@ public class RegistrationDAO {
             int rowsAffected = statement.executeUpdate();
             
             if (rowsAffected > 0) {
+                RegistrationIndex.recordRegistered(email.trim().toLowerCase(), event.trim());
                 generatedKeys = statement.getGeneratedKeys();
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
+                int registrationId = generatedKeys.next() ? generatedKeys.getInt(1) : -1;
+                
+                synchronized (RegistrationStatistics.updateLock()) {
+                    RegistrationStatistics.recordRegistration(event.trim());
+                    if (registrationId > 0) {
+                        DashboardEvents.registrationsCreated(Collections.singletonList(new Registration(registrationId,
+                            name.trim(), email.trim().toLowerCase(), college.trim(), event.trim(), null, false)), 0);
+                    }
                 }
+                return registrationId;
             }
             
             return -1;
@@ -55,6 +81,274 @@ public class RegistrationDAO {
         }
     }
     
+    /**
+     * Register a participant and issue the participation certificate in one transaction
+     * The duplicate check is done by the (email, event) unique constraint instead of a
+     * separate SELECT, so concurrent submits of the same form cannot both succeed
+     * @param name Full name of participant
+     * @param email Email address
+     * @param college College name
+     * @param event Event name
+     * @return Registration result with certificate data, or duplicate/failed status
+     */
+    public RegistrationResult registerWithCertificate(String name, String email, String college, String event) {
+        String insertSql = "INSERT INTO registrations (name, email, college, event, registration_date, winner_status) " +
+                          "VALUES (?, ?, ?, ?, NOW(), 0) ON CONFLICT (email, event) DO NOTHING " +
+                          "RETURNING id, registration_date";
+        String certificateSql = "INSERT INTO certificate_log (registration_id, certificate_type, certificate_id, generated_date) " +
+                               "VALUES (?, 'participation', ?, NOW())";
+        
+        Connection connection = null;
+        PreparedStatement insertStatement = null;
+        PreparedStatement certificateStatement = null;
+        ResultSet resultSet = null;
+        
+        String trimmedName = name.trim();
+        String normalizedEmail = email.trim().toLowerCase();
+        String trimmedCollege = college.trim();
+        String trimmedEvent = event.trim();
+        
+        try {
+            connection = DBConnection.getConnection();
+            connection.setAutoCommit(false);
+            
+            insertStatement = connection.prepareStatement(insertSql);
+            insertStatement.setString(1, trimmedName);
+            insertStatement.setString(2, normalizedEmail);
+            insertStatement.setString(3, trimmedCollege);
+            insertStatement.setString(4, trimmedEvent);
+            
+            resultSet = insertStatement.executeQuery();
+            
+            if (!resultSet.next()) {
+                // Conflict on (email, event): already registered
+                connection.rollback();
+                RegistrationIndex.recordRegistered(normalizedEmail, trimmedEvent);
+                return RegistrationResult.duplicate();
+            }
+            
+            int registrationId = resultSet.getInt("id");
+            Timestamp registrationDate = resultSet.getTimestamp("registration_date");
+            String certificateId = CertificateDAO.generateCertificateId("participation");
+            
+            certificateStatement = connection.prepareStatement(certificateSql);
+            certificateStatement.setInt(1, registrationId);
+            certificateStatement.setString(2, certificateId);
+            certificateStatement.executeUpdate();
+            
+            connection.commit();
+            
+            RegistrationIndex.recordRegistered(normalizedEmail, trimmedEvent);
+            CertificateDAO.recordIssuedCertificate(certificateId);
+            synchronized (RegistrationStatistics.updateLock()) {
+                RegistrationStatistics.recordRegistration(trimmedEvent);
+                RegistrationStatistics.recordCertificateIssued("participation");
+                DashboardEvents.registrationsCreated(Collections.singletonList(new Registration(registrationId,
+                    trimmedName, normalizedEmail, trimmedCollege, trimmedEvent, registrationDate, false)), 1);
+            }
+            
+            return RegistrationResult.created(registrationId, CertificateDAO.buildCertificateData(
+                registrationId, trimmedName, normalizedEmail, trimmedCollege, trimmedEvent,
+                registrationDate, false, "participation", certificateId));
+            
+        } catch (SQLException e) {
+            System.err.println("Error registering participant with certificate: " + e.getMessage());
+            rollbackQuietly(connection);
+            return RegistrationResult.failed();
+        } finally {
+            if (certificateStatement != null) {
+                try {
+                    certificateStatement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing certificate statement: " + e.getMessage());
+                }
+            }
+            closeResources(connection, insertStatement, resultSet);
+        }
+    }
+    
+    /**
+     * Register a batch of participants and issue their participation certificates in one transaction
+     * Rows are sent as arrays so the SQL text stays constant whatever the batch size
+     * @param requests Normalized registration requests
+     * @return One result per request, in the same order
+     * @throws SQLException if the batch fails as a whole (nothing is stored)
+     */
+    public List<RegistrationResult> registerBatchWithCertificates(List<RegistrationRequest> requests) throws SQLException {
+        String insertSql = "INSERT INTO registrations (name, email, college, event, registration_date, winner_status) " +
+                          "SELECT n, e, c, ev, NOW(), 0 FROM unnest(?::text[], ?::text[], ?::text[], ?::text[]) AS t(n, e, c, ev) " +
+                          "ON CONFLICT (email, event) DO NOTHING " +
+                          "RETURNING id, email, event, registration_date";
+        String certificateSql = "INSERT INTO certificate_log (registration_id, certificate_type, certificate_id, generated_date) " +
+                               "SELECT r, 'participation', c, NOW() FROM unnest(?::int[], ?::text[]) AS t(r, c)";
+        
+        List<RegistrationResult> results = new ArrayList<>(requests.size());
+        
+        // Duplicates inside the batch itself never reach the database
+        List<RegistrationRequest> unique = new ArrayList<>(requests.size());
+        Set<String> seenKeys = new HashSet<>();
+        for (RegistrationRequest request : requests) {
+            if (seenKeys.add(request.getDuplicateKey())) {
+                unique.add(request);
+            }
+        }
+        
+        Connection connection = null;
+        PreparedStatement insertStatement = null;
+        PreparedStatement certificateStatement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            connection.setAutoCommit(false);
+            
+            String[] names = new String[unique.size()];
+            String[] emails = new String[unique.size()];
+            String[] colleges = new String[unique.size()];
+            String[] events = new String[unique.size()];
+            for (int i = 0; i < unique.size(); i++) {
+                RegistrationRequest request = unique.get(i);
+                names[i] = request.getName();
+                emails[i] = request.getEmail();
+                colleges[i] = request.getCollege();
+                events[i] = request.getEvent();
+            }
+            
+            insertStatement = connection.prepareStatement(insertSql);
+            insertStatement.setArray(1, connection.createArrayOf("text", names));
+            insertStatement.setArray(2, connection.createArrayOf("text", emails));
+            insertStatement.setArray(3, connection.createArrayOf("text", colleges));
+            insertStatement.setArray(4, connection.createArrayOf("text", events));
+            
+            resultSet = insertStatement.executeQuery();
+            
+            Map<String, Object[]> inserted = new HashMap<>();
+            while (resultSet.next()) {
+                String key = RegistrationRequest.duplicateKey(resultSet.getString("email"), resultSet.getString("event"));
+                inserted.put(key, new Object[] { resultSet.getInt("id"), resultSet.getTimestamp("registration_date") });
+            }
+            
+            Integer[] certificateRegistrationIds = new Integer[inserted.size()];
+            String[] certificateIds = new String[inserted.size()];
+            Map<String, String> certificateIdsByKey = new HashMap<>();
+            int index = 0;
+            for (Map.Entry<String, Object[]> entry : inserted.entrySet()) {
+                int registrationId = (Integer) entry.getValue()[0];
+                String certificateId = CertificateDAO.generateCertificateId("participation");
+                certificateRegistrationIds[index] = registrationId;
+                certificateIds[index] = certificateId;
+                certificateIdsByKey.put(entry.getKey(), certificateId);
+                index++;
+            }
+            
+            if (!inserted.isEmpty()) {
+                certificateStatement = connection.prepareStatement(certificateSql);
+                certificateStatement.setArray(1, connection.createArrayOf("int4", certificateRegistrationIds));
+                certificateStatement.setArray(2, connection.createArrayOf("text", certificateIds));
+                certificateStatement.executeUpdate();
+            }
+            
+            connection.commit();
+            
+            for (String certificateId : certificateIds) {
+                CertificateDAO.recordIssuedCertificate(certificateId);
+            }
+            
+            // Each inserted row belongs to the first request with its key; everything else is a duplicate
+            List<Registration> created = new ArrayList<>(inserted.size());
+            for (RegistrationRequest request : requests) {
+                // Inserted or not, the pair is now stored
+                RegistrationIndex.recordRegistered(request.getEmail(), request.getEvent());
+                
+                Object[] row = inserted.remove(request.getDuplicateKey());
+                if (row == null) {
+                    results.add(RegistrationResult.duplicate());
+                    continue;
+                }
+                
+                int registrationId = (Integer) row[0];
+                created.add(new Registration(registrationId, request.getName(), request.getEmail(),
+                    request.getCollege(), request.getEvent(), (Timestamp) row[1], false));
+                results.add(RegistrationResult.created(registrationId, CertificateDAO.buildCertificateData(
+                    registrationId, request.getName(), request.getEmail(), request.getCollege(),
+                    request.getEvent(), (Timestamp) row[1], false, "participation",
+                    certificateIdsByKey.get(request.getDuplicateKey()))));
+            }
+            
+            synchronized (RegistrationStatistics.updateLock()) {
+                for (Registration registration : created) {
+                    RegistrationStatistics.recordRegistration(registration.getEvent());
+                    RegistrationStatistics.recordCertificateIssued("participation");
+                }
+                // One event for the whole batch keeps registration bursts from flooding the dashboards
+                DashboardEvents.registrationsCreated(created, created.size());
+            }
+            
+            return results;
+            
+        } catch (SQLException e) {
+            rollbackQuietly(connection);
+            throw e;
+        } finally {
+            if (certificateStatement != null) {
+                try {
+                    certificateStatement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing certificate statement: " + e.getMessage());
+                }
+            }
+            closeResources(connection, insertStatement, resultSet);
+        }
+    }
+    
+    /**
+     * Look up a stored registration with its participation certificate
+     * Used when the outcome of a queued registration is unknown, e.g. its batch did not finish in time
+     * @param email Normalized email
+     * @param event Trimmed event name
+     * @return Created result for the stored registration, or null if it is not stored (or the lookup failed)
+     */
+    public RegistrationResult findRegistration(String email, String event) {
+        String sql = "SELECT r.id, r.name, r.email, r.college, r.event, r.registration_date, r.winner_status, c.certificate_id " +
+                    "FROM registrations r JOIN certificate_log c ON c.registration_id = r.id " +
+                    "AND c.certificate_type = 'participation' " +
+                    "WHERE r.email = ? AND r.event = ? ORDER BY c.generated_date LIMIT 1";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            statement.setString(1, email);
+            statement.setString(2, event);
+            
+            resultSet = statement.executeQuery();
+            
+            if (resultSet.next()) {
+                int registrationId = resultSet.getInt("id");
+                return RegistrationResult.created(registrationId, CertificateDAO.buildCertificateData(
+                    registrationId,
+                    resultSet.getString("name"),
+                    resultSet.getString("email"),
+                    resultSet.getString("college"),
+                    resultSet.getString("event"),
+                    resultSet.getTimestamp("registration_date"),
+                    resultSet.getBoolean("winner_status"),
+                    "participation",
+                    resultSet.getString("certificate_id")));
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error looking up registration: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return null;
+    }
+    
     /**
      * Check if email is already registered for a specific event
      * @param email Email to check
@@ -64,6 +358,11 @@ public class RegistrationDAO {
     public boolean isEmailRegistered(String email, String event) {
         String sql = "SELECT COUNT(*) FROM registrations WHERE email = ? AND event = ?";
         
+        // Known pairs are answered from memory; anything else may have been stored by another instance
+        if (RegistrationIndex.isKnownDuplicate(email.trim().toLowerCase(), event.trim())) {
+            return true;
+        }
+        
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -94,16 +393,16 @@ public class RegistrationDAO {
      * Get all registrations with pagination
      * @param offset Starting position
      * @param limit Number of records to fetch
-     * @return List of registration maps
+     * @return List of registrations
      */
-    public List<Map<String, Object>> getAllRegistrations(int offset, int limit) {
-        String sql = "SELECT id, name, email, college, event, registration_date, winner_status " +
+    public List<Registration> getAllRegistrations(int offset, int limit) {
+        String sql = "SELECT " + REGISTRATION_COLUMNS + " " +
                     "FROM registrations ORDER BY registration_date DESC LIMIT ? OFFSET ?";
         
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
-        List<Map<String, Object>> registrations = new ArrayList<>();
+        List<Registration> registrations = new ArrayList<>();
         
         try {
             connection = DBConnection.getConnection();
@@ -114,16 +413,7 @@ public class RegistrationDAO {
             resultSet = statement.executeQuery();
             
             while (resultSet.next()) {
-                Map<String, Object> registration = new HashMap<>();
-                registration.put("id", resultSet.getInt("id"));
-                registration.put("name", resultSet.getString("name"));
-                registration.put("email", resultSet.getString("email"));
-                registration.put("college", resultSet.getString("college"));
-                registration.put("event", resultSet.getString("event"));
-                registration.put("registration_date", resultSet.getTimestamp("registration_date"));
-                registration.put("winner_status", resultSet.getBoolean("winner_status"));
-                
-                registrations.add(registration);
+                registrations.add(mapRegistration(resultSet));
             }
             
         } catch (SQLException e) {
@@ -132,9 +422,236 @@ public class RegistrationDAO {
             closeResources(connection, statement, resultSet);
         }
         
+        Metrics.recordRows("RegistrationDAO.getAllRegistrations", registrations.size());
         return registrations;
     }
     
+    /**
+     * Get the registrations matching a filter
+     * @param filter Criteria to apply in SQL
+     * @return List of registrations, newest first
+     */
+    public List<Registration> getRegistrations(RegistrationFilter filter) {
+        String sql = "SELECT " + REGISTRATION_COLUMNS + " " +
+                    "FROM registrations" + filter.toWhereClause() + " ORDER BY registration_date DESC";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        List<Registration> registrations = new ArrayList<>();
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            filter.bindParameters(statement, 1);
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                registrations.add(mapRegistration(resultSet));
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error fetching filtered registrations: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        Metrics.recordRows("RegistrationDAO.getRegistrations", registrations.size());
+        return registrations;
+    }
+    
+    /**
+     * Stream all registrations to a handler without materializing them
+     * Uses a server-side cursor (fetch size with auto-commit off) so only one fetch is held in memory
+     * @param handler Callback invoked once per row, newest registration first
+     * @return Number of rows streamed
+     * @throws SQLException if the query fails
+     * @throws IOException if the handler fails to write a row
+     */
+    public int streamRegistrations(RegistrationRowHandler handler) throws SQLException, IOException {
+        return streamRegistrations(new RegistrationFilter(), handler);
+    }
+    
+    /**
+     * Stream the registrations matching a filter to a handler without materializing them
+     * @param filter Criteria to apply in SQL
+     * @param handler Callback invoked once per row, newest registration first
+     * @return Number of rows streamed
+     * @throws SQLException if the query fails
+     * @throws IOException if the handler fails to write a row
+     */
+    public int streamRegistrations(RegistrationFilter filter, RegistrationRowHandler handler)
+            throws SQLException, IOException {
+        return streamRegistrations(filter, null, handler);
+    }
+    
+    /**
+     * Stream the registrations matching a filter, preceded by their totals
+     * The count and the rows run in one REPEATABLE READ transaction, so the totals match the rows exactly
+     * @param filter Criteria to apply in SQL
+     * @param countsHandler Callback invoked once with the totals before the first row, or null to skip counting
+     * @param handler Callback invoked once per row, newest registration first
+     * @return Number of rows streamed
+     * @throws SQLException if a query fails
+     * @throws IOException if a handler fails to write
+     */
+    public int streamRegistrations(RegistrationFilter filter, RegistrationCountsHandler countsHandler,
+                                   RegistrationRowHandler handler) throws SQLException, IOException {
+        String sql = "SELECT " + REGISTRATION_COLUMNS + " " +
+                    "FROM registrations" + filter.toWhereClause() + " ORDER BY registration_date DESC";
+        String countSql = "SELECT COUNT(*), COALESCE(SUM(CASE WHEN winner_status = 1 THEN 1 ELSE 0 END), 0) " +
+                         "FROM registrations" + filter.toWhereClause();
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        int rowCount = 0;
+        
+        try {
+            connection = DBConnection.getStreamingConnection();
+            // The PostgreSQL driver only uses a cursor inside a transaction
+            connection.setAutoCommit(false);
+            
+            if (countsHandler != null) {
+                // Transaction-scoped, so the pooled connection keeps its default isolation afterwards
+                statement = connection.prepareStatement("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+                statement.execute();
+                statement.close();
+                
+                statement = connection.prepareStatement(countSql);
+                filter.bindParameters(statement, 1);
+                resultSet = statement.executeQuery();
+                resultSet.next();
+                int totalRegistrations = resultSet.getInt(1);
+                int winners = resultSet.getInt(2);
+                resultSet.close();
+                statement.close();
+                
+                countsHandler.handleCounts(totalRegistrations, winners);
+            }
+            
+            statement = connection.prepareStatement(sql);
+            filter.bindParameters(statement, 1);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                handler.handleRow(
+                    resultSet.getInt(1),
+                    resultSet.getString(2),
+                    resultSet.getString(3),
+                    resultSet.getString(4),
+                    resultSet.getString(5),
+                    resultSet.getTimestamp(6),
+                    resultSet.getBoolean(7));
+                rowCount++;
+            }
+            
+            connection.commit();
+            Metrics.recordRows("RegistrationDAO.streamRegistrations", rowCount);
+            return rowCount;
+            
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+    }
+    
+    /**
+     * Get a page of registrations after a keyset cursor (seek pagination)
+     * Cost does not grow with page depth because the (registration_date, id) position is seeked directly
+     * @param afterDate Registration date of the last row of the previous page, or null for the first page
+     * @param afterId ID of the last row of the previous page (ignored for the first page)
+     * @param limit Number of records to fetch
+     * @return List of registrations ordered by registration_date DESC, id DESC
+     */
+    public List<Registration> getRegistrationsAfter(Timestamp afterDate, int afterId, int limit) {
+        String sql = "SELECT " + REGISTRATION_COLUMNS + " FROM registrations " +
+                    (afterDate != null ? "WHERE (registration_date, id) < (?, ?) " : "") +
+                    "ORDER BY registration_date DESC, id DESC LIMIT ?";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        List<Registration> registrations = new ArrayList<>();
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            
+            int index = 1;
+            if (afterDate != null) {
+                statement.setTimestamp(index++, afterDate);
+                statement.setInt(index++, afterId);
+            }
+            statement.setInt(index, limit);
+            
+            resultSet = statement.executeQuery();
+            
+            while (resultSet.next()) {
+                registrations.add(mapRegistration(resultSet));
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error fetching registrations after cursor: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        Metrics.recordRows("RegistrationDAO.getRegistrationsAfter", registrations.size());
+        return registrations;
+    }
+    
+    /**
+     * Get total count of registrations, reusing a recent exact count
+     * @param maxAgeMillis How old the cached count may be before it is recounted
+     * @return Total registration count (may lag behind by up to maxAgeMillis)
+     */
+    public int getCachedTotalRegistrationCount(long maxAgeMillis) {
+        long[] cached = cachedTotalCount;
+        long now = System.currentTimeMillis();
+        
+        if (cached != null && now - cached[1] <= maxAgeMillis) {
+            return (int) cached[0];
+        }
+        
+        int count = getTotalRegistrationCount();
+        cachedTotalCount = new long[] { count, now };
+        return count;
+    }
+    
+    /**
+     * Get the planner's row estimate for registrations (no table scan)
+     * @return Estimated registration count, or -1 if no estimate is available yet
+     */
+    public int getEstimatedRegistrationCount() {
+        String sql = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'registrations'::regclass";
+        
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            statement = connection.prepareStatement(sql);
+            resultSet = statement.executeQuery();
+            
+            if (resultSet.next()) {
+                // reltuples is -1 (or 0 on older servers) until the table has been analyzed
+                long estimate = resultSet.getLong(1);
+                return estimate > 0 ? (int) estimate : -1;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error getting estimated registration count: " + e.getMessage());
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+        
+        return -1;
+    }
+    
     /**
      * Get total count of registrations
      * @return Total registration count
@@ -171,62 +688,266 @@ public class RegistrationDAO {
      * @return true if successful, false otherwise
      */
     public boolean updateWinnerStatus(int registrationId, boolean isWinner) {
-        String sql = "UPDATE registrations SET winner_status = ? WHERE id = ?";
+        // The locked sub-select returns the previous status so the dashboard counters only move on a real change
+        String sql = "UPDATE registrations r SET winner_status = ? " +
+                    "FROM (SELECT id, winner_status AS previous_status FROM registrations WHERE id = ? FOR UPDATE) p " +
+                    "WHERE r.id = p.id RETURNING p.previous_status";
         
         Connection connection = null;
         PreparedStatement statement = null;
+        ResultSet resultSet = null;
         
         try {
             connection = DBConnection.getConnection();
             statement = connection.prepareStatement(sql);
-            statement.setBoolean(1, isWinner);
+            statement.setInt(1, isWinner ? 1 : 0);
             statement.setInt(2, registrationId);
             
-            int rowsAffected = statement.executeUpdate();
-            return rowsAffected > 0;
+            resultSet = statement.executeQuery();
+            if (!resultSet.next()) {
+                return false;
+            }
+            
+            if (resultSet.getBoolean(1) != isWinner) {
+                CertificateDAO.invalidateVerification(registrationId);
+                synchronized (RegistrationStatistics.updateLock()) {
+                    RegistrationStatistics.recordWinnerChange(isWinner);
+                    DashboardEvents.winnersChanged(Collections.singletonList(registrationId), isWinner, 0);
+                }
+            }
+            return true;
             
         } catch (SQLException e) {
             System.err.println("Error updating winner status: " + e.getMessage());
             return false;
         } finally {
-            closeResources(connection, statement, null);
+            closeResources(connection, statement, resultSet);
         }
     }
     
+    /**
+     * Set the winner status of several registrations at once
+     * One UPDATE covers every ID; new winners get their certificate_log rows in the same transaction
+     * @param registrationIds Registration IDs
+     * @param isWinner New winner status
+     * @return Changed, unchanged and unknown IDs plus winner certificate data
+     * @throws SQLException if the update fails (nothing is changed)
+     */
+    public BulkWinnerResult updateWinnerStatuses(List<Integer> registrationIds, boolean isWinner) throws SQLException {
+        String targetSql = "SELECT id, winner_status AS previous_status FROM registrations WHERE id = ANY(?) FOR UPDATE";
+        
+        BulkWinnerResult result = applyWinnerStatus(targetSql, isWinner, statement -> {
+            Connection connection = statement.getConnection();
+            statement.setArray(2, connection.createArrayOf("int4", registrationIds.toArray(new Integer[0])));
+        });
+        
+        Set<Integer> found = new HashSet<>(result.getUnchanged());
+        for (Registration registration : result.getChanged()) {
+            found.add(registration.getId());
+        }
+        for (Integer registrationId : new LinkedHashSet<>(registrationIds)) {
+            if (!found.contains(registrationId)) {
+                result.getNotFound().add(registrationId);
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Mark the first registrations of an event as winners
+     * The schema has no score column, so "top" means earliest registered
+     * @param event Event name
+     * @param count Number of registrations to mark
+     * @return Changed and unchanged registrations plus winner certificate data
+     * @throws SQLException if the update fails (nothing is changed)
+     */
+    public BulkWinnerResult selectTopWinners(String event, int count) throws SQLException {
+        String targetSql = "SELECT id, winner_status AS previous_status FROM registrations " +
+                          "WHERE event = ? ORDER BY registration_date, id LIMIT ? FOR UPDATE";
+        
+        return applyWinnerStatus(targetSql, true, statement -> {
+            statement.setString(2, event.trim());
+            statement.setInt(3, count);
+        });
+    }
+    
+    /**
+     * Update the winner status of the rows chosen by a locking sub-select and log new winner certificates
+     * @param targetSql SELECT returning (id, previous_status) for the rows to update
+     * @param isWinner New winner status
+     * @param binder Binds the sub-select parameters, starting at index 2
+     */
+    private BulkWinnerResult applyWinnerStatus(String targetSql, boolean isWinner, StatementBinder binder)
+            throws SQLException {
+        String updateSql = "UPDATE registrations r SET winner_status = ? FROM (" + targetSql + ") p " +
+                          "WHERE r.id = p.id " +
+                          "RETURNING r.id, r.name, r.email, r.college, r.event, r.registration_date, p.previous_status";
+        String certificateSql = "INSERT INTO certificate_log (registration_id, certificate_type, certificate_id, generated_date) " +
+                               "SELECT r, 'winner', c, NOW() FROM unnest(?::int[], ?::text[]) AS t(r, c) " +
+                               "ON CONFLICT (registration_id, certificate_type) DO UPDATE SET generated_date = NOW() " +
+                               "RETURNING registration_id, certificate_id, (xmax = 0) AS inserted";
+        
+        BulkWinnerResult result = new BulkWinnerResult();
+        
+        Connection connection = null;
+        PreparedStatement updateStatement = null;
+        PreparedStatement certificateStatement = null;
+        ResultSet resultSet = null;
+        
+        try {
+            connection = DBConnection.getConnection();
+            connection.setAutoCommit(false);
+            
+            updateStatement = connection.prepareStatement(updateSql);
+            updateStatement.setInt(1, isWinner ? 1 : 0);
+            binder.bind(updateStatement);
+            
+            resultSet = updateStatement.executeQuery();
+            while (resultSet.next()) {
+                if (resultSet.getBoolean(7) == isWinner) {
+                    result.getUnchanged().add(resultSet.getInt(1));
+                } else {
+                    result.getChanged().add(new Registration(resultSet.getInt(1), resultSet.getString(2),
+                        resultSet.getString(3), resultSet.getString(4), resultSet.getString(5),
+                        resultSet.getTimestamp(6), isWinner));
+                }
+            }
+            resultSet.close();
+            
+            Map<Integer, String> certificateIds = new HashMap<>();
+            int certificatesInserted = 0;
+            
+            if (isWinner && !result.getChanged().isEmpty()) {
+                Integer[] registrationIds = new Integer[result.getChanged().size()];
+                String[] newCertificateIds = new String[registrationIds.length];
+                for (int i = 0; i < registrationIds.length; i++) {
+                    registrationIds[i] = result.getChanged().get(i).getId();
+                    newCertificateIds[i] = CertificateDAO.generateCertificateId("winner");
+                }
+                
+                certificateStatement = connection.prepareStatement(certificateSql);
+                certificateStatement.setArray(1, connection.createArrayOf("int4", registrationIds));
+                certificateStatement.setArray(2, connection.createArrayOf("text", newCertificateIds));
+                
+                // A re-selected winner keeps the certificate ID it was issued the first time
+                resultSet = certificateStatement.executeQuery();
+                while (resultSet.next()) {
+                    certificateIds.put(resultSet.getInt(1), resultSet.getString(2));
+                    if (resultSet.getBoolean(3)) {
+                        certificatesInserted++;
+                    }
+                }
+            }
+            
+            connection.commit();
+            
+            for (String certificateId : certificateIds.values()) {
+                CertificateDAO.recordIssuedCertificate(certificateId);
+            }
+            
+            for (Registration registration : result.getChanged()) {
+                CertificateDAO.invalidateVerification(registration.getId());
+                
+                if (isWinner) {
+                    result.getCertificates().add(CertificateDAO.buildCertificateData(
+                        registration.getId(), registration.getName(), registration.getEmail(),
+                        registration.getCollege(), registration.getEvent(), registration.getRegistrationDate(),
+                        true, "winner", certificateIds.get(registration.getId())));
+                }
+            }
+            
+            List<Integer> changedIds = new ArrayList<>(result.getChanged().size());
+            for (Registration registration : result.getChanged()) {
+                changedIds.add(registration.getId());
+            }
+            synchronized (RegistrationStatistics.updateLock()) {
+                for (int i = 0; i < changedIds.size(); i++) {
+                    RegistrationStatistics.recordWinnerChange(isWinner);
+                }
+                for (int i = 0; i < certificatesInserted; i++) {
+                    RegistrationStatistics.recordCertificateIssued("winner");
+                }
+                DashboardEvents.winnersChanged(changedIds, isWinner, certificatesInserted);
+            }
+            
+            return result;
+            
+        } catch (SQLException e) {
+            rollbackQuietly(connection);
+            throw e;
+        } finally {
+            if (certificateStatement != null) {
+                try {
+                    certificateStatement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing certificate statement: " + e.getMessage());
+                }
+            }
+            closeResources(connection, updateStatement, resultSet);
+        }
+    }
+    
+    /**
+     * Binds the parameters of a statement built elsewhere
+     */
+    @FunctionalInterface
+    private interface StatementBinder {
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+    
     /**
      * Delete a registration
      * @param registrationId Registration ID to delete
      * @return true if successful, false otherwise
      */
     public boolean deleteRegistration(int registrationId) {
-        String sql = "DELETE FROM registrations WHERE id = ?";
+        // Sub-selects in RETURNING see the certificates as they were before the cascade removed them
+        String sql = "DELETE FROM registrations WHERE id = ? RETURNING event, winner_status, " +
+                    "(SELECT COUNT(*) FROM certificate_log WHERE registration_id = ? AND certificate_type = 'participation'), " +
+                    "(SELECT COUNT(*) FROM certificate_log WHERE registration_id = ? AND certificate_type = 'winner'), email";
         
         Connection connection = null;
         PreparedStatement statement = null;
+        ResultSet resultSet = null;
         
         try {
             connection = DBConnection.getConnection();
             statement = connection.prepareStatement(sql);
             statement.setInt(1, registrationId);
+            statement.setInt(2, registrationId);
+            statement.setInt(3, registrationId);
             
-            int rowsAffected = statement.executeUpdate();
-            return rowsAffected > 0;
+            resultSet = statement.executeQuery();
+            if (!resultSet.next()) {
+                return false;
+            }
+            
+            RegistrationIndex.recordDeleted(resultSet.getString(5), resultSet.getString(1));
+            CertificateDAO.invalidateVerification(registrationId);
+            synchronized (RegistrationStatistics.updateLock()) {
+                RegistrationStatistics.recordRegistrationDeleted(resultSet.getString(1), resultSet.getBoolean(2),
+                    resultSet.getInt(3), resultSet.getInt(4));
+                DashboardEvents.participantDeleted(registrationId, resultSet.getString(1), resultSet.getBoolean(2),
+                    resultSet.getInt(3), resultSet.getInt(4));
+            }
+            return true;
             
         } catch (SQLException e) {
             System.err.println("Error deleting registration: " + e.getMessage());
             return false;
         } finally {
-            closeResources(connection, statement, null);
+            closeResources(connection, statement, resultSet);
         }
     }
     
     /**
      * Get registration by ID
      * @param registrationId Registration ID
-     * @return Registration map or null if not found
+     * @return Registration or null if not found
      */
-    public Map<String, Object> getRegistrationById(int registrationId) {
-        String sql = "SELECT id, name, email, college, event, registration_date, winner_status " +
+    public Registration getRegistrationById(int registrationId) {
+        String sql = "SELECT " + REGISTRATION_COLUMNS + " " +
                     "FROM registrations WHERE id = ?";
         
         Connection connection = null;
@@ -241,16 +962,7 @@ public class RegistrationDAO {
             resultSet = statement.executeQuery();
             
             if (resultSet.next()) {
-                Map<String, Object> registration = new HashMap<>();
-                registration.put("id", resultSet.getInt("id"));
-                registration.put("name", resultSet.getString("name"));
-                registration.put("email", resultSet.getString("email"));
-                registration.put("college", resultSet.getString("college"));
-                registration.put("event", resultSet.getString("event"));
-                registration.put("registration_date", resultSet.getTimestamp("registration_date"));
-                registration.put("winner_status", resultSet.getBoolean("winner_status"));
-                
-                return registration;
+                return mapRegistration(resultSet);
             }
             
         } catch (SQLException e) {
@@ -262,6 +974,33 @@ public class RegistrationDAO {
         return null;
     }
     
+    /**
+     * Map the current row of a REGISTRATION_COLUMNS result set by column index
+     */
+    static Registration mapRegistration(ResultSet resultSet) throws SQLException {
+        return new Registration(
+            resultSet.getInt(1),
+            resultSet.getString(2),
+            resultSet.getString(3),
+            resultSet.getString(4),
+            resultSet.getString(5),
+            resultSet.getTimestamp(6),
+            resultSet.getBoolean(7));
+    }
+    
+    /**
+     * Roll back the current transaction, ignoring failures
+     */
+    private void rollbackQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                System.err.println("Error rolling back transaction: " + e.getMessage());
+            }
+        }
+    }
+    
     /**
      * Close database resources safely
      */
@@ -0,0 +1,128 @@
+package com.event.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Optional criteria for narrowing registration queries
+ * Unset fields are ignored; set fields are combined with AND
+ */
+public class RegistrationFilter {
+
+    private String event;
+    private Boolean winnerStatus;
+    private Timestamp registeredFrom;
+    private Timestamp registeredBefore;
+    private String college;
+
+    public String getEvent() {
+        return event;
+    }
+
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    public Boolean getWinnerStatus() {
+        return winnerStatus;
+    }
+
+    public void setWinnerStatus(Boolean winnerStatus) {
+        this.winnerStatus = winnerStatus;
+    }
+
+    public Timestamp getRegisteredFrom() {
+        return registeredFrom;
+    }
+
+    /**
+     * @param registeredFrom Inclusive lower bound on registration_date
+     */
+    public void setRegisteredFrom(Timestamp registeredFrom) {
+        this.registeredFrom = registeredFrom;
+    }
+
+    public Timestamp getRegisteredBefore() {
+        return registeredBefore;
+    }
+
+    /**
+     * @param registeredBefore Exclusive upper bound on registration_date
+     */
+    public void setRegisteredBefore(Timestamp registeredBefore) {
+        this.registeredBefore = registeredBefore;
+    }
+
+    public String getCollege() {
+        return college;
+    }
+
+    public void setCollege(String college) {
+        this.college = college;
+    }
+
+    /**
+     * Check whether any criteria are set
+     * @return true if the filter matches every registration
+     */
+    public boolean isEmpty() {
+        return event == null && winnerStatus == null && registeredFrom == null
+            && registeredBefore == null && college == null;
+    }
+
+    /**
+     * Build the WHERE clause for this filter
+     * Event and winner_status come first so idx_reg_event_winner / idx_reg_date_event can serve the query
+     * @return WHERE clause (with leading space) or an empty string
+     */
+    String toWhereClause() {
+        List<String> conditions = new ArrayList<>();
+
+        if (event != null) {
+            conditions.add("event = ?");
+        }
+        if (winnerStatus != null) {
+            conditions.add(winnerStatus ? "winner_status = 1" : "winner_status = 0");
+        }
+        if (registeredFrom != null) {
+            conditions.add("registration_date >= ?");
+        }
+        if (registeredBefore != null) {
+            conditions.add("registration_date < ?");
+        }
+        if (college != null) {
+            conditions.add("college = ?");
+        }
+
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /**
+     * Bind the filter values in the order used by toWhereClause
+     * @param statement Statement to bind
+     * @param startIndex Index of the first filter parameter
+     * @return Index of the next free parameter
+     * @throws SQLException if binding fails
+     */
+    int bindParameters(PreparedStatement statement, int startIndex) throws SQLException {
+        int index = startIndex;
+
+        if (event != null) {
+            statement.setString(index++, event);
+        }
+        if (registeredFrom != null) {
+            statement.setTimestamp(index++, registeredFrom);
+        }
+        if (registeredBefore != null) {
+            statement.setTimestamp(index++, registeredBefore);
+        }
+        if (college != null) {
+            statement.setString(index++, college);
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,279 @@
+package com.event.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of stored (email, event) pairs, used to reject obvious duplicate registrations
+ * without a database round-trip; the unique constraint on registrations stays the final authority
+ *
+ * A hit can be stale: a registration deleted by another instance, or deleted while this instance was
+ * still recording its insert, stays in the index until the next reload. The index is therefore
+ * reloaded every REGISTRATION_INDEX_REFRESH_SECONDS (default 300, 0 loads it once), which bounds
+ * how long such a pair is wrongly answered as a duplicate.
+ */
+public final class RegistrationIndex {
+
+    // Above this many pairs the index switches itself off instead of growing without bound; 0 disables it
+    private static final int MAX_ENTRIES = DBConnection.getIntSetting("REGISTRATION_INDEX_MAX_ENTRIES", 2000000);
+
+    private static final int REFRESH_SECONDS = DBConnection.getIntSetting("REGISTRATION_INDEX_REFRESH_SECONDS", 300);
+
+    private static final int WARM_FETCH_SIZE = 5000;
+    private static final int WARM_ATTEMPTS = 3;
+
+    // Keys as built by RegistrationRequest.getDuplicateKey
+    private static final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+    // Write paths only maintain the index once a warm-up has started; lookups only use it once one has finished
+    private static volatile boolean tracking;
+    private static volatile boolean ready;
+
+    // Bumped by removals and invalidations, so a warm-up can tell that its snapshot may have re-added a stale key
+    private static final AtomicLong generation = new AtomicLong();
+
+    private static final AtomicLong duplicatesRejected = new AtomicLong();
+    private static final AtomicLong warmups = new AtomicLong();
+    private static volatile long lastWarmedAt;
+
+    // Guarded by refresherLock rather than the class, which warm() holds for the whole load
+    private static final Object refresherLock = new Object();
+    private static ScheduledExecutorService refresher;
+
+    private RegistrationIndex() {
+    }
+
+    /**
+     * Check whether a registration is already known to be stored
+     * A false answer means "not known", never "not registered"; the insert decides
+     * @param request Normalized registration request
+     * @return true if the (email, event) pair is in the index
+     */
+    public static boolean isKnownDuplicate(RegistrationRequest request) {
+        return isKnownDuplicate(request.getDuplicateKey());
+    }
+
+    /**
+     * Check whether a normalized email is already known to be registered for an event
+     * @param email Lowercased, trimmed email
+     * @param event Trimmed event name
+     * @return true if the (email, event) pair is in the index
+     */
+    static boolean isKnownDuplicate(String email, String event) {
+        return isKnownDuplicate(RegistrationRequest.duplicateKey(email, event));
+    }
+
+    private static boolean isKnownDuplicate(String key) {
+        if (!ready || !keys.contains(key)) {
+            return false;
+        }
+        duplicatesRejected.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Record a stored registration; also called when the database reports a duplicate,
+     * which picks up rows written by other application instances
+     * @param email Lowercased, trimmed email
+     * @param event Trimmed event name
+     */
+    static void recordRegistered(String email, String event) {
+        if (!tracking) {
+            return;
+        }
+        keys.add(RegistrationRequest.duplicateKey(email, event));
+        if (keys.size() > MAX_ENTRIES) {
+            disable("holds more than " + MAX_ENTRIES + " registrations; raise REGISTRATION_INDEX_MAX_ENTRIES");
+        }
+    }
+
+    /**
+     * Record a deleted registration
+     * @param email Stored email
+     * @param event Stored event name
+     */
+    static void recordDeleted(String email, String event) {
+        if (!tracking) {
+            return;
+        }
+        generation.incrementAndGet();
+        keys.remove(RegistrationRequest.duplicateKey(email, event));
+    }
+
+    /**
+     * Stop using the index and rebuild it in the background
+     * Used after changes the incremental updates cannot follow, such as an event rename
+     */
+    public static void invalidate() {
+        if (!tracking) {
+            return;
+        }
+        ready = false;
+        generation.incrementAndGet();
+
+        synchronized (refresherLock) {
+            if (refresher != null) {
+                refresher.execute(RegistrationIndex::warm);
+                return;
+            }
+        }
+        Thread rebuild = new Thread(RegistrationIndex::warm, "eventtech-registration-index-warmup");
+        rebuild.setDaemon(true);
+        rebuild.start();
+    }
+
+    /**
+     * Load the index now and reload it every REGISTRATION_INDEX_REFRESH_SECONDS in the background
+     */
+    public static void startRefresh() {
+        if (MAX_ENTRIES <= 0) {
+            return;
+        }
+
+        synchronized (refresherLock) {
+            if (refresher != null) {
+                return;
+            }
+
+            refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "eventtech-registration-index-warmup");
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (REFRESH_SECONDS > 0) {
+                refresher.scheduleWithFixedDelay(RegistrationIndex::warm, 0, REFRESH_SECONDS, TimeUnit.SECONDS);
+            } else {
+                refresher.execute(RegistrationIndex::warm);
+            }
+        }
+    }
+
+    /**
+     * Stop reloading the index
+     */
+    public static void stopRefresh() {
+        synchronized (refresherLock) {
+            if (refresher != null) {
+                refresher.shutdownNow();
+                refresher = null;
+            }
+        }
+    }
+
+    /**
+     * Load every stored (email, event) pair, then start answering lookups
+     * Registrations stored while this runs are added by the write paths; if a registration is deleted
+     * or the index invalidated meanwhile, the snapshot may hold a stale pair and is loaded again
+     */
+    public static synchronized void warm() {
+        if (MAX_ENTRIES <= 0) {
+            return;
+        }
+
+        for (int attempt = 1; attempt <= WARM_ATTEMPTS; attempt++) {
+            ready = false;
+            tracking = true;
+            keys.clear();
+            long startGeneration = generation.get();
+
+            if (!load()) {
+                disable("could not be loaded");
+                return;
+            }
+            if (!tracking) {
+                // Grew past MAX_ENTRIES while loading
+                return;
+            }
+
+            if (generation.get() == startGeneration) {
+                warmups.incrementAndGet();
+                lastWarmedAt = System.currentTimeMillis();
+                ready = true;
+                return;
+            }
+        }
+
+        disable("kept changing while loading; duplicate registrations are checked by the database only");
+    }
+
+    /**
+     * Get index statistics
+     * @return Map of state, size and rejected duplicates
+     */
+    public static Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", ready);
+        stats.put("entries", keys.size());
+        stats.put("max_entries", MAX_ENTRIES);
+        stats.put("duplicates_rejected", duplicatesRejected.get());
+        stats.put("warmups", warmups.get());
+        stats.put("last_warmed", lastWarmedAt);
+        return stats;
+    }
+
+    private static boolean load() {
+        String sql = "SELECT email, event FROM registrations";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        try {
+            connection = DBConnection.getStreamingConnection();
+            // The PostgreSQL driver only uses a cursor inside a transaction
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sql);
+            statement.setFetchSize(WARM_FETCH_SIZE);
+
+            resultSet = statement.executeQuery();
+            while (resultSet.next() && tracking) {
+                recordRegistered(resultSet.getString(1), resultSet.getString(2));
+            }
+            connection.commit();
+            return true;
+
+        } catch (SQLException e) {
+            System.err.println("Error warming registration index: " + e.getMessage());
+            return false;
+        } finally {
+            if (resultSet != null) {
+                try {
+                    resultSet.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing ResultSet: " + e.getMessage());
+                }
+            }
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    System.err.println("Error closing PreparedStatement: " + e.getMessage());
+                }
+            }
+            DBConnection.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Turn the index off until the next warm-up; every registration then goes to the database
+     */
+    private static void disable(String reason) {
+        if (tracking) {
+            System.err.println("Registration index disabled: " + reason);
+        }
+        ready = false;
+        tracking = false;
+        generation.incrementAndGet();
+        keys.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package com.event.dao;
+
+/**
+ * Registration form values, normalized the same way RegistrationDAO stores them
+ */
+public class RegistrationRequest {
+
+    private final String name;
+    private final String email;
+    private final String college;
+    private final String event;
+
+    public RegistrationRequest(String name, String email, String college, String event) {
+        this.name = name.trim();
+        this.email = email.trim().toLowerCase();
+        this.college = college.trim();
+        this.event = event.trim();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getCollege() {
+        return college;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    /**
+     * Key of the (email, event) unique constraint
+     * @return Key identifying duplicate registrations
+     */
+    public String getDuplicateKey() {
+        return duplicateKey(email, event);
+    }
+
+    /**
+     * Key of the (email, event) unique constraint for values that are already normalized
+     * @param email Lowercased, trimmed email
+     * @param event Trimmed event name
+     * @return Key identifying duplicate registrations
+     */
+    static String duplicateKey(String email, String event) {
+        return email + '\u0000' + event;
+    }
+}
@@ -0,0 +1,81 @@
+package com.event.dao;
+
+import java.util.Map;
+
+/**
+ * Outcome of a participant registration attempt
+ * Carries the new registration ID and participation certificate data on success
+ */
+public class RegistrationResult {
+
+    /**
+     * Registration outcome
+     */
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        FAILED,
+        // Not known to be stored yet; the write may still commit
+        PENDING
+    }
+
+    private static final RegistrationResult DUPLICATE_RESULT = new RegistrationResult(Status.DUPLICATE, -1, null);
+    private static final RegistrationResult FAILED_RESULT = new RegistrationResult(Status.FAILED, -1, null);
+    private static final RegistrationResult PENDING_RESULT = new RegistrationResult(Status.PENDING, -1, null);
+
+    private final Status status;
+    private final int registrationId;
+    private final Map<String, Object> certificateData;
+
+    private RegistrationResult(Status status, int registrationId, Map<String, Object> certificateData) {
+        this.status = status;
+        this.registrationId = registrationId;
+        this.certificateData = certificateData;
+    }
+
+    /**
+     * Registration stored along with its participation certificate
+     * @param registrationId New registration ID
+     * @param certificateData Certificate data map (same shape as CertificateDAO.generateCertificateData)
+     * @return Created result
+     */
+    public static RegistrationResult created(int registrationId, Map<String, Object> certificateData) {
+        return new RegistrationResult(Status.CREATED, registrationId, certificateData);
+    }
+
+    /**
+     * Email was already registered for the event
+     * @return Duplicate result
+     */
+    public static RegistrationResult duplicate() {
+        return DUPLICATE_RESULT;
+    }
+
+    /**
+     * Registration could not be stored
+     * @return Failed result
+     */
+    public static RegistrationResult failed() {
+        return FAILED_RESULT;
+    }
+
+    /**
+     * Registration was accepted but its outcome is not known yet
+     * @return Pending result
+     */
+    public static RegistrationResult pending() {
+        return PENDING_RESULT;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getRegistrationId() {
+        return registrationId;
+    }
+
+    public Map<String, Object> getCertificateData() {
+        return certificateData;
+    }
+}
@@ -0,0 +1,26 @@
+package com.event.dao;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+
+/**
+ * Callback for registrations streamed from the database one row at a time
+ * Lets exports write each row straight to the response instead of collecting a list first
+ */
+@FunctionalInterface
+public interface RegistrationRowHandler {
+
+    /**
+     * Handle one registration row
+     * @param id Registration ID
+     * @param name Participant name
+     * @param email Participant email
+     * @param college Participant college
+     * @param event Event name
+     * @param registrationDate Registration timestamp
+     * @param winnerStatus Winner flag
+     * @throws IOException if writing the row fails (for example the client disconnected)
+     */
+    void handleRow(int id, String name, String email, String college, String event,
+                   Timestamp registrationDate, boolean winnerStatus) throws IOException;
+}
@@ -0,0 +1,297 @@
+package com.event.dao;
+
+import com.event.events.DashboardEventBus;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory dashboard statistics for EventTech Application
+ * Kept current by the DAO write paths and reconciled against the database in the background,
+ * so reading the dashboard totals never scans the registrations or certificate tables
+ */
+public final class RegistrationStatistics {
+
+    private static final Object lock = new Object();
+
+    // Guarded by lock
+    private static boolean loaded;
+    private static int totalRegistrations;
+    private static int totalWinners;
+    private static int participationCertificates;
+    private static int winnerCertificates;
+    private static final Map<String, Integer> eventRegistrations = new HashMap<>();
+    private static long lastReconciledAt;
+    // First load in progress; readers arriving meanwhile wait for it instead of querying themselves
+    private static CompletableFuture<Boolean> pendingLoad;
+
+    private static ScheduledExecutorService reconciler;
+
+    private RegistrationStatistics() {
+    }
+
+    /**
+     * Get the lock to hold while recording counter changes and publishing their dashboard event
+     * getSnapshot reads the counters and the last published event under it, so a dashboard that starts
+     * from a snapshot can tell which events it already includes
+     * @return Lock object; hold it only for the record calls and the publish
+     */
+    public static Object updateLock() {
+        return lock;
+    }
+
+    /**
+     * Record a newly stored registration
+     * @param event Event the participant registered for
+     */
+    public static void recordRegistration(String event) {
+        synchronized (lock) {
+            totalRegistrations++;
+            eventRegistrations.merge(event, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Record a deleted registration together with the certificates removed by the cascade
+     * @param event Event of the deleted registration
+     * @param wasWinner Whether the participant was a winner
+     * @param participationCertificatesRemoved Participation certificates deleted with it
+     * @param winnerCertificatesRemoved Winner certificates deleted with it
+     */
+    public static void recordRegistrationDeleted(String event, boolean wasWinner,
+                                                 int participationCertificatesRemoved,
+                                                 int winnerCertificatesRemoved) {
+        synchronized (lock) {
+            totalRegistrations--;
+            eventRegistrations.computeIfPresent(event, (name, count) -> count > 1 ? count - 1 : null);
+            if (wasWinner) {
+                totalWinners--;
+            }
+            participationCertificates -= participationCertificatesRemoved;
+            winnerCertificates -= winnerCertificatesRemoved;
+        }
+    }
+
+    /**
+     * Record a winner status change
+     * @param isWinner New winner status
+     */
+    public static void recordWinnerChange(boolean isWinner) {
+        synchronized (lock) {
+            totalWinners += isWinner ? 1 : -1;
+        }
+    }
+
+    /**
+     * Record a newly logged certificate
+     * @param certificateType Certificate type (participation or winner)
+     */
+    public static void recordCertificateIssued(String certificateType) {
+        synchronized (lock) {
+            if ("winner".equals(certificateType)) {
+                winnerCertificates++;
+            } else if ("participation".equals(certificateType)) {
+                participationCertificates++;
+            }
+        }
+    }
+
+    /**
+     * Force the next read to reload from the database
+     * Used after changes the incremental counters cannot follow, such as an event rename
+     */
+    public static void invalidate() {
+        synchronized (lock) {
+            loaded = false;
+        }
+    }
+
+    /**
+     * Get the current statistics, loading them from the database on first use
+     * @return Map with total_registrations, total_winners, event_registrations, certificate_statistics
+     *         and event_sequence, the publish sequence of the last dashboard event the counters include
+     */
+    public static Map<String, Object> getSnapshot() {
+        startReconciler();
+
+        CompletableFuture<Boolean> load = null;
+        boolean loading = false;
+        synchronized (lock) {
+            if (!loaded) {
+                if (pendingLoad == null) {
+                    pendingLoad = new CompletableFuture<>();
+                    loading = true;
+                }
+                load = pendingLoad;
+            }
+        }
+
+        // The database is read outside the lock, so the write paths never wait for it
+        if (loading) {
+            boolean reconciled = false;
+            try {
+                reconciled = reconcile();
+            } finally {
+                synchronized (lock) {
+                    pendingLoad = null;
+                }
+                load.complete(reconciled);
+            }
+        } else if (load != null) {
+            load.join();
+        }
+
+        synchronized (lock) {
+            Map<String, Object> certificateStats = new HashMap<>();
+            certificateStats.put("participation_certificates", participationCertificates);
+            certificateStats.put("winner_certificates", winnerCertificates);
+            certificateStats.put("total_certificates", participationCertificates + winnerCertificates);
+
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("total_registrations", totalRegistrations);
+            snapshot.put("total_winners", totalWinners);
+            snapshot.put("event_registrations", new HashMap<>(eventRegistrations));
+            snapshot.put("certificate_statistics", certificateStats);
+            snapshot.put("last_reconciled", lastReconciledAt);
+            DashboardEventBus bus = DashboardEventBus.getInstance();
+            snapshot.put("event_sequence", bus != null ? bus.getPublishSequence() : 0);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Replace the in-memory counters with fresh aggregates from the database
+     * Writes committed while the aggregates are read may be off by one until the next pass
+     * @return true if the database could be read
+     */
+    public static boolean reconcile() {
+        String registrationSql = "SELECT event, COUNT(*) AS registrations, " +
+                                "SUM(CASE WHEN winner_status = 1 THEN 1 ELSE 0 END) AS winners " +
+                                "FROM registrations GROUP BY event";
+        String certificateSql = "SELECT " +
+                               "COUNT(CASE WHEN certificate_type = 'participation' THEN 1 END) AS participation_certs, " +
+                               "COUNT(CASE WHEN certificate_type = 'winner' THEN 1 END) AS winner_certs " +
+                               "FROM certificate_log";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
+        Map<String, Integer> counts = new HashMap<>();
+        int registrations = 0;
+        int winners = 0;
+        int participationCerts = 0;
+        int winnerCerts = 0;
+
+        try {
+            connection = DBConnection.getConnection();
+
+            statement = connection.prepareStatement(registrationSql);
+            resultSet = statement.executeQuery();
+            while (resultSet.next()) {
+                int count = resultSet.getInt(2);
+                counts.put(resultSet.getString(1), count);
+                registrations += count;
+                winners += resultSet.getInt(3);
+            }
+            resultSet.close();
+            statement.close();
+
+            statement = connection.prepareStatement(certificateSql);
+            resultSet = statement.executeQuery();
+            if (resultSet.next()) {
+                participationCerts = resultSet.getInt(1);
+                winnerCerts = resultSet.getInt(2);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error reconciling dashboard statistics: " + e.getMessage());
+            return false;
+        } finally {
+            closeResources(connection, statement, resultSet);
+        }
+
+        synchronized (lock) {
+            totalRegistrations = registrations;
+            totalWinners = winners;
+            participationCertificates = participationCerts;
+            winnerCertificates = winnerCerts;
+            eventRegistrations.clear();
+            eventRegistrations.putAll(counts);
+            lastReconciledAt = System.currentTimeMillis();
+            loaded = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Stop the background reconciler
+     */
+    public static synchronized void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+            reconciler = null;
+        }
+    }
+
+    /**
+     * Start the background reconciler on first use
+     * The interval comes from STATISTICS_RECONCILE_INTERVAL_SECONDS (default 300, 0 disables it)
+     */
+    private static synchronized void startReconciler() {
+        if (reconciler != null) {
+            return;
+        }
+
+        int intervalSeconds = DBConnection.getIntSetting("STATISTICS_RECONCILE_INTERVAL_SECONDS", 300);
+        if (intervalSeconds <= 0) {
+            return;
+        }
+
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventtech-statistics-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconciler.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (RuntimeException e) {
+                System.err.println("Error during statistics reconciliation: " + e.getMessage());
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Close database resources safely
+     */
+    private static void closeResources(Connection connection, PreparedStatement statement, ResultSet resultSet) {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing ResultSet: " + e.getMessage());
+            }
+        }
+
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing PreparedStatement: " + e.getMessage());
+            }
+        }
+
+        DBConnection.closeConnection(connection);
+    }
+}
@@ -0,0 +1,215 @@
+package com.event.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LRU cache of PreparedStatements for a single pooled connection
+ * Keeps hot statements open across leases so PostgreSQL parses and plans them once
+ */
+class StatementCache {
+
+    private final Connection physicalConnection;
+    private final ConnectionPool pool;
+    private final int maxSize;
+
+    // Access-ordered so the least recently used statement is evicted first
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    StatementCache(Connection physicalConnection, ConnectionPool pool, int maxSize) {
+        this.physicalConnection = physicalConnection;
+        this.pool = pool;
+        this.maxSize = maxSize;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    evict(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Prepare a statement, reusing a cached one for the same SQL text when it is free
+     * @param sql SQL text used as the cache key
+     * @return PreparedStatement whose close() returns it to the cache
+     * @throws SQLException if the statement cannot be prepared
+     */
+    synchronized PreparedStatement prepare(String sql) throws SQLException {
+        CachedStatement cached = statements.get(sql);
+
+        if (cached != null && !cached.inUse) {
+            pool.recordStatementCacheHit();
+        } else if (cached != null) {
+            // Same SQL already checked out on this lease (nested use); fall back to a throwaway statement
+            pool.recordStatementCacheMiss();
+            return physicalConnection.prepareStatement(sql);
+        } else {
+            pool.recordStatementCacheMiss();
+            cached = new CachedStatement(physicalConnection.prepareStatement(sql));
+            statements.put(sql, cached);
+        }
+
+        cached.inUse = true;
+        return cached.checkout();
+    }
+
+    /**
+     * Check in every statement still checked out when the connection goes back to the pool
+     * A DAO that forgot to close a statement would otherwise keep its slot marked in use for the
+     * life of the connection; the forgotten handle stops working, as if it had been closed
+     */
+    synchronized void releaseAll() {
+        for (CachedStatement cached : new ArrayList<>(statements.values())) {
+            if (cached.inUse) {
+                cached.checkedOutBy.returned = true;
+                checkin(cached);
+            }
+        }
+    }
+
+    /**
+     * Close every cached statement (called before the physical connection is closed)
+     */
+    synchronized void closeAll() {
+        List<CachedStatement> all = new ArrayList<>(statements.values());
+        statements.clear();
+        for (CachedStatement cached : all) {
+            cached.evicted = true;
+            if (!cached.inUse) {
+                cached.closeQuietly();
+            }
+        }
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    private void evict(CachedStatement cached) {
+        pool.recordStatementCacheEviction();
+        cached.evicted = true;
+        if (!cached.inUse) {
+            cached.closeQuietly();
+        }
+    }
+
+    private synchronized void checkin(CachedStatement cached) {
+        cached.inUse = false;
+
+        if (cached.evicted) {
+            cached.closeQuietly();
+            return;
+        }
+
+        try {
+            PreparedStatement statement = cached.statement;
+            statement.clearParameters();
+            statement.clearBatch();
+            if (statement.getFetchSize() != 0) {
+                statement.setFetchSize(0);
+            }
+            if (statement.getMaxRows() != 0) {
+                statement.setMaxRows(0);
+            }
+            if (statement.getQueryTimeout() != 0) {
+                statement.setQueryTimeout(0);
+            }
+        } catch (SQLException e) {
+            // A statement that cannot be reset is not worth keeping
+            statements.values().remove(cached);
+            cached.evicted = true;
+            cached.closeQuietly();
+        }
+    }
+
+    /**
+     * Cache entry wrapping one physical PreparedStatement
+     */
+    private class CachedStatement {
+
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+        private CheckoutHandler checkedOutBy;
+
+        CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        PreparedStatement checkout() {
+            checkedOutBy = new CheckoutHandler(this);
+            return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                checkedOutBy);
+        }
+
+        void closeQuietly() {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing cached PreparedStatement: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Invocation handler for a single checkout of a cached statement
+     */
+    private class CheckoutHandler implements InvocationHandler {
+
+        private final CachedStatement cached;
+        private volatile boolean returned;
+
+        CheckoutHandler(CachedStatement cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    synchronized (StatementCache.this) {
+                        if (!returned) {
+                            returned = true;
+                            checkin(cached);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || cached.statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.statement + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("PreparedStatement has already been closed");
+            }
+
+            try {
+                return method.invoke(cached.statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
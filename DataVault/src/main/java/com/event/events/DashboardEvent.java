@@ -0,0 +1,77 @@
+package com.event.events;
+
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Change pushed to connected admin dashboards
+ * Immutable; the Server-Sent Events frame is encoded once and shared by every connection
+ */
+public final class DashboardEvent {
+
+    public static final String REGISTRATION_CREATED = "registration-created";
+    public static final String WINNER_CHANGED = "winner-changed";
+    public static final String PARTICIPANT_DELETED = "participant-deleted";
+    public static final String CERTIFICATES_ISSUED = "certificates-issued";
+
+    // Tells dashboards their counters can no longer be updated incrementally and must be reloaded
+    public static final String RESYNC = "resync";
+
+    private final long id;
+    private final long sequence;
+    private final String type;
+    private final JSONObject data;
+    private final byte[] frame;
+
+    /**
+     * Create an event
+     * @param id Event ID, increasing; 0 for events that are not part of the replayable sequence
+     * @param sequence Publish sequence number, 0 for events raised by the bus itself
+     * @param type Event type, used as the SSE event name
+     * @param data Event payload
+     */
+    DashboardEvent(long id, long sequence, String type, JSONObject data) {
+        this.id = id;
+        this.sequence = sequence;
+        this.type = type;
+        this.data = data;
+
+        StringBuilder frame = new StringBuilder(128);
+        if (id > 0) {
+            frame.append("id: ").append(id).append('\n');
+        }
+        frame.append("event: ").append(type).append('\n');
+        // JSONObject escapes line breaks inside strings, so the payload is always a single data line
+        frame.append("data: ").append(data).append("\n\n");
+        this.frame = frame.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Get the number the event was published under, comparable with DashboardEventBus.getPublishSequence
+     * @return Publish sequence number, 0 for events raised by the bus itself
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public JSONObject getData() {
+        return data;
+    }
+
+    /**
+     * Get the event encoded as a text/event-stream frame
+     * @return UTF-8 frame; callers must not modify it
+     */
+    public byte[] getFrame() {
+        return frame;
+    }
+}
@@ -0,0 +1,263 @@
+package com.event.events;
+
+import org.json.JSONObject;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process event bus for live dashboard updates
+ * Publishers only enqueue, so DAO write paths never wait for dashboards; a single dispatcher thread
+ * numbers the events, keeps a short history for reconnecting clients and hands them to subscribers
+ */
+public class DashboardEventBus {
+
+    /**
+     * Outcome of a subscription
+     */
+    public enum Subscription {
+        /** Too many subscribers */
+        REJECTED,
+        /** New subscriber, or one whose missed events are no longer in the history; it needs a full snapshot */
+        STARTED,
+        /** Reconnecting subscriber whose missed events were replayed */
+        RESUMED
+    }
+
+    // Bus used by DashboardEvents; null means nobody is listening and events are not built at all
+    private static volatile DashboardEventBus instance;
+
+    private final BlockingQueue<PendingEvent> queue;
+    private final int historySize;
+    private final int maxSubscribers;
+    private final Thread dispatcherThread;
+
+    // Guarded by itself; subscribers are notified under the same lock so replay and live delivery never overlap
+    private final Deque<DashboardEvent> history = new ArrayDeque<>();
+    // Copy-on-write so a subscriber may unsubscribe itself while being notified
+    private final List<DashboardEventListener> subscribers = new CopyOnWriteArrayList<>();
+    // Starts from the clock so IDs seen before a restart are never mistaken for replayable ones
+    private long nextEventId = System.currentTimeMillis() * 1000;
+
+    // Numbers events as they are published, including dropped ones; see getPublishSequence
+    private final AtomicLong publishSequence = new AtomicLong();
+
+    // Set when an event was dropped; subscribers are told to resync before the next one
+    private final AtomicBoolean gap = new AtomicBoolean();
+
+    private final AtomicLong eventsPublished = new AtomicLong();
+    private final AtomicLong eventsDropped = new AtomicLong();
+    private final AtomicLong subscriptionsRejected = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    /**
+     * Create and start an event bus
+     * @param queueCapacity Maximum number of events waiting for the dispatcher; further events are dropped
+     * @param historySize Number of recent events kept for replay to reconnecting subscribers
+     * @param maxSubscribers Maximum number of subscribers
+     */
+    public DashboardEventBus(int queueCapacity, int historySize, int maxSubscribers) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.historySize = Math.max(0, historySize);
+        this.maxSubscribers = Math.max(1, maxSubscribers);
+
+        this.dispatcherThread = new Thread(this::runDispatcher, "eventtech-dashboard-events");
+        this.dispatcherThread.setDaemon(true);
+        this.dispatcherThread.start();
+    }
+
+    /**
+     * Install the bus used by DashboardEvents
+     * @param bus Bus to install, or null to stop publishing
+     */
+    public static void install(DashboardEventBus bus) {
+        instance = bus;
+    }
+
+    /**
+     * Get the installed bus
+     * @return Installed bus, or null if live dashboard updates are disabled
+     */
+    public static DashboardEventBus getInstance() {
+        return instance;
+    }
+
+    /**
+     * Queue an event for dispatch
+     * @param type Event type
+     * @param data Event payload
+     * @return true if queued, false if the queue was full and the event was dropped
+     */
+    public boolean publish(String type, JSONObject data) {
+        long sequence = publishSequence.incrementAndGet();
+        if (running && queue.offer(new PendingEvent(sequence, type, data))) {
+            return true;
+        }
+
+        eventsDropped.incrementAndGet();
+        gap.set(true);
+        return false;
+    }
+
+    /**
+     * Get the sequence number of the last published event
+     * Events published under the RegistrationStatistics update lock are numbered in the order their
+     * counter changes were recorded, so a snapshot read under that lock includes exactly those up to this number
+     * @return Last publish sequence number, 0 before the first event
+     */
+    public long getPublishSequence() {
+        return publishSequence.get();
+    }
+
+    /**
+     * Subscribe to events, replaying the ones a reconnecting subscriber missed when they are still known
+     * @param listener Subscriber
+     * @param lastEventId ID of the last event the subscriber saw, or -1 for a new subscriber
+     * @return Whether the subscriber was added, and whether it resumed where it left off
+     */
+    public Subscription subscribe(DashboardEventListener listener, long lastEventId) {
+        synchronized (history) {
+            if (subscribers.size() >= maxSubscribers) {
+                subscriptionsRejected.incrementAndGet();
+                return Subscription.REJECTED;
+            }
+            subscribers.add(listener);
+
+            if (lastEventId < 0) {
+                return Subscription.STARTED;
+            }
+
+            // Events are numbered consecutively, so the history covers lastEventId only if it reaches back to it
+            DashboardEvent oldest = history.peekFirst();
+            long firstMissed = lastEventId + 1;
+            if (firstMissed == nextEventId) {
+                return Subscription.RESUMED;
+            }
+            if (oldest == null || firstMissed < oldest.getId() || firstMissed > nextEventId) {
+                return Subscription.STARTED;
+            }
+
+            for (DashboardEvent event : history) {
+                if (event.getId() >= firstMissed) {
+                    listener.onEvent(event);
+                }
+            }
+            return Subscription.RESUMED;
+        }
+    }
+
+    /**
+     * Remove a subscriber
+     * @param listener Subscriber to remove
+     */
+    public void unsubscribe(DashboardEventListener listener) {
+        synchronized (history) {
+            subscribers.remove(listener);
+        }
+    }
+
+    /**
+     * Get event bus statistics for the admin dashboard
+     * @return Map of subscriber count, queue depth and event counters
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (history) {
+            stats.put("subscribers", subscribers.size());
+            stats.put("last_event_id", nextEventId - 1);
+        }
+        stats.put("max_subscribers", maxSubscribers);
+        stats.put("queued", queue.size());
+        stats.put("published", eventsPublished.get());
+        stats.put("dropped", eventsDropped.get());
+        stats.put("subscriptions_rejected", subscriptionsRejected.get());
+        return stats;
+    }
+
+    /**
+     * Stop dispatching; queued events are discarded and subscribers are forgotten
+     */
+    public void shutdown() {
+        running = false;
+        dispatcherThread.interrupt();
+        try {
+            dispatcherThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (history) {
+            subscribers.clear();
+            history.clear();
+        }
+    }
+
+    private void runDispatcher() {
+        while (running) {
+            PendingEvent pending;
+            try {
+                pending = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (pending == null) {
+                continue;
+            }
+
+            try {
+                if (gap.getAndSet(false)) {
+                    dispatch(0, DashboardEvent.RESYNC, new JSONObject().put("reason", "events dropped"));
+                }
+                dispatch(pending.sequence, pending.type, pending.data);
+            } catch (RuntimeException e) {
+                System.err.println("Error dispatching dashboard event: " + e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(long sequence, String type, JSONObject data) {
+        synchronized (history) {
+            DashboardEvent event = new DashboardEvent(nextEventId++, sequence, type, data);
+
+            history.addLast(event);
+            while (history.size() > historySize) {
+                history.removeFirst();
+            }
+
+            for (DashboardEventListener subscriber : subscribers) {
+                try {
+                    subscriber.onEvent(event);
+                } catch (RuntimeException e) {
+                    System.err.println("Error delivering dashboard event: " + e.getMessage());
+                }
+            }
+        }
+        eventsPublished.incrementAndGet();
+    }
+
+    /**
+     * Event waiting for its ID
+     */
+    private static final class PendingEvent {
+
+        private final long sequence;
+        private final String type;
+        private final JSONObject data;
+
+        PendingEvent(long sequence, String type, JSONObject data) {
+            this.sequence = sequence;
+            this.type = type;
+            this.data = data;
+        }
+    }
+}
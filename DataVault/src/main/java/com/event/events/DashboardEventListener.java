@@ -0,0 +1,15 @@
+package com.event.events;
+
+/**
+ * Receiver of dashboard events, such as one connected Server-Sent Events stream
+ * Called on the event bus dispatcher thread, so implementations must hand the event off without blocking
+ */
+@FunctionalInterface
+public interface DashboardEventListener {
+
+    /**
+     * Handle one event
+     * @param event Published event
+     */
+    void onEvent(DashboardEvent event);
+}
@@ -0,0 +1,138 @@
+package com.event.events;
+
+import com.event.model.Registration;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Publishing side of the live dashboard updates, called from the DAO write paths after a commit
+ * Every event carries a "delta" object with the changes to the dashboard counters
+ * (total_registrations, total_winners, participation_certificates, winner_certificates and
+ * event_registrations per event), so dashboards stay current without re-running the aggregates
+ */
+public final class DashboardEvents {
+
+    private DashboardEvents() {
+    }
+
+    /**
+     * Publish newly stored registrations
+     * @param registrations Stored registrations
+     * @param participationCertificates Participation certificates issued with them
+     */
+    public static void registrationsCreated(List<Registration> registrations, int participationCertificates) {
+        DashboardEventBus bus = DashboardEventBus.getInstance();
+        if (bus == null || registrations.isEmpty()) {
+            return;
+        }
+
+        JSONArray rows = new JSONArray();
+        JSONObject eventCounts = new JSONObject();
+        for (Registration registration : registrations) {
+            rows.put(registration.toJSON());
+            eventCounts.put(registration.getEvent(), eventCounts.optInt(registration.getEvent()) + 1);
+        }
+
+        JSONObject delta = new JSONObject()
+            .put("total_registrations", registrations.size())
+            .put("event_registrations", eventCounts);
+        if (participationCertificates > 0) {
+            delta.put("participation_certificates", participationCertificates);
+        }
+
+        bus.publish(DashboardEvent.REGISTRATION_CREATED, new JSONObject()
+            .put("registrations", rows)
+            .put("delta", delta));
+    }
+
+    /**
+     * Publish winner status changes
+     * @param registrationIds Registrations whose status actually changed
+     * @param isWinner New winner status
+     * @param winnerCertificates Winner certificates issued with the change
+     */
+    public static void winnersChanged(Collection<Integer> registrationIds, boolean isWinner, int winnerCertificates) {
+        DashboardEventBus bus = DashboardEventBus.getInstance();
+        if (bus == null || registrationIds.isEmpty()) {
+            return;
+        }
+
+        JSONObject delta = new JSONObject()
+            .put("total_winners", isWinner ? registrationIds.size() : -registrationIds.size());
+        if (winnerCertificates > 0) {
+            delta.put("winner_certificates", winnerCertificates);
+        }
+
+        bus.publish(DashboardEvent.WINNER_CHANGED, new JSONObject()
+            .put("registration_ids", new JSONArray(registrationIds))
+            .put("winner_status", isWinner)
+            .put("delta", delta));
+    }
+
+    /**
+     * Publish a deleted registration
+     * @param registrationId Deleted registration ID
+     * @param event Event of the deleted registration
+     * @param wasWinner Whether the participant was a winner
+     * @param participationCertificates Participation certificates deleted with it
+     * @param winnerCertificates Winner certificates deleted with it
+     */
+    public static void participantDeleted(int registrationId, String event, boolean wasWinner,
+                                          int participationCertificates, int winnerCertificates) {
+        DashboardEventBus bus = DashboardEventBus.getInstance();
+        if (bus == null) {
+            return;
+        }
+
+        JSONObject delta = new JSONObject()
+            .put("total_registrations", -1)
+            .put("event_registrations", new JSONObject().put(event, -1));
+        if (wasWinner) {
+            delta.put("total_winners", -1);
+        }
+        if (participationCertificates > 0) {
+            delta.put("participation_certificates", -participationCertificates);
+        }
+        if (winnerCertificates > 0) {
+            delta.put("winner_certificates", -winnerCertificates);
+        }
+
+        bus.publish(DashboardEvent.PARTICIPANT_DELETED, new JSONObject()
+            .put("registration_id", registrationId)
+            .put("event", event)
+            .put("delta", delta));
+    }
+
+    /**
+     * Publish certificates logged outside registration and winner selection
+     * @param certificateType Certificate type (participation or winner)
+     * @param count Number of certificates newly logged
+     */
+    public static void certificatesIssued(String certificateType, int count) {
+        DashboardEventBus bus = DashboardEventBus.getInstance();
+        if (bus == null || count <= 0) {
+            return;
+        }
+
+        bus.publish(DashboardEvent.CERTIFICATES_ISSUED, new JSONObject()
+            .put("certificate_type", certificateType)
+            .put("count", count)
+            .put("delta", new JSONObject().put(certificateType + "_certificates", count)));
+    }
+
+    /**
+     * Tell dashboards to reload their counters, after changes the deltas cannot describe
+     * @param reason Short explanation, e.g. "event renamed"
+     */
+    public static void statisticsInvalidated(String reason) {
+        DashboardEventBus bus = DashboardEventBus.getInstance();
+        if (bus == null) {
+            return;
+        }
+
+        bus.publish(DashboardEvent.RESYNC, new JSONObject().put("reason", reason));
+    }
+}
@@ -0,0 +1,160 @@
+package com.event.jobs;
+
+import com.event.dao.JobDAO;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Handle a running job uses to report progress, check for cancellation and write its artifact
+ */
+public final class JobContext {
+
+    // Progress is written to the jobs table at most this often
+    private static final long PROGRESS_INTERVAL_MILLIS = 1000;
+
+    private final String jobId;
+    private final JobDAO jobDAO;
+    private final File artifactFile;
+
+    private volatile boolean cancelled;
+    private volatile long done;
+    private volatile long total = -1;
+    private volatile String message;
+    private long lastProgressWrite;
+
+    private String artifactName;
+    private String artifactContentType;
+    private OutputStream artifactStream;
+    private long artifactSize;
+
+    JobContext(String jobId, JobDAO jobDAO, File artifactFile) {
+        this.jobId = jobId;
+        this.jobDAO = jobDAO;
+        this.artifactFile = artifactFile;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    /**
+     * Whether an admin asked for the job to stop; long-running jobs should check this regularly
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Report progress; the jobs table is updated at most once a second
+     * @param done Work done so far
+     * @param total Expected work, -1 if unknown
+     */
+    public void reportProgress(long done, long total) {
+        this.done = done;
+        this.total = total;
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (now - lastProgressWrite < PROGRESS_INTERVAL_MILLIS) {
+                return;
+            }
+            lastProgressWrite = now;
+        }
+        jobDAO.updateProgress(jobId, done, total);
+    }
+
+    /**
+     * Set the summary stored with the job when it completes
+     * @param message Result summary
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    /**
+     * Open the job's download file; a job has at most one
+     * @param name File name offered to the browser
+     * @param contentType Content type of the file
+     * @return Buffered stream into the artifact file; closing it is optional
+     * @throws IOException if the file cannot be created
+     */
+    public OutputStream openArtifact(String name, String contentType) throws IOException {
+        if (artifactStream != null) {
+            throw new IllegalStateException("Artifact already opened for job " + jobId);
+        }
+
+        artifactName = name;
+        artifactContentType = contentType;
+        artifactStream = new FilterOutputStream(new BufferedOutputStream(new FileOutputStream(artifactFile), 64 * 1024)) {
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                artifactSize++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                artifactSize += len;
+            }
+        };
+        return artifactStream;
+    }
+
+    /**
+     * Open the job's download file as UTF-8 text
+     * @param name File name offered to the browser
+     * @param contentType Content type of the file, without charset
+     * @return Writer into the artifact file
+     * @throws IOException if the file cannot be created
+     */
+    public PrintWriter openArtifactWriter(String name, String contentType) throws IOException {
+        return new PrintWriter(new OutputStreamWriter(
+            openArtifact(name, contentType + "; charset=UTF-8"), StandardCharsets.UTF_8));
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    long getDone() {
+        return done;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    String getArtifactName() {
+        return artifactName;
+    }
+
+    String getArtifactContentType() {
+        return artifactContentType;
+    }
+
+    long getArtifactSize() {
+        return artifactSize;
+    }
+
+    /**
+     * Flush and close the artifact if the task left it open
+     */
+    void closeArtifact() throws IOException {
+        if (artifactStream != null) {
+            artifactStream.close();
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.event.jobs;
+
+import com.event.dao.JobDAO;
+import com.event.model.BackgroundJob;
+
+import java.io.File;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process runner for long admin operations (exports, bulk certificates, mass winner updates)
+ * Jobs run on a small bounded executor instead of servlet request threads; their state lives in the
+ * jobs table and their output is written to an artifact file that admins download once the job completes
+ */
+public class JobManager {
+
+    // How often finished jobs past their retention are deleted together with their artifacts
+    private static final long CLEANUP_INTERVAL_MINUTES = 10;
+
+    private static volatile JobManager instance;
+
+    private final JobDAO jobDAO;
+    private final File artifactDirectory;
+    private final long retentionMillis;
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService cleaner;
+
+    // Jobs submitted by this instance that have not finished yet
+    private final Map<String, JobRun> activeJobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong jobsSubmitted = new AtomicLong();
+    private final AtomicLong jobsRejected = new AtomicLong();
+    private final AtomicLong jobsCompleted = new AtomicLong();
+    private final AtomicLong jobsFailed = new AtomicLong();
+    private final AtomicLong jobsCancelled = new AtomicLong();
+
+    /**
+     * Create a job manager and start its workers
+     * @param jobDAO DAO for the jobs table
+     * @param workerThreads Number of jobs that run at the same time
+     * @param queueCapacity Number of jobs that may wait for a worker; further submissions are rejected
+     * @param artifactDirectory Directory for job output files
+     * @param retentionMillis How long finished jobs and their artifacts are kept
+     */
+    public JobManager(JobDAO jobDAO, int workerThreads, int queueCapacity,
+                      File artifactDirectory, long retentionMillis) {
+        this.jobDAO = jobDAO;
+        this.artifactDirectory = artifactDirectory;
+        this.retentionMillis = retentionMillis;
+
+        if (!artifactDirectory.isDirectory() && !artifactDirectory.mkdirs()) {
+            System.err.println("Unable to create job artifact directory: " + artifactDirectory);
+        }
+
+        int threads = Math.max(1, workerThreads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                Thread thread = new Thread(runnable, "eventtech-job-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        this.cleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventtech-job-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleaner.scheduleWithFixedDelay(this::deleteExpiredJobs,
+            CLEANUP_INTERVAL_MINUTES, CLEANUP_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Install the shared job manager used by the servlets
+     * @param manager Manager to install, or null to uninstall
+     */
+    public static void install(JobManager manager) {
+        instance = manager;
+    }
+
+    /**
+     * Get the shared job manager
+     * @return Installed manager, or null if background jobs are disabled
+     */
+    public static JobManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Fail jobs a previous server instance left unfinished; their workers no longer exist
+     */
+    public void recoverInterruptedJobs() {
+        int interrupted = jobDAO.failInterruptedJobs();
+        if (interrupted > 0) {
+            System.err.println("Marked " + interrupted + " interrupted background job(s) as failed");
+        }
+    }
+
+    /**
+     * Queue a job
+     * @param jobType Job type, e.g. "export"
+     * @param adminId Admin submitting the job
+     * @param description Human-readable summary shown in the job list
+     * @param task Work to run
+     * @return The queued job, or null if the queue is full or the job could not be recorded
+     */
+    public BackgroundJob submit(String jobType, int adminId, String description, JobTask task) {
+        String jobId = UUID.randomUUID().toString();
+        if (!jobDAO.createJob(jobId, jobType, adminId, description)) {
+            return null;
+        }
+
+        JobRun run = new JobRun(jobId, task, new JobContext(jobId, jobDAO, getArtifactFile(jobId)));
+        activeJobs.put(jobId, run);
+
+        try {
+            executor.execute(run);
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(jobId);
+            jobsRejected.incrementAndGet();
+            jobDAO.markFinished(jobId, BackgroundJob.STATUS_FAILED, "Job queue is full, please retry later");
+            return null;
+        }
+
+        jobsSubmitted.incrementAndGet();
+        return jobDAO.getJob(jobId);
+    }
+
+    /**
+     * Get a job's current state
+     * @param jobId Job ID
+     * @return Job, or null if unknown
+     */
+    public BackgroundJob getJob(String jobId) {
+        return jobDAO.getJob(jobId);
+    }
+
+    /**
+     * Get the most recently submitted jobs
+     * @param limit Maximum number of jobs
+     * @return Jobs, newest first
+     */
+    public List<BackgroundJob> getRecentJobs(int limit) {
+        return jobDAO.getRecentJobs(limit);
+    }
+
+    /**
+     * Cancel a job; a queued job never starts, a running job stops at its next cancellation check
+     * @param jobId Job ID
+     * @return true if the job was still active
+     */
+    public boolean cancel(String jobId) {
+        JobRun run = activeJobs.get(jobId);
+        if (run == null) {
+            return false;
+        }
+
+        run.context.cancel();
+        if (executor.remove(run)) {
+            finish(run, BackgroundJob.STATUS_CANCELLED, "Cancelled before it started");
+        }
+        return true;
+    }
+
+    /**
+     * Locate a job's artifact file
+     * @param jobId Job ID
+     * @return Artifact file (which may not exist)
+     */
+    public File getArtifactFile(String jobId) {
+        return new File(artifactDirectory, jobId + ".artifact");
+    }
+
+    /**
+     * Get job manager statistics for the admin dashboard
+     * @return Map of queue depth and job counters
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("node_id", JobDAO.getNodeId());
+        stats.put("worker_threads", executor.getMaximumPoolSize());
+        stats.put("running", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queue_remaining_capacity", executor.getQueue().remainingCapacity());
+        stats.put("submitted", jobsSubmitted.get());
+        stats.put("rejected", jobsRejected.get());
+        stats.put("completed", jobsCompleted.get());
+        stats.put("failed", jobsFailed.get());
+        stats.put("cancelled", jobsCancelled.get());
+        return stats;
+    }
+
+    /**
+     * Stop accepting jobs, cancel running ones and wait briefly for them to stop
+     * @param timeoutMillis How long to wait for running jobs
+     */
+    public void shutdown(long timeoutMillis) {
+        cleaner.shutdownNow();
+        executor.shutdown();
+
+        for (JobRun run : activeJobs.values()) {
+            run.context.cancel();
+        }
+
+        try {
+            executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Whatever is left is recorded now rather than at the next startup
+        for (JobRun run : activeJobs.values()) {
+            finish(run, BackgroundJob.STATUS_FAILED, "Interrupted by server shutdown");
+        }
+        executor.shutdownNow();
+    }
+
+    private void execute(JobRun run) {
+        JobContext context = run.context;
+        if (context.isCancelled() || !jobDAO.markRunning(run.jobId)) {
+            finish(run, BackgroundJob.STATUS_CANCELLED, "Cancelled before it started");
+            return;
+        }
+
+        try {
+            run.task.run(context);
+            context.closeArtifact();
+
+            if (context.isCancelled()) {
+                finish(run, BackgroundJob.STATUS_CANCELLED, "Cancelled");
+                return;
+            }
+
+            // Claimed before it is marked completed, so shutdown cannot fail it and delete the artifact afterwards
+            if (activeJobs.remove(run.jobId) == null) {
+                // Already failed by shutdown, which deleted the artifact before it was finished
+                deleteArtifact(run.jobId);
+                return;
+            }
+
+            if (!jobDAO.markCompleted(run.jobId, context.getDone(), context.getTotal(), context.getMessage(),
+                    context.getArtifactName(), context.getArtifactContentType(), context.getArtifactSize())) {
+                // No longer running in the database, or the update failed; nothing may serve the artifact
+                System.err.println("Background job " + run.jobId + " finished but could not be marked completed");
+                deleteArtifact(run.jobId);
+                jobDAO.markFinished(run.jobId, BackgroundJob.STATUS_FAILED, "Could not record the job result");
+                jobsFailed.incrementAndGet();
+                return;
+            }
+            jobsCompleted.incrementAndGet();
+
+        } catch (Exception e) {
+            System.err.println("Background job " + run.jobId + " failed: " + e.getMessage());
+            e.printStackTrace();
+
+            try {
+                context.closeArtifact();
+            } catch (Exception closeError) {
+                System.err.println("Error closing job artifact: " + closeError.getMessage());
+            }
+            finish(run, context.isCancelled() ? BackgroundJob.STATUS_CANCELLED : BackgroundJob.STATUS_FAILED,
+                e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Record a job that ended without a usable artifact
+     */
+    private void finish(JobRun run, String status, String message) {
+        if (activeJobs.remove(run.jobId) == null) {
+            return;
+        }
+
+        deleteArtifact(run.jobId);
+        jobDAO.markFinished(run.jobId, status, message);
+
+        if (BackgroundJob.STATUS_CANCELLED.equals(status)) {
+            jobsCancelled.incrementAndGet();
+        } else {
+            jobsFailed.incrementAndGet();
+        }
+    }
+
+    private void deleteExpiredJobs() {
+        try {
+            Timestamp cutoff = new Timestamp(System.currentTimeMillis() - retentionMillis);
+            for (String jobId : jobDAO.deleteFinishedJobs(cutoff)) {
+                deleteArtifact(jobId);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Error deleting expired jobs: " + e.getMessage());
+        }
+    }
+
+    private void deleteArtifact(String jobId) {
+        File artifact = getArtifactFile(jobId);
+        if (artifact.exists() && !artifact.delete()) {
+            System.err.println("Unable to delete job artifact: " + artifact);
+        }
+    }
+
+    /**
+     * Queued or running job; identity matters for removing it from the executor queue
+     */
+    private class JobRun implements Runnable {
+
+        private final String jobId;
+        private final JobTask task;
+        private final JobContext context;
+
+        JobRun(String jobId, JobTask task, JobContext context) {
+            this.jobId = jobId;
+            this.task = task;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            execute(this);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.event.jobs;
+
+/**
+ * Work performed by a background job
+ */
+@FunctionalInterface
+public interface JobTask {
+
+    /**
+     * Run the job on a job worker thread
+     * @param context Progress reporting, cancellation and artifact output for this job
+     * @throws Exception if the job fails; the message is stored with the job
+     */
+    void run(JobContext context) throws Exception;
+}
@@ -0,0 +1,200 @@
+package com.event.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Application metrics: latency and size histograms for requests and DAO calls
+ * Exposed in Prometheus text format by the /metrics servlet and as a JSON summary on the admin dashboard
+ */
+public final class Metrics {
+
+    // Quantiles reported for every histogram
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    // Label values beyond this many series per metric are folded into "other"
+    private static final int MAX_SERIES_PER_METRIC = 200;
+
+    private static final double MICROS_PER_SECOND = 1e6;
+
+    private static final Family REQUEST_DURATION = new Family("eventtech_http_request_duration_seconds",
+        "Time from request start to response completion", MICROS_PER_SECOND, "path", "action");
+    private static final Family RESPONSE_SIZE = new Family("eventtech_http_response_size_bytes",
+        "Response body size", 1, "path", "action");
+    private static final Family DAO_DURATION = new Family("eventtech_dao_duration_seconds",
+        "Time a DAO method held its database connection (sampled borrows)", MICROS_PER_SECOND, "method");
+    private static final Family DAO_ROWS = new Family("eventtech_dao_rows",
+        "Rows returned by a DAO query", 1, "method");
+    private static final Family CONNECTION_ACQUIRE = new Family("eventtech_db_connection_acquire_seconds",
+        "Time spent waiting for a pooled database connection", MICROS_PER_SECOND);
+
+    private static final Family[] FAMILIES = {
+        REQUEST_DURATION, RESPONSE_SIZE, DAO_DURATION, DAO_ROWS, CONNECTION_ACQUIRE
+    };
+
+    private Metrics() {
+    }
+
+    /**
+     * Record a finished request
+     * @param path Servlet mapping that handled it, e.g. /register
+     * @param action Action or format parameter, empty if none
+     * @param nanos Request duration in nanoseconds
+     * @param responseBytes Response body bytes written
+     */
+    public static void recordRequest(String path, String action, long nanos, long responseBytes) {
+        REQUEST_DURATION.series(path, action).record(nanos / 1000);
+        RESPONSE_SIZE.series(path, action).record(responseBytes);
+    }
+
+    /**
+     * Record a DAO method's use of a database connection
+     * Only sampled borrows are named, so _count is a fraction of all calls (DB_POOL_BORROWER_SAMPLE_INTERVAL)
+     * @param method DAO method, e.g. RegistrationDAO.getRegistrations
+     * @param nanos Time from borrowing the connection to returning it
+     */
+    public static void recordDaoCall(String method, long nanos) {
+        DAO_DURATION.series(method).record(nanos / 1000);
+    }
+
+    /**
+     * Record the number of rows a DAO query returned
+     * @param method DAO method, e.g. RegistrationDAO.getRegistrations
+     * @param rows Rows returned
+     */
+    public static void recordRows(String method, long rows) {
+        DAO_ROWS.series(method).record(rows);
+    }
+
+    /**
+     * Record the wait for a pooled connection
+     * @param nanos Time from asking the pool to receiving a connection
+     */
+    public static void recordConnectionAcquire(long nanos) {
+        CONNECTION_ACQUIRE.series().record(nanos / 1000);
+    }
+
+    /**
+     * Write every metric in the Prometheus text exposition format (version 0.0.4)
+     * Histograms are exposed as summaries with quantiles, _sum and _count
+     * @param out Destination
+     * @throws IOException if writing fails
+     */
+    public static void writePrometheus(Writer out) throws IOException {
+        for (Family family : FAMILIES) {
+            out.write("# HELP " + family.name + " " + family.help + "\n");
+            out.write("# TYPE " + family.name + " summary\n");
+
+            for (Map.Entry<List<String>, Histogram> series : family.series.entrySet()) {
+                Histogram.Snapshot snapshot = series.getValue().snapshot();
+                String labels = formatLabels(family.labelNames, series.getKey());
+
+                for (double quantile : QUANTILES) {
+                    String quantileLabel = "quantile=\"" + quantile + "\"";
+                    out.write(family.name + "{" + (labels.isEmpty() ? quantileLabel : labels + "," + quantileLabel)
+                        + "} " + format(snapshot.getValueAtQuantile(quantile) / family.divisor) + "\n");
+                }
+
+                String suffixLabels = labels.isEmpty() ? "" : "{" + labels + "}";
+                out.write(family.name + "_sum" + suffixLabels + " " + format(snapshot.getSum() / family.divisor) + "\n");
+                out.write(family.name + "_count" + suffixLabels + " " + snapshot.getCount() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Get a JSON-friendly summary for the admin dashboard
+     * Durations are in milliseconds
+     * @return Map of metric name to a list of series with labels, count, mean, p50, p99, p999 and max
+     */
+    public static Map<String, Object> getSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (Family family : FAMILIES) {
+            // Durations are shown in milliseconds, sizes as they are
+            double divisor = family.divisor == MICROS_PER_SECOND ? 1e3 : 1;
+
+            List<Map<String, Object>> seriesList = new ArrayList<>();
+            for (Map.Entry<List<String>, Histogram> series : family.series.entrySet()) {
+                Histogram.Snapshot snapshot = series.getValue().snapshot();
+
+                Map<String, Object> entry = new LinkedHashMap<>();
+                for (int i = 0; i < family.labelNames.length; i++) {
+                    entry.put(family.labelNames[i], series.getKey().get(i));
+                }
+                entry.put("count", snapshot.getCount());
+                entry.put("mean", snapshot.getMean() / divisor);
+                entry.put("p50", snapshot.getValueAtQuantile(0.5) / divisor);
+                entry.put("p99", snapshot.getValueAtQuantile(0.99) / divisor);
+                entry.put("p999", snapshot.getValueAtQuantile(0.999) / divisor);
+                entry.put("max", snapshot.getMax() / divisor);
+                seriesList.add(entry);
+            }
+            summary.put(family.name, seriesList);
+        }
+        return summary;
+    }
+
+    private static String formatLabels(String[] names, List<String> values) {
+        StringBuilder labels = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                labels.append(',');
+            }
+            labels.append(names[i]).append("=\"").append(escapeLabelValue(values.get(i))).append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+            ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    /**
+     * One metric with a fixed set of label names and a histogram per combination of label values
+     */
+    private static final class Family {
+
+        private final String name;
+        private final String help;
+        private final double divisor;
+        private final String[] labelNames;
+        private final ConcurrentMap<List<String>, Histogram> series = new ConcurrentHashMap<>();
+
+        /**
+         * @param divisor Recorded units per exposed unit, e.g. 1e6 for microseconds exposed as seconds
+         */
+        Family(String name, String help, double divisor, String... labelNames) {
+            this.name = name;
+            this.help = help;
+            this.divisor = divisor;
+            this.labelNames = labelNames;
+        }
+
+        Histogram series(String... labelValues) {
+            List<String> key = List.of(labelValues);
+            Histogram histogram = series.get(key);
+            if (histogram != null) {
+                return histogram;
+            }
+
+            if (series.size() >= MAX_SERIES_PER_METRIC) {
+                String[] other = new String[labelValues.length];
+                Arrays.fill(other, "other");
+                key = List.of(other);
+            }
+            return series.computeIfAbsent(key, k -> new Histogram());
+        }
+    }
+}
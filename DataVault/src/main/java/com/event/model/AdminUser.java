@@ -0,0 +1,43 @@
+package com.event.model;
+
+import org.json.JSONObject;
+
+/**
+ * Admin user row
+ * Immutable view of an admin account, without its password
+ */
+public final class AdminUser {
+
+    private final int id;
+    private final String username;
+    private final String role;
+
+    public AdminUser(int id, String username, String role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Serialize to JSON
+     * @return JSON object with id, username and role
+     */
+    public JSONObject toJSON() {
+        return new JSONObject()
+            .put("id", id)
+            .put("username", username)
+            .put("role", role);
+    }
+}
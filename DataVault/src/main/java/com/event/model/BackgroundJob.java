@@ -0,0 +1,154 @@
+package com.event.model;
+
+import org.json.JSONObject;
+
+import java.sql.Timestamp;
+
+/**
+ * Jobs table row
+ * Immutable snapshot of a background admin operation and its artifact
+ */
+public final class BackgroundJob {
+
+    public static final String STATUS_QUEUED = "queued";
+    public static final String STATUS_RUNNING = "running";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+    public static final String STATUS_CANCELLED = "cancelled";
+
+    private final String id;
+    private final String jobType;
+    private final String status;
+    private final int adminId;
+    private final String description;
+    private final long progressDone;
+    private final long progressTotal;
+    private final String message;
+    private final String artifactName;
+    private final String artifactContentType;
+    private final long artifactSize;
+    private final Timestamp createdAt;
+    private final Timestamp startedAt;
+    private final Timestamp finishedAt;
+
+    public BackgroundJob(String id, String jobType, String status, int adminId, String description,
+                         long progressDone, long progressTotal, String message,
+                         String artifactName, String artifactContentType, long artifactSize,
+                         Timestamp createdAt, Timestamp startedAt, Timestamp finishedAt) {
+        this.id = id;
+        this.jobType = jobType;
+        this.status = status;
+        this.adminId = adminId;
+        this.description = description;
+        this.progressDone = progressDone;
+        this.progressTotal = progressTotal;
+        this.message = message;
+        this.artifactName = artifactName;
+        this.artifactContentType = artifactContentType;
+        this.artifactSize = artifactSize;
+        this.createdAt = createdAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getAdminId() {
+        return adminId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getProgressDone() {
+        return progressDone;
+    }
+
+    /**
+     * @return Expected amount of work, or -1 while unknown
+     */
+    public long getProgressTotal() {
+        return progressTotal;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getArtifactName() {
+        return artifactName;
+    }
+
+    public String getArtifactContentType() {
+        return artifactContentType;
+    }
+
+    public long getArtifactSize() {
+        return artifactSize;
+    }
+
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
+    public Timestamp getStartedAt() {
+        return startedAt;
+    }
+
+    public Timestamp getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Whether the job can no longer change
+     */
+    public boolean isFinished() {
+        return STATUS_COMPLETED.equals(status) || STATUS_FAILED.equals(status) || STATUS_CANCELLED.equals(status);
+    }
+
+    /**
+     * Whether a completed job left a file to download
+     */
+    public boolean hasArtifact() {
+        return STATUS_COMPLETED.equals(status) && artifactName != null;
+    }
+
+    /**
+     * Serialize to JSON
+     * @return JSON object with status, progress, artifact details and timestamps
+     */
+    public JSONObject toJSON() {
+        JSONObject json = new JSONObject()
+            .put("job_id", id)
+            .put("job_type", jobType)
+            .put("status", status)
+            .put("admin_id", adminId)
+            .put("description", description)
+            .put("progress_done", progressDone)
+            .put("progress_total", progressTotal)
+            .put("message", message)
+            .put("created_at", createdAt != null ? createdAt.toString() : null)
+            .put("started_at", startedAt != null ? startedAt.toString() : null)
+            .put("finished_at", finishedAt != null ? finishedAt.toString() : null);
+
+        if (hasArtifact()) {
+            json.put("artifact", new JSONObject()
+                .put("name", artifactName)
+                .put("content_type", artifactContentType)
+                .put("size", artifactSize)
+                .put("download_url", "jobs?action=download&job_id=" + id));
+        }
+        return json;
+    }
+}
@@ -0,0 +1,53 @@
+package com.event.model;
+
+import org.json.JSONObject;
+
+import java.sql.Timestamp;
+
+/**
+ * Certificate log row
+ * Immutable view of one issued certificate
+ */
+public final class CertificateRecord {
+
+    private final int registrationId;
+    private final String certificateType;
+    private final String certificateId;
+    private final Timestamp generatedDate;
+
+    public CertificateRecord(int registrationId, String certificateType, String certificateId,
+                             Timestamp generatedDate) {
+        this.registrationId = registrationId;
+        this.certificateType = certificateType;
+        this.certificateId = certificateId;
+        this.generatedDate = generatedDate;
+    }
+
+    public int getRegistrationId() {
+        return registrationId;
+    }
+
+    public String getCertificateType() {
+        return certificateType;
+    }
+
+    public String getCertificateId() {
+        return certificateId;
+    }
+
+    public Timestamp getGeneratedDate() {
+        return generatedDate;
+    }
+
+    /**
+     * Serialize to JSON
+     * @return JSON object with registration_id, certificate_type, certificate_id and generated_date
+     */
+    public JSONObject toJSON() {
+        return new JSONObject()
+            .put("registration_id", registrationId)
+            .put("certificate_type", certificateType)
+            .put("certificate_id", certificateId)
+            .put("generated_date", generatedDate != null ? generatedDate.toString() : null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.event.model;
+
+import org.json.JSONObject;
+
+/**
+ * Event row
+ * Immutable view of one row of the events table
+ */
+public final class Event {
+
+    private final int id;
+    private final String name;
+    private final String description;
+
+    public Event(int id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Serialize to the JSON shape used by the event settings API
+     * @return JSON object with id, event_name and description
+     */
+    public JSONObject toJSON() {
+        return new JSONObject()
+            .put("id", id)
+            .put("event_name", name)
+            .put("description", description);
+    }
+}
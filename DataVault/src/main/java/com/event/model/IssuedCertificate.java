@@ -0,0 +1,83 @@
+package com.event.model;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Certificate log row joined with its participant
+ * Immutable; carries everything needed to render the certificate
+ */
+public final class IssuedCertificate {
+
+    private final int id;
+    private final String certificateId;
+    private final String certificateType;
+    private final Timestamp generatedDate;
+    private final int registrationId;
+    private final String name;
+    private final String college;
+    private final String event;
+
+    public IssuedCertificate(int id, String certificateId, String certificateType, Timestamp generatedDate,
+                             int registrationId, String name, String college, String event) {
+        this.id = id;
+        this.certificateId = certificateId;
+        this.certificateType = certificateType;
+        this.generatedDate = generatedDate;
+        this.registrationId = registrationId;
+        this.name = name;
+        this.college = college;
+        this.event = event;
+    }
+
+    /**
+     * Certificate log row ID, used as the paging key
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getCertificateId() {
+        return certificateId;
+    }
+
+    public String getCertificateType() {
+        return certificateType;
+    }
+
+    public Timestamp getGeneratedDate() {
+        return generatedDate;
+    }
+
+    public int getRegistrationId() {
+        return registrationId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCollege() {
+        return college;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    /**
+     * Certificate fields in the shape the renderer expects
+     * @return Map with certificate_id, certificate_type, name, college, event and generated_date
+     */
+    public Map<String, Object> toCertificateData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("certificate_id", certificateId);
+        data.put("certificate_type", certificateType);
+        data.put("name", name);
+        data.put("college", college);
+        data.put("event", event);
+        data.put("generated_date", generatedDate);
+        return data;
+    }
+}
@@ -0,0 +1,74 @@
+package com.event.model;
+
+import org.json.JSONObject;
+
+import java.sql.Timestamp;
+
+/**
+ * Participant registration row
+ * Immutable view of one row of the registrations table
+ */
+public final class Registration {
+
+    private final int id;
+    private final String name;
+    private final String email;
+    private final String college;
+    private final String event;
+    private final Timestamp registrationDate;
+    private final boolean winner;
+
+    public Registration(int id, String name, String email, String college, String event,
+                        Timestamp registrationDate, boolean winner) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.college = college;
+        this.event = event;
+        this.registrationDate = registrationDate;
+        this.winner = winner;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getCollege() {
+        return college;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public Timestamp getRegistrationDate() {
+        return registrationDate;
+    }
+
+    public boolean isWinner() {
+        return winner;
+    }
+
+    /**
+     * Serialize to the JSON shape used by the dashboard and exports
+     * @return JSON object with id, name, email, college, event, registration_date and winner_status
+     */
+    public JSONObject toJSON() {
+        return new JSONObject()
+            .put("id", id)
+            .put("name", name)
+            .put("email", email)
+            .put("college", college)
+            .put("event", event)
+            .put("registration_date", registrationDate != null ? registrationDate.toString() : null)
+            .put("winner_status", winner);
+    }
+}
@@ -1,8 +1,16 @@
 package com.event.servlets;
 
+import com.event.certificate.CertificateRenderCache;
 import com.event.dao.RegistrationDAO;
-import com.event.dao.EventDAO;
+import com.event.dao.RegistrationIndex;
+import com.event.dao.RegistrationStatistics;
+import com.event.dao.AuditLogWriter;
 import com.event.dao.CertificateDAO;
+import com.event.dao.DBConnection;
+import com.event.events.DashboardEventBus;
+import com.event.jobs.JobManager;
+import com.event.metrics.Metrics;
+import com.event.model.Registration;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -13,34 +21,45 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Servlet for admin dashboard operations
  * Handles participant management, data export, and dashboard data
  */
-@WebServlet("/admin-dashboard")
+@WebServlet(urlPatterns = "/admin-dashboard", asyncSupported = true)
 public class AdminDashboardServlet extends HttpServlet {
     
+    // How stale the participant total shown alongside cursor pages may be
+    private static final long TOTAL_COUNT_CACHE_MILLIS = 10000;
+    
     private RegistrationDAO registrationDAO;
-    private EventDAO eventDAO;
-    private CertificateDAO certificateDAO;
     
     @Override
     public void init() throws ServletException {
         super.init();
         registrationDAO = new RegistrationDAO();
-        eventDAO = new EventDAO();
-        certificateDAO = new CertificateDAO();
     }
     
     /**
      * Handle GET requests for dashboard data and exports
+     * Handled on the JDBC executor, which answers 429 when its queue is full
      */
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
+        String action = request.getParameter("action");
+        if ("export_csv".equals(action) || "export_html".equals(action)) {
+            JdbcRequestExecutor.dispatchExport(request, response, this::handleGet);
+        } else {
+            JdbcRequestExecutor.dispatch(request, response, this::handleGet);
+        }
+    }
+    
+    private void handleGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
         
         // Check admin authentication
         if (!AdminLoginServlet.isAdminAuthenticated(request)) {
@@ -62,6 +81,10 @@ public class AdminDashboardServlet extends HttpServlet {
             getParticipants(request, response);
         } else if ("get_statistics".equals(action)) {
             getStatistics(request, response);
+        } else if ("get_pool_statistics".equals(action)) {
+            getPoolStatistics(request, response);
+        } else if ("get_metrics".equals(action)) {
+            getMetrics(request, response);
         } else if ("export_csv".equals(action)) {
             exportCSV(request, response);
         } else if ("export_html".equals(action)) {
@@ -85,6 +108,10 @@ public class AdminDashboardServlet extends HttpServlet {
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
+        JdbcRequestExecutor.dispatch(request, response, this::handlePost);
+    }
+    
+    private void handlePost(HttpServletRequest request, HttpServletResponse response) throws IOException {
         
         // Check admin authentication
         if (!AdminLoginServlet.isAdminAuthenticated(request)) {
@@ -130,6 +157,12 @@ public class AdminDashboardServlet extends HttpServlet {
         JSONObject jsonResponse = new JSONObject();
         
         try {
+            // Cursor (keyset) mode when the client sends a cursor parameter, even an empty one
+            if (request.getParameter("cursor") != null) {
+                getParticipantsAfterCursor(request, jsonResponse);
+                return;
+            }
+            
             // Parse pagination parameters
             int page = 1;
             int limit = 10;
@@ -158,14 +191,14 @@ public class AdminDashboardServlet extends HttpServlet {
             int offset = (page - 1) * limit;
             
             // Get participants and total count
-            List<Map<String, Object>> participants = registrationDAO.getAllRegistrations(offset, limit);
+            List<Registration> participants = registrationDAO.getAllRegistrations(offset, limit);
             int totalCount = registrationDAO.getTotalRegistrationCount();
             int totalPages = (int) Math.ceil((double) totalCount / limit);
             
             // Convert to JSON array
             JSONArray participantsArray = new JSONArray();
-            for (Map<String, Object> participant : participants) {
-                participantsArray.put(new JSONObject(participant));
+            for (Registration participant : participants) {
+                participantsArray.put(participant.toJSON());
             }
             
             // Success response
@@ -192,6 +225,80 @@ public class AdminDashboardServlet extends HttpServlet {
         }
     }
     
+    /**
+     * Fill a participants response using keyset pagination
+     * The cursor is opaque to clients; it encodes the (registration_date, id) of the last row sent
+     */
+    private void getParticipantsAfterCursor(HttpServletRequest request, JSONObject jsonResponse) {
+        int limit = 10;
+        String limitParam = request.getParameter("limit");
+        if (limitParam != null && !limitParam.trim().isEmpty()) {
+            try {
+                limit = Math.max(1, Math.min(100, Integer.parseInt(limitParam))); // Limit between 1 and 100
+            } catch (NumberFormatException e) {
+                limit = 10;
+            }
+        }
+        
+        Timestamp afterDate = null;
+        int afterId = 0;
+        String cursor = request.getParameter("cursor").trim();
+        if (!cursor.isEmpty()) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('|');
+                afterDate = Timestamp.valueOf(decoded.substring(0, separator));
+                afterId = Integer.parseInt(decoded.substring(separator + 1));
+            } catch (RuntimeException e) {
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Invalid pagination cursor");
+                return;
+            }
+        }
+        
+        // Fetch one extra row to learn whether another page exists
+        List<Registration> participants = registrationDAO.getRegistrationsAfter(afterDate, afterId, limit + 1);
+        boolean hasNext = participants.size() > limit;
+        if (hasNext) {
+            participants = participants.subList(0, limit);
+        }
+        
+        JSONArray participantsArray = new JSONArray();
+        for (Registration participant : participants) {
+            participantsArray.put(participant.toJSON());
+        }
+        
+        JSONObject pagination = new JSONObject()
+            .put("mode", "cursor")
+            .put("limit", limit)
+            .put("has_next", hasNext)
+            .put("has_previous", afterDate != null);
+        
+        if (hasNext) {
+            Registration last = participants.get(participants.size() - 1);
+            String position = last.getRegistrationDate() + "|" + last.getId();
+            pagination.put("next_cursor",
+                Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8)));
+        }
+        
+        // Total count is optional: cached exact count (default), planner estimate, exact, or none
+        String totalMode = request.getParameter("total");
+        if ("approx".equals(totalMode)) {
+            pagination.put("total_count", registrationDAO.getEstimatedRegistrationCount());
+            pagination.put("total_count_exact", false);
+        } else if ("exact".equals(totalMode)) {
+            pagination.put("total_count", registrationDAO.getTotalRegistrationCount());
+            pagination.put("total_count_exact", true);
+        } else if (!"none".equals(totalMode)) {
+            pagination.put("total_count", registrationDAO.getCachedTotalRegistrationCount(TOTAL_COUNT_CACHE_MILLIS));
+            pagination.put("total_count_exact", false);
+        }
+        
+        jsonResponse.put("status", "success");
+        jsonResponse.put("participants", participantsArray);
+        jsonResponse.put("pagination", pagination);
+    }
+    
     /**
      * Get dashboard statistics
      */
@@ -205,18 +312,8 @@ public class AdminDashboardServlet extends HttpServlet {
         JSONObject jsonResponse = new JSONObject();
         
         try {
-            // Get various statistics
-            int totalRegistrations = registrationDAO.getTotalRegistrationCount();
-            Map<String, Integer> eventCounts = eventDAO.getEventRegistrationCounts();
-            Map<String, Object> certificateStats = certificateDAO.getCertificateStatistics();
-            List<Map<String, Object>> winners = certificateDAO.getAllWinners();
-            
-            // Prepare statistics object
-            JSONObject statistics = new JSONObject();
-            statistics.put("total_registrations", totalRegistrations);
-            statistics.put("total_winners", winners.size());
-            statistics.put("event_registrations", new JSONObject(eventCounts));
-            statistics.put("certificate_statistics", new JSONObject(certificateStats));
+            // Incrementally maintained counters, reconciled against the database in the background
+            JSONObject statistics = new JSONObject(RegistrationStatistics.getSnapshot());
             
             // Success response
             jsonResponse.put("status", "success");
@@ -234,6 +331,79 @@ public class AdminDashboardServlet extends HttpServlet {
         }
     }
     
+    /**
+     * Get request and DAO latency percentiles, the same histograms /metrics exposes
+     */
+    private void getMetrics(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("metrics", new JSONObject(Metrics.getSummary()));
+        
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
+    }
+    
+    /**
+     * Get database connection pool statistics
+     */
+    private void getPoolStatistics(HttpServletRequest request, HttpServletResponse response) 
+            throws IOException {
+        
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        PrintWriter out = response.getWriter();
+        JSONObject jsonResponse = new JSONObject();
+        
+        try {
+            jsonResponse.put("status", "success");
+            jsonResponse.put("pool_statistics", new JSONObject(DBConnection.getPoolStatistics()));
+            
+            jsonResponse.put("verification_statistics", new JSONObject(CertificateDAO.getVerificationStatistics()));
+            jsonResponse.put("registration_index_statistics", new JSONObject(RegistrationIndex.getStatistics()));
+            jsonResponse.put("render_statistics", new JSONObject(CertificateRenderCache.getInstance().getStatistics()));
+            
+            JobManager jobManager = JobManager.getInstance();
+            if (jobManager != null) {
+                jsonResponse.put("job_statistics", new JSONObject(jobManager.getStatistics()));
+            }
+            
+            JdbcRequestExecutor requestExecutor = JdbcRequestExecutor.getInstance();
+            if (requestExecutor != null) {
+                jsonResponse.put("request_executor_statistics", new JSONObject(requestExecutor.getStatistics()));
+            }
+            
+            JdbcRequestExecutor exportExecutor = JdbcRequestExecutor.getExportInstance();
+            if (exportExecutor != null) {
+                jsonResponse.put("export_executor_statistics", new JSONObject(exportExecutor.getStatistics()));
+            }
+            
+            DashboardEventBus eventBus = DashboardEventBus.getInstance();
+            if (eventBus != null) {
+                jsonResponse.put("event_statistics", new JSONObject(eventBus.getStatistics()));
+            }
+            
+            AuditLogWriter auditLogWriter = AuditLogWriter.getInstance();
+            if (auditLogWriter != null) {
+                jsonResponse.put("audit_statistics", new JSONObject(auditLogWriter.getStatistics()));
+            }
+            
+        } catch (Exception e) {
+            System.err.println("Error fetching pool statistics: " + e.getMessage());
+            e.printStackTrace();
+            
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Failed to fetch pool statistics");
+        } finally {
+            out.print(jsonResponse.toString());
+            out.flush();
+        }
+    }
+    
     /**
      * Delete a participant
      */
@@ -309,37 +479,27 @@ public class AdminDashboardServlet extends HttpServlet {
         PrintWriter out = response.getWriter();
         
         try {
-            // Get all participants (no pagination for export)
-            List<Map<String, Object>> participants = registrationDAO.getAllRegistrations(0, Integer.MAX_VALUE);
-            
-            // CSV header
-            out.println("ID,Name,Email,College,Event,Registration Date,Winner Status");
-            
-            // CSV data
-            for (Map<String, Object> participant : participants) {
-                out.printf("%d,\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%s%n",
-                    participant.get("id"),
-                    escapeCSV((String) participant.get("name")),
-                    escapeCSV((String) participant.get("email")),
-                    escapeCSV((String) participant.get("college")),
-                    escapeCSV((String) participant.get("event")),
-                    participant.get("registration_date"),
-                    (Boolean) participant.get("winner_status") ? "Winner" : "Participant"
-                );
-            }
+            // CSV data, streamed from the database cursor (no pagination for export)
+            CSVExportWriter csvWriter = new CSVExportWriter(out);
+            csvWriter.begin();
+            registrationDAO.streamRegistrations(csvWriter);
             
         } catch (Exception e) {
             System.err.println("Error exporting CSV: " + e.getMessage());
             e.printStackTrace();
             
-            response.setContentType("application/json");
-            response.setCharacterEncoding("UTF-8");
-            
-            JSONObject jsonResponse = new JSONObject();
-            jsonResponse.put("status", "error");
-            jsonResponse.put("message", "Failed to export CSV");
-            
-            out.print(jsonResponse.toString());
+            // Rows already sent cannot be taken back; only report the error if nothing was flushed yet
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                
+                JSONObject jsonResponse = new JSONObject();
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Failed to export CSV");
+                
+                out.print(jsonResponse.toString());
+            }
         } finally {
             out.flush();
         }
@@ -355,72 +515,20 @@ public class AdminDashboardServlet extends HttpServlet {
         response.setCharacterEncoding("UTF-8");
         response.setHeader("Content-Disposition", "attachment; filename=\"participants.html\"");
         
-        PrintWriter out = response.getWriter();
+        PrintWriter out = HTMLReportWriter.openResponseWriter(request, response);
         
         try {
-            // Get all participants
-            List<Map<String, Object>> participants = registrationDAO.getAllRegistrations(0, Integer.MAX_VALUE);
-            
-            // HTML structure
-            out.println("<!DOCTYPE html>");
-            out.println("<html lang=\"en\">");
-            out.println("<head>");
-            out.println("<meta charset=\"UTF-8\">");
-            out.println("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">");
-            out.println("<title>TARUNYAM - Participants List</title>");
-            out.println("<style>");
-            out.println("body { font-family: Arial, sans-serif; margin: 20px; }");
-            out.println("table { border-collapse: collapse; width: 100%; }");
-            out.println("th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }");
-            out.println("th { background-color: #f2f2f2; }");
-            out.println("</style>");
-            out.println("</head>");
-            out.println("<body>");
-            out.println("<h1>TARUNYAM - Tech Event 2025 - Participants List</h1>");
-            out.println("<table>");
-            out.println("<tr><th>ID</th><th>Name</th><th>Email</th><th>College</th><th>Event</th><th>Registration Date</th><th>Status</th></tr>");
-            
-            for (Map<String, Object> participant : participants) {
-                out.printf("<tr><td>%d</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td></tr>%n",
-                    participant.get("id"),
-                    escapeHTML((String) participant.get("name")),
-                    escapeHTML((String) participant.get("email")),
-                    escapeHTML((String) participant.get("college")),
-                    escapeHTML((String) participant.get("event")),
-                    participant.get("registration_date"),
-                    (Boolean) participant.get("winner_status") ? "Winner" : "Participant"
-                );
-            }
-            
-            out.println("</table>");
-            out.println("</body>");
-            out.println("</html>");
+            // Rows go out as they come off the database cursor
+            HTMLReportWriter list = new HTMLReportWriter(out, true);
+            list.beginList();
+            registrationDAO.streamRegistrations(list);
+            list.finish();
             
         } catch (Exception e) {
             System.err.println("Error exporting HTML: " + e.getMessage());
             e.printStackTrace();
         } finally {
-            out.flush();
+            out.close();
         }
     }
-    
-    /**
-     * Escape CSV special characters
-     */
-    private String escapeCSV(String text) {
-        if (text == null) return "";
-        return text.replace("\"", "\"\"");
-    }
-    
-    /**
-     * Escape HTML special characters
-     */
-    private String escapeHTML(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                  .replace("<", "&lt;")
-                  .replace(">", "&gt;")
-                  .replace("\"", "&quot;")
-                  .replace("'", "&#x27;");
-    }
 }
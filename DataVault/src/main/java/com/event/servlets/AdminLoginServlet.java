@@ -1,6 +1,7 @@
 package com.event.servlets;
 
 import com.event.dao.AdminDAO;
+import com.event.model.AdminUser;
 import org.json.JSONObject;
 
 import javax.servlet.ServletException;
@@ -11,7 +12,6 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.Map;
 
 /**
  * Servlet for handling admin authentication
@@ -63,25 +63,25 @@ public class AdminLoginServlet extends HttpServlet {
             }
             
             // Authenticate admin
-            Map<String, Object> admin = adminDAO.authenticateAdmin(username, password);
+            AdminUser admin = adminDAO.authenticateAdmin(username, password);
             
             if (admin != null) {
                 // Create admin session
                 HttpSession session = request.getSession(true);
-                session.setAttribute("admin_id", admin.get("id"));
-                session.setAttribute("admin_username", admin.get("username"));
-                session.setAttribute("admin_role", admin.get("role"));
+                session.setAttribute("admin_id", admin.getId());
+                session.setAttribute("admin_username", admin.getUsername());
+                session.setAttribute("admin_role", admin.getRole());
                 session.setMaxInactiveInterval(3600); // 1 hour session timeout
                 
                 // Log admin login
-                int adminId = (Integer) admin.get("id");
+                int adminId = admin.getId();
                 adminDAO.logAdminAction(adminId, "Admin login successful");
                 
                 // Success response
                 jsonResponse.put("status", "success");
                 jsonResponse.put("message", "Login successful! Redirecting to dashboard...");
                 jsonResponse.put("redirect_url", "dashboard.jsp");
-                jsonResponse.put("admin_username", admin.get("username"));
+                jsonResponse.put("admin_username", admin.getUsername());
                 
             } else {
                 jsonResponse.put("status", "error");
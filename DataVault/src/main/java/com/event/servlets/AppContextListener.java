@@ -0,0 +1,172 @@
+package com.event.servlets;
+
+import com.event.certificate.BulkCertificateJob;
+import com.event.dao.AdminDAO;
+import com.event.dao.AuditLogWriter;
+import com.event.dao.CertificateDAO;
+import com.event.dao.DBConnection;
+import com.event.dao.JobDAO;
+import com.event.dao.RegistrationIndex;
+import com.event.dao.RegistrationStatistics;
+import com.event.events.DashboardEventBus;
+import com.event.jobs.JobManager;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+import java.io.File;
+
+/**
+ * Application lifecycle listener
+ * Starts the audit log writer, JDBC request executor, background job manager and dashboard event bus, and releases shared resources such as the connection pool when the webapp is undeployed
+ */
+@WebListener
+public class AppContextListener implements ServletContextListener {
+
+    // How long shutdown waits for queued audit entries to reach the database
+    private static final long AUDIT_FLUSH_TIMEOUT_MILLIS = 10000;
+
+    // How long shutdown waits for requests already handed to the JDBC executor
+    private static final long REQUEST_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    // How long shutdown waits for cancelled background jobs to stop
+    private static final long JOB_SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    // Pool connections kept for the periodic reloads and reconciliation, which each borrow one at a time
+    private static final int BACKGROUND_CONNECTIONS = 3;
+
+    private AuditLogWriter auditLogWriter;
+    private JobManager jobManager;
+    private JdbcRequestExecutor requestExecutor;
+    private JdbcRequestExecutor exportExecutor;
+    private DashboardEventBus dashboardEventBus;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        // Other shared resources are created lazily on first use
+        ServletContext context = sce.getServletContext();
+
+        if (!"false".equalsIgnoreCase(context.getInitParameter("audit.async.enabled"))) {
+            auditLogWriter = new AuditLogWriter(new AdminDAO(),
+                ContextParameters.getInt(context, "audit.async.queueCapacity", 4096),
+                ContextParameters.getInt(context, "audit.async.maxBatchSize", 100),
+                AuditLogWriter.OverflowPolicy.parse(context.getInitParameter("audit.async.overflowPolicy"),
+                    AuditLogWriter.OverflowPolicy.BLOCK),
+                ContextParameters.getInt(context, "audit.async.blockTimeoutMillis", 1000),
+                context.getInitParameter("audit.async.spillFile"));
+            AuditLogWriter.install(auditLogWriter);
+        }
+
+        if (!"false".equalsIgnoreCase(context.getInitParameter("async.enabled"))) {
+            int exportThreads = ContextParameters.getInt(context, "async.exportThreads", 2);
+
+            // Defaults to the connections the other pool consumers leave over: more threads would only
+            // wait for connections, and a saturated main lane would starve the background writers
+            int threads = ContextParameters.getInt(context, "async.jdbcThreads", 0);
+            if (threads <= 0) {
+                threads = Math.max(1, DBConnection.getMaxPoolSize() - reservedConnections(context, exportThreads));
+            }
+            requestExecutor = new JdbcRequestExecutor(threads,
+                ContextParameters.getInt(context, "async.queueCapacity", 200),
+                ContextParameters.getInt(context, "async.retryAfterSeconds", 2));
+            JdbcRequestExecutor.install(requestExecutor);
+
+            if (exportThreads > 0) {
+                exportExecutor = new JdbcRequestExecutor(exportThreads,
+                    ContextParameters.getInt(context, "async.exportQueueCapacity", 10),
+                    ContextParameters.getInt(context, "async.retryAfterSeconds", 2));
+                JdbcRequestExecutor.installExport(exportExecutor);
+            }
+        }
+
+        if (!"false".equalsIgnoreCase(context.getInitParameter("jobs.enabled"))) {
+            String artifactDirectory = context.getInitParameter("jobs.artifactDirectory");
+            jobManager = new JobManager(new JobDAO(),
+                ContextParameters.getInt(context, "jobs.workerThreads", 2),
+                ContextParameters.getInt(context, "jobs.queueCapacity", 20),
+                artifactDirectory != null && !artifactDirectory.trim().isEmpty()
+                    ? new File(artifactDirectory.trim())
+                    : new File(System.getProperty("java.io.tmpdir"), "eventtech-jobs"),
+                ContextParameters.getInt(context, "jobs.retentionHours", 24) * 3600000L);
+            // Jobs a previous instance left unfinished are failed before new ones can be submitted
+            jobManager.recoverInterruptedJobs();
+            JobManager.install(jobManager);
+        }
+
+        if (!"false".equalsIgnoreCase(context.getInitParameter("events.enabled"))) {
+            dashboardEventBus = new DashboardEventBus(
+                ContextParameters.getInt(context, "events.queueCapacity", 1024),
+                ContextParameters.getInt(context, "events.historySize", 256),
+                ContextParameters.getInt(context, "events.maxConnections", 100));
+            DashboardEventBus.install(dashboardEventBus);
+        }
+
+        // Load issued certificate IDs for verification in the background, and reload them periodically
+        // to pick up other instances' certificates; lookups skip the filter until it is ready
+        CertificateDAO.startVerificationFilterRefresh();
+        
+        // Same for the (email, event) pairs used to answer duplicate registrations without a query
+        RegistrationIndex.startRefresh();
+    }
+
+    /**
+     * Count the connections used outside the main JDBC executor, one per thread that may hold one at a time
+     * @param context Servlet context holding the configuration
+     * @param exportThreads Threads of the export executor
+     * @return Connections to leave to the other consumers
+     */
+    private static int reservedConnections(ServletContext context, int exportThreads) {
+        int reserved = Math.max(0, exportThreads);
+        if (!"false".equalsIgnoreCase(context.getInitParameter("jobs.enabled"))) {
+            reserved += ContextParameters.getInt(context, "jobs.workerThreads", 2);
+        }
+        if (!"false".equalsIgnoreCase(context.getInitParameter("audit.async.enabled"))) {
+            reserved++;
+        }
+        if (Boolean.parseBoolean(context.getInitParameter("registration.batching.enabled"))) {
+            reserved++;
+        }
+        // Direct certificate archive downloads run on container threads
+        reserved += BulkCertificateJob.getMaxRunning();
+        // Bloom filter reload, registration index reload and statistics reconciliation
+        reserved += BACKGROUND_CONNECTIONS;
+        return reserved;
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        if (dashboardEventBus != null) {
+            DashboardEventBus.install(null);
+            dashboardEventBus.shutdown();
+        }
+
+        if (jobManager != null) {
+            JobManager.install(null);
+            jobManager.shutdown(JOB_SHUTDOWN_TIMEOUT_MILLIS);
+        }
+
+        if (exportExecutor != null) {
+            JdbcRequestExecutor.installExport(null);
+            exportExecutor.shutdown(REQUEST_SHUTDOWN_TIMEOUT_MILLIS);
+        }
+
+        if (requestExecutor != null) {
+            // Requests arriving during undeploy are handled on their own thread again
+            JdbcRequestExecutor.install(null);
+            requestExecutor.shutdown(REQUEST_SHUTDOWN_TIMEOUT_MILLIS);
+        }
+
+        if (auditLogWriter != null) {
+            // Later audit calls fall back to synchronous inserts while the queue drains
+            AuditLogWriter.install(null);
+            auditLogWriter.shutdown(AUDIT_FLUSH_TIMEOUT_MILLIS);
+        }
+
+        CertificateDAO.stopVerificationFilterRefresh();
+        RegistrationIndex.stopRefresh();
+        BulkCertificateJob.shutdown();
+        RegistrationStatistics.shutdown();
+        DBConnection.shutdown();
+    }
+}
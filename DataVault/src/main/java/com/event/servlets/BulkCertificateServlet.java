@@ -0,0 +1,279 @@
+package com.event.servlets;
+
+import com.event.certificate.BulkCertificateJob;
+import com.event.certificate.CertificateFormat;
+import com.event.dao.AdminDAO;
+import com.event.dao.CertificateDAO;
+import com.event.jobs.JobManager;
+import com.event.model.BackgroundJob;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Servlet for bulk certificate archives
+ * Handles starting, polling, cancelling and downloading per-event certificate ZIP jobs,
+ * streamed directly (start/download) or built as a background job (queue)
+ */
+@WebServlet("/bulk-certificates")
+public class BulkCertificateServlet extends HttpServlet {
+
+    // Suggested wait before retrying when every archive slot is busy
+    private static final int BUSY_RETRY_AFTER_SECONDS = 30;
+
+    private CertificateDAO certificateDAO;
+    private AdminDAO adminDAO;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        certificateDAO = new CertificateDAO();
+        adminDAO = new AdminDAO();
+    }
+
+    /**
+     * Handle GET requests: job status and archive download
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!AdminLoginServlet.isAdminAuthenticated(request)) {
+            sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized access. Please login first.");
+            return;
+        }
+
+        String action = request.getParameter("action");
+
+        if ("status".equals(action)) {
+            getStatus(request, response);
+        } else if ("download".equals(action)) {
+            download(request, response);
+        } else {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid action specified");
+        }
+    }
+
+    /**
+     * Handle POST requests: start and cancel jobs
+     */
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!AdminLoginServlet.isAdminAuthenticated(request)) {
+            sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized access. Please login first.");
+            return;
+        }
+
+        String action = request.getParameter("action");
+
+        if ("start".equals(action)) {
+            startJob(request, response);
+        } else if ("queue".equals(action)) {
+            queueJob(request, response);
+        } else if ("cancel".equals(action)) {
+            cancelJob(request, response);
+        } else {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid action specified");
+        }
+    }
+
+    /**
+     * Create a job for an event; the client then downloads it with action=download
+     */
+    private void startJob(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String event = request.getParameter("event");
+        if (event == null || event.trim().isEmpty()) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Event is required");
+            return;
+        }
+
+        CertificateFormat format = CertificateFormat.parse(request.getParameter("format"));
+        if (format == null) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Format must be pdf or png");
+            return;
+        }
+
+        BulkCertificateJob job = BulkCertificateJob.create(event.trim(), format,
+            AdminLoginServlet.getAdminId(request));
+
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("job", new JSONObject(job.getProgress()));
+        jsonResponse.put("download_url", "bulk-certificates?action=download&job_id=" + job.getId());
+        sendJson(response, jsonResponse);
+    }
+
+    /**
+     * Build an event's archive as a background job; it is downloaded from /jobs once complete
+     */
+    private void queueJob(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String event = request.getParameter("event");
+        if (event == null || event.trim().isEmpty()) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Event is required");
+            return;
+        }
+
+        CertificateFormat format = CertificateFormat.parse(request.getParameter("format"));
+        if (format == null) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Format must be pdf or png");
+            return;
+        }
+
+        JobManager jobManager = JobManager.getInstance();
+        if (jobManager == null) {
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Background jobs are disabled");
+            return;
+        }
+
+        int adminId = AdminLoginServlet.getAdminId(request);
+        BulkCertificateJob certificateJob = BulkCertificateJob.create(event.trim(), format, adminId);
+        String filename = "certificates-" + certificateJob.getEvent().replaceAll("[^A-Za-z0-9]+", "-") + ".zip";
+
+        BackgroundJob job = jobManager.submit("certificates", adminId,
+            format.getExtension().toUpperCase() + " certificates for event: " + certificateJob.getEvent(),
+            context -> {
+                boolean ran = certificateJob.writeZipWhenReady(context.openArtifact(filename, "application/zip"),
+                    certificateDAO, (written, total) -> {
+                        if (context.isCancelled()) {
+                            certificateJob.cancel();
+                        }
+                        context.reportProgress(written, total);
+                    });
+                if (!ran) {
+                    throw new IllegalStateException("Certificate job was cancelled before it started");
+                }
+
+                Map<String, Object> progress = certificateJob.getProgress();
+                context.setMessage(progress.get("written") + " certificates, " + progress.get("failed") + " failed");
+                adminDAO.logAdminAction(adminId, "Generated " + format.getExtension().toUpperCase()
+                    + " certificates for event: " + certificateJob.getEvent() + " (" + progress.get("written")
+                    + " files, background job)");
+            });
+
+        if (job == null) {
+            certificateJob.cancel();
+            response.setHeader("Retry-After", String.valueOf(BUSY_RETRY_AFTER_SECONDS));
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Job queue is full, please retry shortly");
+            return;
+        }
+
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("message", "Certificate archive queued");
+        jsonResponse.put("job", job.toJSON());
+
+        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        sendJson(response, jsonResponse);
+    }
+
+    /**
+     * Report one job, or every known job when no job_id is given
+     */
+    private void getStatus(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String jobId = request.getParameter("job_id");
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+
+        if (jobId != null) {
+            BulkCertificateJob job = BulkCertificateJob.get(jobId);
+            if (job == null) {
+                sendError(response, HttpServletResponse.SC_NOT_FOUND, "Job not found");
+                return;
+            }
+            jsonResponse.put("job", new JSONObject(job.getProgress()));
+        } else {
+            JSONArray jobs = new JSONArray();
+            for (BulkCertificateJob job : BulkCertificateJob.list()) {
+                jobs.put(new JSONObject(job.getProgress()));
+            }
+            jsonResponse.put("jobs", jobs);
+        }
+
+        response.setHeader("Cache-Control", "no-store");
+        sendJson(response, jsonResponse);
+    }
+
+    private void cancelJob(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BulkCertificateJob job = BulkCertificateJob.get(request.getParameter("job_id"));
+        if (job == null) {
+            sendError(response, HttpServletResponse.SC_NOT_FOUND, "Job not found");
+            return;
+        }
+
+        job.cancel();
+
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("message", "Cancellation requested");
+        jsonResponse.put("job", new JSONObject(job.getProgress()));
+        sendJson(response, jsonResponse);
+    }
+
+    /**
+     * Run a pending job, streaming its ZIP archive as the response body
+     */
+    private void download(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BulkCertificateJob job = BulkCertificateJob.get(request.getParameter("job_id"));
+        if (job == null) {
+            sendError(response, HttpServletResponse.SC_NOT_FOUND, "Job not found");
+            return;
+        }
+        if (job.getState() != BulkCertificateJob.State.PENDING) {
+            sendError(response, HttpServletResponse.SC_CONFLICT, "Job has already been " + job.getState().name().toLowerCase());
+            return;
+        }
+
+        String filename = "certificates-" + job.getEvent().replaceAll("[^A-Za-z0-9]+", "-") + ".zip";
+        response.setContentType("application/zip");
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
+        response.setHeader("Cache-Control", "no-store");
+
+        try {
+            if (!job.writeZip(response.getOutputStream(), certificateDAO)) {
+                response.reset();
+                response.setHeader("Retry-After", String.valueOf(BUSY_RETRY_AFTER_SECONDS));
+                sendError(response, 429, "Too many certificate archives are being built, please retry shortly");
+                return;
+            }
+
+            adminDAO.logAdminAction(job.getAdminId(), "Downloaded " + job.getFormat().getExtension().toUpperCase()
+                + " certificates for event: " + job.getEvent() + " (" + job.getProgress().get("written") + " files)");
+
+        } catch (IOException e) {
+            // Usually the client went away; the archive cannot be repaired once streaming started
+            System.err.println("Bulk certificate job " + job.getId() + " stopped: " + e.getMessage());
+            if (!response.isCommitted()) {
+                response.reset();
+                sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Failed to build certificate archive");
+            }
+        }
+    }
+
+    private void sendJson(HttpServletResponse response, JSONObject jsonResponse) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
+    }
+
+    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "error");
+        jsonResponse.put("message", message);
+
+        response.setStatus(status);
+        sendJson(response, jsonResponse);
+    }
+}
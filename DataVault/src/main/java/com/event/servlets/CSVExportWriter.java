@@ -0,0 +1,67 @@
+package com.event.servlets;
+
+import com.event.dao.RegistrationRowHandler;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.sql.Timestamp;
+
+/**
+ * Writes the participants CSV export one row at a time as registrations are streamed from the database
+ * Shared by the export page, export jobs and the admin dashboard so they produce the same file
+ */
+final class CSVExportWriter implements RegistrationRowHandler {
+
+    // PrintWriter swallows write errors; checking every this many rows stops the cursor soon after a disconnect
+    private static final int ERROR_CHECK_INTERVAL = 500;
+
+    private final PrintWriter out;
+    private final StringBuilder row = new StringBuilder(256);
+    private int count;
+
+    CSVExportWriter(PrintWriter out) {
+        this.out = out;
+    }
+
+    /**
+     * Write the header line
+     */
+    void begin() {
+        out.println("ID,Name,Email,College,Event,Registration Date,Winner Status");
+    }
+
+    @Override
+    public void handleRow(int id, String name, String email, String college, String event,
+                          Timestamp registrationDate, boolean winnerStatus) throws IOException {
+        row.setLength(0);
+        row.append(id).append(",\"");
+        appendEscaped(row, name).append("\",\"");
+        appendEscaped(row, email).append("\",\"");
+        appendEscaped(row, college).append("\",\"");
+        appendEscaped(row, event).append("\",\"");
+        row.append(registrationDate).append("\",")
+            .append(winnerStatus ? "Winner" : "Participant");
+        out.println(row);
+
+        if (++count % ERROR_CHECK_INTERVAL == 0 && out.checkError()) {
+            throw new IOException("Client disconnected after " + count + " rows");
+        }
+    }
+
+    /**
+     * Append a quoted field's text with embedded quotes doubled
+     */
+    private static StringBuilder appendEscaped(StringBuilder target, String text) {
+        if (text == null) {
+            return target;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                target.append('"');
+            }
+            target.append(c);
+        }
+        return target;
+    }
+}
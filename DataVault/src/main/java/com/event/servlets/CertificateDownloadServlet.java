@@ -0,0 +1,136 @@
+package com.event.servlets;
+
+import com.event.certificate.CertificateFormat;
+import com.event.certificate.CertificateRenderCache;
+import com.event.certificate.RenderedCertificate;
+import com.event.dao.CertificateDAO;
+import com.event.dao.CertificateIdGenerator;
+import org.json.JSONObject;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Public servlet for certificate downloads
+ * Handles server-rendered PDF and PNG certificates, served from the render cache with ETag revalidation
+ */
+@WebServlet("/certificate")
+public class CertificateDownloadServlet extends HttpServlet {
+
+    private CertificateDAO certificateDAO;
+    private CertificateRenderCache renderCache;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        certificateDAO = new CertificateDAO();
+        renderCache = CertificateRenderCache.getInstance();
+    }
+
+    /**
+     * Handle GET requests for a certificate file
+     * Parameters: id (certificate ID), format (pdf or png, default pdf), download (true for an attachment)
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        String certificateId = request.getParameter("id");
+        if (certificateId == null || certificateId.trim().isEmpty()) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Certificate ID is required");
+            return;
+        }
+        // Same spelling as stored, for the render cache key and the file name
+        certificateId = CertificateIdGenerator.canonicalize(certificateId.trim());
+
+        CertificateFormat format = CertificateFormat.parse(request.getParameter("format"));
+        if (format == null) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Format must be pdf or png");
+            return;
+        }
+
+        // Verification is cached and invalidated on revocation, so a revoked winner
+        // certificate stops downloading even though its rendered file may still be cached
+        Map<String, Object> verification = certificateDAO.verifyCertificate(certificateId);
+        if (!Boolean.TRUE.equals(verification.get("valid"))) {
+            if (Boolean.TRUE.equals(verification.get("revoked"))) {
+                sendError(response, HttpServletResponse.SC_GONE, "Certificate has been revoked");
+            } else {
+                sendError(response, HttpServletResponse.SC_NOT_FOUND, "Certificate not found");
+            }
+            return;
+        }
+
+        RenderedCertificate rendered;
+        try {
+            Map<String, Object> certificate = new HashMap<>(verification);
+            certificate.put("certificate_id", certificateId);
+            rendered = renderCache.get(certificate, format);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error rendering certificate " + certificateId + ": " + e.getMessage());
+            e.printStackTrace();
+            sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Failed to render certificate");
+            return;
+        }
+
+        // no-cache: clients keep the file but revalidate, so revocations take effect immediately
+        response.setHeader("Cache-Control", "no-cache");
+        response.setHeader("ETag", rendered.getETag());
+
+        if (matchesETag(request.getHeader("If-None-Match"), rendered.getETag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String disposition = "true".equalsIgnoreCase(request.getParameter("download")) ? "attachment" : "inline";
+        String filename = verification.get("certificate_type") + "-certificate-"
+            + certificateId.replaceAll("[^A-Za-z0-9-]", "") + "." + format.getExtension();
+
+        response.setContentType(rendered.getContentType());
+        response.setContentLength(rendered.getContentLength());
+        response.setHeader("Content-Disposition", disposition + "; filename=\"" + filename + "\"");
+
+        ServletOutputStream out = response.getOutputStream();
+        rendered.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Check an If-None-Match header against the current ETag
+     */
+    private boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write a JSON error in the same shape as the other endpoints
+     */
+    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "error");
+        jsonResponse.put("message", message);
+
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().print(jsonResponse.toString());
+        response.getWriter().flush();
+    }
+}
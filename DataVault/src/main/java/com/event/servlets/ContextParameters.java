@@ -0,0 +1,34 @@
+package com.event.servlets;
+
+import javax.servlet.ServletContext;
+
+/**
+ * Typed access to the web.xml context parameters that configure the application
+ * Missing or malformed values fall back to the default instead of failing deployment
+ */
+final class ContextParameters {
+
+    private ContextParameters() {
+    }
+
+    /**
+     * Read an integer context parameter
+     * @param context Servlet context
+     * @param name Parameter name
+     * @param defaultValue Value used when the parameter is missing or malformed
+     * @return Configured value
+     */
+    static int getInt(ServletContext context, String name, int defaultValue) {
+        String value = context.getInitParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid value for " + name + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
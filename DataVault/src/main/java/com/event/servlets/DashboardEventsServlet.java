@@ -0,0 +1,364 @@
+package com.event.servlets;
+
+import com.event.dao.RegistrationStatistics;
+import com.event.events.DashboardEvent;
+import com.event.events.DashboardEventBus;
+import com.event.events.DashboardEventListener;
+import org.json.JSONObject;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servlet for live dashboard updates
+ * Streams dashboard events to admins as Server-Sent Events; connections are held with Servlet async
+ * and written with non-blocking I/O, so an idle dashboard does not hold a request thread
+ */
+@WebServlet(urlPatterns = "/dashboard-events", asyncSupported = true)
+public class DashboardEventsServlet extends HttpServlet {
+
+    // Connections are closed after this long; the browser reconnects and resumes from its last event
+    private static final long STREAM_TIMEOUT_MILLIS = 15 * 60 * 1000L;
+
+    // Comment frames sent this often keep proxies from closing idle streams and reveal dead clients
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 20;
+
+    // Frames a connection may have waiting before it is treated as stalled and closed
+    private static final int MAX_PENDING_FRAMES = 500;
+
+    // Reconnect delay suggested to the browser
+    private static final int RECONNECT_MILLIS = 5000;
+
+    private static final int BUSY_RETRY_AFTER_SECONDS = 30;
+
+    private static final byte[] HEARTBEAT_FRAME = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Set<StreamConnection> connections = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService heartbeat;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "eventtech-dashboard-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(() -> {
+            for (StreamConnection connection : connections) {
+                connection.send(HEARTBEAT_FRAME);
+            }
+        }, HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        for (StreamConnection connection : connections) {
+            connection.close();
+        }
+        super.destroy();
+    }
+
+    /**
+     * Handle GET requests: open an event stream
+     * A new stream starts with a "statistics" event holding the full counters; a browser reconnecting
+     * with Last-Event-ID gets the events it missed instead, when they are still in the bus history
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!AdminLoginServlet.isAdminAuthenticated(request)) {
+            sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized access. Please login first.");
+            return;
+        }
+
+        DashboardEventBus bus = DashboardEventBus.getInstance();
+        if (bus == null) {
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Live dashboard updates are disabled");
+            return;
+        }
+
+        // Events delivered from here on are queued until the stream is started below
+        StreamConnection connection = new StreamConnection(bus);
+        DashboardEventBus.Subscription subscription = bus.subscribe(connection, parseLastEventId(request));
+        if (subscription == DashboardEventBus.Subscription.REJECTED) {
+            response.setHeader("Retry-After", String.valueOf(BUSY_RETRY_AFTER_SECONDS));
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many live dashboards are connected");
+            return;
+        }
+
+        StringBuilder preamble = new StringBuilder("retry: ").append(RECONNECT_MILLIS).append("\n\n");
+        if (subscription == DashboardEventBus.Subscription.STARTED) {
+            // Taken after subscribing so no event is missed; events the snapshot already counts are dropped
+            Map<String, Object> statistics = RegistrationStatistics.getSnapshot();
+            connection.release((Long) statistics.get("event_sequence"));
+            preamble.append("event: statistics\ndata: ")
+                .append(new JSONObject(statistics))
+                .append("\n\n");
+        } else {
+            connection.release(0);
+        }
+
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+        // Stops buffering reverse proxies from holding events back
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(STREAM_TIMEOUT_MILLIS);
+        asyncContext.addListener(connection);
+
+        connections.add(connection);
+        connection.start(asyncContext, response.getOutputStream(),
+            preamble.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long parseLastEventId(HttpServletRequest request) {
+        String value = request.getHeader("Last-Event-ID");
+        if (value == null || value.trim().isEmpty()) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "error");
+        jsonResponse.put("message", message);
+
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
+    }
+
+    /**
+     * One open event stream
+     * Frames are queued by the bus dispatcher and heartbeat threads and written only while the
+     * container reports the socket writable; the rest is written from onWritePossible
+     */
+    private class StreamConnection implements DashboardEventListener, WriteListener, AsyncListener {
+
+        private final DashboardEventBus bus;
+        private final Queue<byte[]> frames = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingFrames = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        // Guarded by this
+        private AsyncContext asyncContext;
+        private ServletOutputStream out;
+        private byte[] preamble;
+        private boolean unflushed;
+        // Events delivered before the stream knows which ones its statistics snapshot includes; null once released
+        private List<DashboardEvent> held = new ArrayList<>();
+        private long skipThroughSequence;
+
+        StreamConnection(DashboardEventBus bus) {
+            this.bus = bus;
+        }
+
+        /**
+         * Begin writing; the preamble goes out before any queued event
+         */
+        void start(AsyncContext asyncContext, ServletOutputStream out, byte[] preamble) {
+            synchronized (this) {
+                this.asyncContext = asyncContext;
+                this.out = out;
+                this.preamble = preamble;
+            }
+            if (closed.get()) {
+                // Stalled before it started; nothing else will complete the request
+                asyncContext.complete();
+                return;
+            }
+            // The container calls onWritePossible once the stream is ready
+            out.setWriteListener(this);
+        }
+
+        /**
+         * Let held and future events through, dropping those the initial snapshot already counts
+         * @param snapshotSequence Publish sequence the snapshot includes, or 0 when no snapshot was sent
+         */
+        void release(long snapshotSequence) {
+            synchronized (this) {
+                skipThroughSequence = snapshotSequence;
+                for (DashboardEvent event : held) {
+                    if (!isCounted(event)) {
+                        // Queued directly so they stay ahead of events delivered after the lock is released
+                        pendingFrames.incrementAndGet();
+                        frames.add(event.getFrame());
+                    }
+                }
+                held = null;
+            }
+            drain();
+        }
+
+        @Override
+        public void onEvent(DashboardEvent event) {
+            synchronized (this) {
+                if (held != null) {
+                    held.add(event);
+                    return;
+                }
+            }
+            if (!isCounted(event)) {
+                send(event.getFrame());
+            }
+        }
+
+        /**
+         * Whether the statistics snapshot this stream started with already includes the event's delta
+         * Resyncs always go through; reloading once too often is harmless
+         */
+        private boolean isCounted(DashboardEvent event) {
+            return !DashboardEvent.RESYNC.equals(event.getType())
+                && event.getSequence() > 0 && event.getSequence() <= skipThroughSequence;
+        }
+
+        void send(byte[] frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingFrames.incrementAndGet() > MAX_PENDING_FRAMES) {
+                // The browser stopped reading; it reconnects and resumes or resyncs
+                close();
+                return;
+            }
+
+            frames.add(frame);
+            drain();
+        }
+
+        @Override
+        public void onWritePossible() {
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            close();
+        }
+
+        /**
+         * Write queued frames until the queue is empty or the socket would block
+         */
+        private void drain() {
+            boolean failed = false;
+
+            synchronized (this) {
+                if (out == null || closed.get()) {
+                    return;
+                }
+
+                try {
+                    while (out.isReady()) {
+                        if (preamble != null) {
+                            out.write(preamble);
+                            preamble = null;
+                            unflushed = true;
+                            continue;
+                        }
+
+                        byte[] frame = frames.poll();
+                        if (frame == null) {
+                            if (!unflushed) {
+                                break;
+                            }
+                            unflushed = false;
+                            out.flush();
+                            continue;
+                        }
+
+                        pendingFrames.decrementAndGet();
+                        out.write(frame);
+                        unflushed = true;
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    failed = true;
+                }
+            }
+
+            // Closed outside the lock: closing unsubscribes from the bus, which the dispatcher holds while calling send
+            if (failed) {
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+
+            bus.unsubscribe(this);
+            connections.remove(this);
+            frames.clear();
+
+            AsyncContext context;
+            synchronized (this) {
+                context = asyncContext;
+            }
+            if (context != null) {
+                try {
+                    context.complete();
+                } catch (IllegalStateException e) {
+                    // Already completed by the container (timeout, error or client disconnect)
+                }
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Not restarted
+        }
+    }
+}
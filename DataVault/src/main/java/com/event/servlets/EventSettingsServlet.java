@@ -2,6 +2,7 @@ package com.event.servlets;
 
 import com.event.dao.EventDAO;
 import com.event.dao.AdminDAO;
+import com.event.model.Event;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -39,6 +40,14 @@ public class EventSettingsServlet extends HttpServlet {
     protected void doGet(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
         
+        String action = request.getParameter("action");
+        
+        // The event catalog feeds the public registration form; everything else is admin only
+        if ("get_events".equals(action)) {
+            getEvents(request, response);
+            return;
+        }
+        
         // Check admin authentication
         if (!AdminLoginServlet.isAdminAuthenticated(request)) {
             response.setContentType("application/json");
@@ -53,8 +62,6 @@ public class EventSettingsServlet extends HttpServlet {
             return;
         }
         
-        String action = request.getParameter("action");
-        
         if ("get_events".equals(action)) {
             getEvents(request, response);
         } else if ("get_event".equals(action)) {
@@ -116,10 +123,30 @@ public class EventSettingsServlet extends HttpServlet {
     
     /**
      * Get all events
+     * Admins also receive live registration counts; everyone else gets the cached catalog,
+     * revalidated with ETag/If-None-Match so unchanged catalogs are answered with 304
      */
     private void getEvents(HttpServletRequest request, HttpServletResponse response) 
             throws IOException {
         
+        boolean includeCounts = AdminLoginServlet.isAdminAuthenticated(request);
+        
+        if (includeCounts) {
+            // Counts change with every registration, so admin responses are never cached
+            response.setHeader("Cache-Control", "no-store");
+        } else {
+            String etag = eventDAO.getCatalogETag();
+            if (etag != null) {
+                response.setHeader("ETag", etag);
+                response.setHeader("Cache-Control", "no-cache");
+                
+                if (matchesETag(request.getHeader("If-None-Match"), etag)) {
+                    response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    return;
+                }
+            }
+        }
+        
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         
@@ -127,15 +154,17 @@ public class EventSettingsServlet extends HttpServlet {
         JSONObject jsonResponse = new JSONObject();
         
         try {
-            List<Map<String, Object>> events = eventDAO.getAllEvents();
-            Map<String, Integer> eventCounts = eventDAO.getEventRegistrationCounts();
+            List<Event> events = eventDAO.getAllEvents();
+            Map<String, Integer> eventCounts = includeCounts
+                ? eventDAO.getEventRegistrationCounts() : null;
             
             JSONArray eventsArray = new JSONArray();
-            for (Map<String, Object> event : events) {
-                JSONObject eventObj = new JSONObject(event);
-                String eventName = (String) event.get("event_name");
-                int registrationCount = eventCounts.getOrDefault(eventName, 0);
-                eventObj.put("registration_count", registrationCount);
+            for (Event event : events) {
+                JSONObject eventObj = event.toJSON();
+                if (eventCounts != null) {
+                    int registrationCount = eventCounts.getOrDefault(event.getName(), 0);
+                    eventObj.put("registration_count", registrationCount);
+                }
                 eventsArray.put(eventObj);
             }
             
@@ -154,6 +183,28 @@ public class EventSettingsServlet extends HttpServlet {
         }
     }
     
+    /**
+     * Check an If-None-Match header against the current entity tag
+     * Accepts "*", comma-separated lists and weak validators
+     */
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if ("*".equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
     /**
      * Get a specific event by ID
      */
@@ -186,11 +237,11 @@ public class EventSettingsServlet extends HttpServlet {
                 return;
             }
             
-            Map<String, Object> event = eventDAO.getEventById(eventId);
+            Event event = eventDAO.getEventById(eventId);
             
             if (event != null) {
                 jsonResponse.put("status", "success");
-                jsonResponse.put("event", new JSONObject(event));
+                jsonResponse.put("event", event.toJSON());
             } else {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Event not found");
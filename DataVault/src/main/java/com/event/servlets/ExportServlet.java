@@ -2,7 +2,12 @@ package com.event.servlets;
 
 import com.event.dao.RegistrationDAO;
 import com.event.dao.AdminDAO;
-import org.json.JSONArray;
+import com.event.dao.RegistrationFilter;
+import com.event.dao.RegistrationCountsHandler;
+import com.event.dao.RegistrationRowHandler;
+import com.event.jobs.JobContext;
+import com.event.jobs.JobManager;
+import com.event.model.BackgroundJob;
 import org.json.JSONObject;
 
 import javax.servlet.ServletException;
@@ -12,18 +17,22 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Date;
-import java.util.List;
-import java.util.Map;
 
 /**
  * Servlet for data export operations
- * Handles CSV and HTML export of registration data
+ * Handles CSV, HTML, JSON and NDJSON export of registration data
  */
-@WebServlet("/export")
+@WebServlet(urlPatterns = "/export", asyncSupported = true)
 public class ExportServlet extends HttpServlet {
     
+    // Suggested wait before resubmitting when the job queue is full
+    private static final int JOB_RETRY_AFTER_SECONDS = 30;
+    
     private RegistrationDAO registrationDAO;
     private AdminDAO adminDAO;
     
@@ -36,10 +45,15 @@ public class ExportServlet extends HttpServlet {
     
     /**
      * Handle GET requests for data export
+     * Exports stream from the export lane of the JDBC executor rather than a request thread
      */
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
+        JdbcRequestExecutor.dispatchExport(request, response, this::handleGet);
+    }
+    
+    private void handleGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
         
         // Check admin authentication
         if (!AdminLoginServlet.isAdminAuthenticated(request)) {
@@ -58,20 +72,26 @@ public class ExportServlet extends HttpServlet {
         String format = request.getParameter("format");
         String eventFilter = request.getParameter("event");
         String winnerFilter = request.getParameter("winner");
+        if (winnerFilter == null) {
+            // Dashboard filters send the winner/participant selection as "status"
+            winnerFilter = request.getParameter("status");
+        }
         
-        if ("csv".equals(format)) {
+        if ("true".equalsIgnoreCase(request.getParameter("async"))) {
+            submitExportJob(request, response, format, eventFilter, winnerFilter);
+        } else if ("csv".equals(format)) {
             exportCSV(request, response, eventFilter, winnerFilter);
         } else if ("html".equals(format)) {
             exportHTML(request, response, eventFilter, winnerFilter);
-        } else if ("json".equals(format)) {
-            exportJSON(request, response, eventFilter, winnerFilter);
+        } else if ("json".equals(format) || "ndjson".equals(format)) {
+            exportJSON(request, response, eventFilter, winnerFilter, "ndjson".equals(format));
         } else {
             response.setContentType("application/json");
             response.setCharacterEncoding("UTF-8");
             
             JSONObject jsonResponse = new JSONObject();
             jsonResponse.put("status", "error");
-            jsonResponse.put("message", "Invalid export format. Supported formats: csv, html, json");
+            jsonResponse.put("message", "Invalid export format. Supported formats: csv, html, json, ndjson");
             
             PrintWriter out = response.getWriter();
             out.print(jsonResponse.toString());
@@ -95,24 +115,12 @@ public class ExportServlet extends HttpServlet {
         PrintWriter out = response.getWriter();
         
         try {
-            // Get filtered data
-            List<Map<String, Object>> participants = getFilteredParticipants(eventFilter, winnerFilter);
-            
-            // Write CSV header
-            out.println("ID,Name,Email,College,Event,Registration Date,Winner Status");
+            RegistrationFilter filter = buildRegistrationFilter(request, eventFilter, winnerFilter);
             
-            // Write CSV data
-            for (Map<String, Object> participant : participants) {
-                out.printf("%d,\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",%s%n",
-                    participant.get("id"),
-                    escapeCSV((String) participant.get("name")),
-                    escapeCSV((String) participant.get("email")),
-                    escapeCSV((String) participant.get("college")),
-                    escapeCSV((String) participant.get("event")),
-                    participant.get("registration_date"),
-                    (Boolean) participant.get("winner_status") ? "Winner" : "Participant"
-                );
-            }
+            // Stream CSV data row by row straight from the database cursor
+            CSVExportWriter csvWriter = new CSVExportWriter(out);
+            csvWriter.begin();
+            registrationDAO.streamRegistrations(filter, csvWriter);
             
             // Log admin action
             Integer adminId = AdminLoginServlet.getAdminId(request);
@@ -125,27 +133,40 @@ public class ExportServlet extends HttpServlet {
             System.err.println("Error exporting CSV: " + e.getMessage());
             e.printStackTrace();
             
-            // Reset response for error
-            response.reset();
-            response.setContentType("application/json");
-            response.setCharacterEncoding("UTF-8");
-            
-            JSONObject jsonResponse = new JSONObject();
-            jsonResponse.put("status", "error");
-            jsonResponse.put("message", "Failed to export CSV data");
-            
-            out.print(jsonResponse.toString());
+            // Rows already sent cannot be taken back; only report the error if nothing was flushed yet
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                
+                JSONObject jsonResponse = new JSONObject();
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Failed to export CSV data");
+                
+                out.print(jsonResponse.toString());
+            }
         } finally {
             out.flush();
         }
     }
     
     /**
-     * Export data as HTML
+     * Export data as an HTML report
+     * Written in one pass from the database cursor, gzip-compressed when the client accepts it
      */
     private void exportHTML(HttpServletRequest request, HttpServletResponse response, 
                            String eventFilter, String winnerFilter) throws IOException {
         
+        RegistrationFilter filter;
+        try {
+            filter = buildRegistrationFilter(request, eventFilter, winnerFilter);
+        } catch (RuntimeException e) {
+            // Invalid filter parameter
+            System.err.println("Error exporting HTML: " + e.getMessage());
+            writeHTMLError(response);
+            return;
+        }
+        
         // Set response headers for HTML download
         response.setContentType("text/html");
         response.setCharacterEncoding("UTF-8");
@@ -154,14 +175,16 @@ public class ExportServlet extends HttpServlet {
         String filename = "tarunyam_participants_" + timestamp + ".html";
         response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
         
-        PrintWriter out = response.getWriter();
+        PrintWriter out = HTMLReportWriter.openResponseWriter(request, response);
+        boolean discarded = false;
         
         try {
-            // Get filtered data
-            List<Map<String, Object>> participants = getFilteredParticipants(eventFilter, winnerFilter);
-            
-            // Generate HTML
-            generateHTMLReport(out, participants, eventFilter, winnerFilter);
+            // The totals are counted in the same snapshot as the rows and written before the first one
+            HTMLReportWriter report = new HTMLReportWriter(out, false);
+            registrationDAO.streamRegistrations(filter,
+                (totalRegistrations, winners) -> report.begin(eventFilter, winnerFilter, totalRegistrations, winners),
+                report);
+            report.finish();
             
             // Log admin action
             Integer adminId = AdminLoginServlet.getAdminId(request);
@@ -174,184 +197,253 @@ public class ExportServlet extends HttpServlet {
             System.err.println("Error exporting HTML: " + e.getMessage());
             e.printStackTrace();
             
-            // Reset response for error
-            response.reset();
-            response.setContentType("application/json");
-            response.setCharacterEncoding("UTF-8");
-            
-            JSONObject jsonResponse = new JSONObject();
-            jsonResponse.put("status", "error");
-            jsonResponse.put("message", "Failed to export HTML report");
-            
-            out.print(jsonResponse.toString());
+            // Before the header is flushed the failure can still be reported as JSON; after it,
+            // the client is left with a truncated report
+            if (!response.isCommitted()) {
+                response.reset();
+                // The (possibly compressed) report writer belongs to the discarded response
+                discarded = true;
+                writeHTMLError(response);
+            }
         } finally {
-            out.flush();
+            if (!discarded) {
+                out.close();
+            }
         }
     }
     
+    private void writeHTMLError(HttpServletResponse response) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "error");
+        jsonResponse.put("message", "Failed to export HTML report");
+        
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
+    }
+    
     /**
-     * Export data as JSON
+     * Export data as JSON, or as NDJSON (one participant object per line)
+     * Rows are written as they come off the database cursor, so memory use does not grow with the table
      */
     private void exportJSON(HttpServletRequest request, HttpServletResponse response, 
-                           String eventFilter, String winnerFilter) throws IOException {
+                           String eventFilter, String winnerFilter, boolean ndjson) throws IOException {
         
         // Set response headers for JSON download
-        response.setContentType("application/json");
+        response.setContentType(ndjson ? "application/x-ndjson" : "application/json");
         response.setCharacterEncoding("UTF-8");
         
         String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        String filename = "tarunyam_participants_" + timestamp + ".json";
+        String filename = "tarunyam_participants_" + timestamp + (ndjson ? ".ndjson" : ".json");
         response.setHeader("Content-Disposition", "attachment; filename=\"" + filename + "\"");
         
         PrintWriter out = response.getWriter();
         
         try {
-            // Get filtered data
-            List<Map<String, Object>> participants = getFilteredParticipants(eventFilter, winnerFilter);
-            
-            // Create JSON response
-            JSONObject exportData = new JSONObject();
-            exportData.put("export_date", new Date());
-            exportData.put("total_records", participants.size());
-            exportData.put("filters", new JSONObject()
-                .put("event", eventFilter != null ? eventFilter : "all")
-                .put("winner_status", winnerFilter != null ? winnerFilter : "all")
-            );
-            
-            JSONArray participantsArray = new JSONArray();
-            for (Map<String, Object> participant : participants) {
-                participantsArray.put(new JSONObject(participant));
-            }
+            RegistrationFilter filter = buildRegistrationFilter(request, eventFilter, winnerFilter);
             
-            exportData.put("participants", participantsArray);
-            
-            out.print(exportData.toString(2)); // Pretty print with 2-space indentation
+            JSONExportWriter writer = new JSONExportWriter(out, ndjson);
+            writer.begin(eventFilter, winnerFilter);
+            registrationDAO.streamRegistrations(filter, writer);
+            writer.finish();
             
             // Log admin action
             Integer adminId = AdminLoginServlet.getAdminId(request);
             if (adminId != null) {
                 String filterInfo = buildFilterInfo(eventFilter, winnerFilter);
-                adminDAO.logAdminAction(adminId, "Exported JSON data" + filterInfo);
+                adminDAO.logAdminAction(adminId, "Exported " + (ndjson ? "NDJSON" : "JSON") + " data" + filterInfo);
             }
             
         } catch (Exception e) {
             System.err.println("Error exporting JSON: " + e.getMessage());
             e.printStackTrace();
             
-            JSONObject jsonResponse = new JSONObject();
-            jsonResponse.put("status", "error");
-            jsonResponse.put("message", "Failed to export JSON data");
+            // Rows already sent cannot be taken back; the truncated document fails to parse instead
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setContentType("application/json");
+                response.setCharacterEncoding("UTF-8");
+                
+                JSONObject jsonResponse = new JSONObject();
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Failed to export JSON data");
+                
+                out.print(jsonResponse.toString());
+            }
+        } finally {
+            out.flush();
+        }
+    }
+    
+    /**
+     * Queue an export as a background job instead of building it on the request thread
+     * Responds 202 with the job; the file is downloaded from /jobs once the job completes
+     */
+    private void submitExportJob(HttpServletRequest request, HttpServletResponse response, String format,
+                                 String eventFilter, String winnerFilter) throws IOException {
+        
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        PrintWriter out = response.getWriter();
+        JSONObject jsonResponse = new JSONObject();
+        
+        try {
+            if (!"csv".equals(format) && !"html".equals(format) && !"json".equals(format) && !"ndjson".equals(format)) {
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Invalid export format. Supported formats: csv, html, json, ndjson");
+                return;
+            }
             
-            out.print(jsonResponse.toString());
+            JobManager jobManager = JobManager.getInstance();
+            if (jobManager == null) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Background jobs are disabled");
+                // Tells the dashboard to fall back to a direct download of the same export
+                jsonResponse.put("jobs_enabled", false);
+                return;
+            }
+            
+            // Filters are validated now so a bad parameter fails the request, not the job
+            RegistrationFilter filter = buildRegistrationFilter(request, eventFilter, winnerFilter);
+            int adminId = AdminLoginServlet.getAdminId(request);
+            String filterInfo = buildFilterInfo(eventFilter, winnerFilter);
+            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+            String filename = "tarunyam_participants_" + timestamp + "." + format;
+            String contentType = "csv".equals(format) ? "text/csv" : "html".equals(format) ? "text/html"
+                : "ndjson".equals(format) ? "application/x-ndjson" : "application/json";
+            
+            BackgroundJob job = jobManager.submit("export", adminId, format.toUpperCase() + " export" + filterInfo,
+                context -> {
+                    try (PrintWriter writer = context.openArtifactWriter(filename, contentType)) {
+                        writeExport(writer, format, filter, eventFilter, winnerFilter, context);
+                        if (writer.checkError()) {
+                            throw new IOException("Failed to write export file");
+                        }
+                    }
+                    adminDAO.logAdminAction(adminId, "Exported " + format.toUpperCase() + " data" + filterInfo
+                        + " (background job)");
+                });
+            
+            if (job == null) {
+                response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                response.setHeader("Retry-After", String.valueOf(JOB_RETRY_AFTER_SECONDS));
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Export queue is full, please retry shortly");
+                return;
+            }
+            
+            response.setStatus(HttpServletResponse.SC_ACCEPTED);
+            jsonResponse.put("status", "success");
+            jsonResponse.put("message", "Export queued");
+            jsonResponse.put("job", job.toJSON());
+            
+        } catch (Exception e) {
+            System.err.println("Error queuing export: " + e.getMessage());
+            
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Failed to queue export: " + e.getMessage());
         } finally {
+            out.print(jsonResponse.toString());
             out.flush();
         }
     }
     
     /**
-     * Get filtered participants based on criteria
+     * Write an export on a job worker thread, reporting progress and stopping on cancellation
      */
-    private List<Map<String, Object>> getFilteredParticipants(String eventFilter, String winnerFilter) {
-        // For now, return all participants. In a more advanced implementation,
-        // you would add SQL WHERE clauses based on the filters
-        return registrationDAO.getAllRegistrations(0, Integer.MAX_VALUE);
+    private void writeExport(PrintWriter out, String format, RegistrationFilter filter,
+                             String eventFilter, String winnerFilter, JobContext context)
+            throws SQLException, IOException {
+        
+        RegistrationRowHandler rowWriter;
+        RegistrationCountsHandler countsWriter = null;
+        JSONExportWriter jsonWriter = null;
+        HTMLReportWriter htmlWriter = null;
+        // Only the HTML report counts its rows up front; the other formats report progress without a total
+        int[] total = { -1 };
+        if ("csv".equals(format)) {
+            CSVExportWriter csvWriter = new CSVExportWriter(out);
+            csvWriter.begin();
+            rowWriter = csvWriter;
+        } else if ("html".equals(format)) {
+            HTMLReportWriter reportWriter = new HTMLReportWriter(out, false);
+            countsWriter = (totalRegistrations, winners) -> {
+                total[0] = totalRegistrations;
+                reportWriter.begin(eventFilter, winnerFilter, totalRegistrations, winners);
+            };
+            htmlWriter = reportWriter;
+            rowWriter = reportWriter;
+        } else {
+            jsonWriter = new JSONExportWriter(out, "ndjson".equals(format));
+            jsonWriter.begin(eventFilter, winnerFilter);
+            rowWriter = jsonWriter;
+        }
+        
+        int[] written = new int[1];
+        int rows = registrationDAO.streamRegistrations(filter, countsWriter, (id, name, email, college, event, registrationDate, winnerStatus) -> {
+            if (context.isCancelled()) {
+                throw new IOException("Export cancelled");
+            }
+            rowWriter.handleRow(id, name, email, college, event, registrationDate, winnerStatus);
+            if (++written[0] % 1000 == 0) {
+                context.reportProgress(written[0], total[0]);
+            }
+        });
+        if (jsonWriter != null) {
+            jsonWriter.finish();
+        }
+        if (htmlWriter != null) {
+            htmlWriter.finish();
+        }
+        context.reportProgress(rows, rows);
+        context.setMessage(rows + " rows exported");
     }
     
     /**
-     * Generate HTML report
+     * Build the SQL-side registration filter from the request parameters
+     * Supports event, winner (winner/participant/true/false), college, from and to (yyyy-MM-dd, to is inclusive)
+     * @throws IllegalArgumentException if a parameter has an invalid value
      */
-    private void generateHTMLReport(PrintWriter out, List<Map<String, Object>> participants, 
-                                   String eventFilter, String winnerFilter) {
+    private RegistrationFilter buildRegistrationFilter(HttpServletRequest request,
+                                                       String eventFilter, String winnerFilter) {
+        RegistrationFilter filter = new RegistrationFilter();
         
-        String filterInfo = "";
-        if (eventFilter != null && !eventFilter.trim().isEmpty()) {
-            filterInfo += " - Event: " + eventFilter;
+        if (eventFilter != null && !eventFilter.trim().isEmpty() && !"all".equalsIgnoreCase(eventFilter.trim())) {
+            filter.setEvent(eventFilter.trim());
         }
+        
         if (winnerFilter != null && !winnerFilter.trim().isEmpty()) {
-            filterInfo += " - Winner Status: " + winnerFilter;
+            String value = winnerFilter.trim().toLowerCase();
+            if ("winner".equals(value) || "winners".equals(value) || "true".equals(value) || "1".equals(value)) {
+                filter.setWinnerStatus(true);
+            } else if ("participant".equals(value) || "false".equals(value) || "0".equals(value)) {
+                filter.setWinnerStatus(false);
+            } else if (!"all".equals(value)) {
+                throw new IllegalArgumentException("Invalid winner filter: " + winnerFilter);
+            }
         }
         
-        out.println("<!DOCTYPE html>");
-        out.println("<html lang=\"en\">");
-        out.println("<head>");
-        out.println("<meta charset=\"UTF-8\">");
-        out.println("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">");
-        out.println("<title>TARUNYAM - Tech Event 2025 - Participants Report</title>");
-        out.println("<style>");
-        out.println("body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; margin: 20px; background: #f5f5f5; }");
-        out.println(".container { max-width: 1200px; margin: 0 auto; background: white; padding: 30px; border-radius: 10px; box-shadow: 0 2px 10px rgba(0,0,0,0.1); }");
-        out.println("h1 { color: #1e3a8a; text-align: center; margin-bottom: 10px; }");
-        out.println(".subtitle { text-align: center; color: #666; margin-bottom: 30px; }");
-        out.println("table { border-collapse: collapse; width: 100%; margin-top: 20px; }");
-        out.println("th, td { border: 1px solid #ddd; padding: 12px; text-align: left; }");
-        out.println("th { background: linear-gradient(135deg, #3b82f6, #1e3a8a); color: white; font-weight: bold; }");
-        out.println("tr:nth-child(even) { background-color: #f8fafc; }");
-        out.println("tr:hover { background-color: #e2e8f0; }");
-        out.println(".winner { background-color: #fef3c7 !important; font-weight: bold; }");
-        out.println(".stats { display: flex; justify-content: space-around; margin-bottom: 20px; }");
-        out.println(".stat-box { background: linear-gradient(135deg, #3b82f6, #8b5cf6); color: white; padding: 20px; border-radius: 10px; text-align: center; min-width: 150px; }");
-        out.println(".stat-number { font-size: 2em; font-weight: bold; }");
-        out.println(".stat-label { font-size: 0.9em; opacity: 0.9; }");
-        out.println("</style>");
-        out.println("</head>");
-        out.println("<body>");
-        out.println("<div class=\"container\">");
-        out.println("<h1>TARUNYAM - Tech Event 2025</h1>");
-        out.println("<div class=\"subtitle\">Participants Report" + filterInfo + "</div>");
-        out.println("<div class=\"subtitle\">Generated on: " + new Date() + "</div>");
-        
-        // Statistics
-        int totalParticipants = participants.size();
-        int winnersCount = 0;
-        for (Map<String, Object> participant : participants) {
-            if ((Boolean) participant.get("winner_status")) {
-                winnersCount++;
-            }
+        String college = request.getParameter("college");
+        if (college != null && !college.trim().isEmpty()) {
+            filter.setCollege(college.trim());
         }
         
-        out.println("<div class=\"stats\">");
-        out.println("<div class=\"stat-box\">");
-        out.println("<div class=\"stat-number\">" + totalParticipants + "</div>");
-        out.println("<div class=\"stat-label\">Total Participants</div>");
-        out.println("</div>");
-        out.println("<div class=\"stat-box\">");
-        out.println("<div class=\"stat-number\">" + winnersCount + "</div>");
-        out.println("<div class=\"stat-label\">Winners</div>");
-        out.println("</div>");
-        out.println("<div class=\"stat-box\">");
-        out.println("<div class=\"stat-number\">" + (totalParticipants - winnersCount) + "</div>");
-        out.println("<div class=\"stat-label\">Participants</div>");
-        out.println("</div>");
-        out.println("</div>");
-        
-        // Table
-        out.println("<table>");
-        out.println("<thead>");
-        out.println("<tr><th>ID</th><th>Name</th><th>Email</th><th>College</th><th>Event</th><th>Registration Date</th><th>Status</th></tr>");
-        out.println("</thead>");
-        out.println("<tbody>");
-        
-        for (Map<String, Object> participant : participants) {
-            boolean isWinner = (Boolean) participant.get("winner_status");
-            String rowClass = isWinner ? " class=\"winner\"" : "";
-            
-            out.printf("<tr%s><td>%d</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td><td>%s</td></tr>%n",
-                rowClass,
-                participant.get("id"),
-                escapeHTML((String) participant.get("name")),
-                escapeHTML((String) participant.get("email")),
-                escapeHTML((String) participant.get("college")),
-                escapeHTML((String) participant.get("event")),
-                participant.get("registration_date"),
-                isWinner ? "🏆 Winner" : "✅ Participant"
-            );
+        String from = request.getParameter("from");
+        if (from != null && !from.trim().isEmpty()) {
+            filter.setRegisteredFrom(Timestamp.valueOf(LocalDate.parse(from.trim()).atStartOfDay()));
+        }
+        
+        String to = request.getParameter("to");
+        if (to != null && !to.trim().isEmpty()) {
+            filter.setRegisteredBefore(Timestamp.valueOf(LocalDate.parse(to.trim()).plusDays(1).atStartOfDay()));
         }
         
-        out.println("</tbody>");
-        out.println("</table>");
-        out.println("</div>");
-        out.println("</body>");
-        out.println("</html>");
+        return filter;
     }
     
     /**
@@ -370,24 +462,4 @@ public class ExportServlet extends HttpServlet {
         
         return filterInfo.toString();
     }
-    
-    /**
-     * Escape CSV special characters
-     */
-    private String escapeCSV(String text) {
-        if (text == null) return "";
-        return text.replace("\"", "\"\"");
-    }
-    
-    /**
-     * Escape HTML special characters
-     */
-    private String escapeHTML(String text) {
-        if (text == null) return "";
-        return text.replace("&", "&amp;")
-                  .replace("<", "&lt;")
-                  .replace(">", "&gt;")
-                  .replace("\"", "&quot;")
-                  .replace("'", "&#x27;");
-    }
 }
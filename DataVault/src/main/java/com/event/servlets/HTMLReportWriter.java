@@ -0,0 +1,229 @@
+package com.event.servlets;
+
+import com.event.dao.RegistrationRowHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes the participants HTML report in a single pass as registrations are streamed from the database
+ * Either the styled report with statistics, or the plain participants list of the admin dashboard
+ */
+final class HTMLReportWriter implements RegistrationRowHandler {
+
+    // Response and writer buffers; each flush sends one chunk of this size instead of many small ones
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // PrintWriter swallows write errors; checking every this many rows stops the cursor soon after a disconnect
+    private static final int ERROR_CHECK_INTERVAL = 500;
+
+    private final PrintWriter out;
+    private final boolean simple;
+    private final StringBuilder row = new StringBuilder(512);
+    private int count;
+
+    /**
+     * Create a writer
+     * @param out Destination, usually from openResponseWriter
+     * @param simple true for the plain participants list (start it with beginList), false for the report (begin)
+     */
+    HTMLReportWriter(PrintWriter out, boolean simple) {
+        this.out = out;
+        this.simple = simple;
+    }
+
+    /**
+     * Open a buffered writer for a report response, gzip-compressed when the client accepts it
+     * Must be called before anything is written; close the writer when done so the gzip trailer is sent
+     */
+    static PrintWriter openResponseWriter(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setBufferSize(BUFFER_SIZE);
+
+        String acceptEncoding = request.getHeader("Accept-Encoding");
+        if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+            return response.getWriter();
+        }
+
+        response.setHeader("Content-Encoding", "gzip");
+        response.addHeader("Vary", "Accept-Encoding");
+        // Sync flush, so flushing the header reaches the browser while the rows are still being read
+        GZIPOutputStream gzip = new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE, true);
+        return new PrintWriter(new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE));
+    }
+
+    /**
+     * Write the document head, title and statistics, open the table and flush
+     * @param eventFilter Event filter of the report, or null for all
+     * @param winnerFilter Winner filter of the report, or null for all
+     * @param totalParticipants Registrations matching the filters
+     * @param winnersCount Winners among them
+     */
+    void begin(String eventFilter, String winnerFilter, int totalParticipants, int winnersCount) {
+        StringBuilder filterInfo = new StringBuilder();
+        if (eventFilter != null && !eventFilter.trim().isEmpty()) {
+            appendEscaped(filterInfo.append(" - Event: "), eventFilter);
+        }
+        if (winnerFilter != null && !winnerFilter.trim().isEmpty()) {
+            appendEscaped(filterInfo.append(" - Winner Status: "), winnerFilter);
+        }
+
+        out.println("<!DOCTYPE html>");
+        out.println("<html lang=\"en\">");
+        out.println("<head>");
+        out.println("<meta charset=\"UTF-8\">");
+        out.println("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">");
+        out.println("<title>TARUNYAM - Tech Event 2025 - Participants Report</title>");
+        out.println("<style>");
+        out.println("body { font-family: 'Segoe UI', Tahoma, Geneva, Verdana, sans-serif; margin: 20px; background: #f5f5f5; }");
+        out.println(".container { max-width: 1200px; margin: 0 auto; background: white; padding: 30px; border-radius: 10px; box-shadow: 0 2px 10px rgba(0,0,0,0.1); }");
+        out.println("h1 { color: #1e3a8a; text-align: center; margin-bottom: 10px; }");
+        out.println(".subtitle { text-align: center; color: #666; margin-bottom: 30px; }");
+        out.println("table { border-collapse: collapse; width: 100%; margin-top: 20px; }");
+        out.println("th, td { border: 1px solid #ddd; padding: 12px; text-align: left; }");
+        out.println("th { background: linear-gradient(135deg, #3b82f6, #1e3a8a); color: white; font-weight: bold; }");
+        out.println("tr:nth-child(even) { background-color: #f8fafc; }");
+        out.println("tr:hover { background-color: #e2e8f0; }");
+        out.println(".winner { background-color: #fef3c7 !important; font-weight: bold; }");
+        out.println(".stats { display: flex; justify-content: space-around; margin-bottom: 20px; }");
+        out.println(".stat-box { background: linear-gradient(135deg, #3b82f6, #8b5cf6); color: white; padding: 20px; border-radius: 10px; text-align: center; min-width: 150px; }");
+        out.println(".stat-number { font-size: 2em; font-weight: bold; }");
+        out.println(".stat-label { font-size: 0.9em; opacity: 0.9; }");
+        out.println("</style>");
+        out.println("</head>");
+        out.println("<body>");
+        out.println("<div class=\"container\">");
+        out.println("<h1>TARUNYAM - Tech Event 2025</h1>");
+        out.println("<div class=\"subtitle\">Participants Report" + filterInfo + "</div>");
+        out.println("<div class=\"subtitle\">Generated on: " + new Date() + "</div>");
+
+        out.println("<div class=\"stats\">");
+        out.println("<div class=\"stat-box\">");
+        out.println("<div class=\"stat-number\">" + totalParticipants + "</div>");
+        out.println("<div class=\"stat-label\">Total Participants</div>");
+        out.println("</div>");
+        out.println("<div class=\"stat-box\">");
+        out.println("<div class=\"stat-number\">" + winnersCount + "</div>");
+        out.println("<div class=\"stat-label\">Winners</div>");
+        out.println("</div>");
+        out.println("<div class=\"stat-box\">");
+        out.println("<div class=\"stat-number\">" + (totalParticipants - winnersCount) + "</div>");
+        out.println("<div class=\"stat-label\">Participants</div>");
+        out.println("</div>");
+        out.println("</div>");
+
+        out.println("<table>");
+        out.println("<thead>");
+        out.println("<tr><th>ID</th><th>Name</th><th>Email</th><th>College</th><th>Event</th><th>Registration Date</th><th>Status</th></tr>");
+        out.println("</thead>");
+        out.println("<tbody>");
+
+        // The download starts now rather than when the first buffer of rows fills up
+        out.flush();
+    }
+
+    /**
+     * Write the head of the plain participants list, open the table and flush
+     */
+    void beginList() {
+        out.println("<!DOCTYPE html>");
+        out.println("<html lang=\"en\">");
+        out.println("<head>");
+        out.println("<meta charset=\"UTF-8\">");
+        out.println("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">");
+        out.println("<title>TARUNYAM - Participants List</title>");
+        out.println("<style>");
+        out.println("body { font-family: Arial, sans-serif; margin: 20px; }");
+        out.println("table { border-collapse: collapse; width: 100%; }");
+        out.println("th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }");
+        out.println("th { background-color: #f2f2f2; }");
+        out.println("</style>");
+        out.println("</head>");
+        out.println("<body>");
+        out.println("<h1>TARUNYAM - Tech Event 2025 - Participants List</h1>");
+        out.println("<table>");
+        out.println("<tr><th>ID</th><th>Name</th><th>Email</th><th>College</th><th>Event</th><th>Registration Date</th><th>Status</th></tr>");
+        out.flush();
+    }
+
+    @Override
+    public void handleRow(int id, String name, String email, String college, String event,
+                          Timestamp registrationDate, boolean winnerStatus) throws IOException {
+        row.setLength(0);
+        row.append(winnerStatus && !simple ? "<tr class=\"winner\"><td>" : "<tr><td>").append(id).append("</td><td>");
+        appendEscaped(row, name).append("</td><td>");
+        appendEscaped(row, email).append("</td><td>");
+        appendEscaped(row, college).append("</td><td>");
+        appendEscaped(row, event).append("</td><td>");
+        row.append(registrationDate).append("</td><td>");
+        if (simple) {
+            row.append(winnerStatus ? "Winner" : "Participant");
+        } else {
+            row.append(winnerStatus ? "🏆 Winner" : "✅ Participant");
+        }
+        row.append("</td></tr>\n");
+        out.append(row);
+
+        // Behind gzip a disconnect only shows up here, once the compressor flushes into the closed response
+        if (++count % ERROR_CHECK_INTERVAL == 0 && out.checkError()) {
+            throw new IOException("Client disconnected after " + count + " rows");
+        }
+    }
+
+    /**
+     * Close the table and the document
+     */
+    void finish() {
+        if (simple) {
+            out.println("</table>");
+        } else {
+            out.println("</tbody>");
+            out.println("</table>");
+            out.println("</div>");
+        }
+        out.println("</body>");
+        out.println("</html>");
+    }
+
+    /**
+     * Append text with HTML special characters escaped
+     * @param target Builder to append to
+     * @param text Text to escape; null appends nothing
+     * @return The builder
+     */
+    static StringBuilder appendEscaped(StringBuilder target, String text) {
+        if (text == null) {
+            return target;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    target.append("&amp;");
+                    break;
+                case '<':
+                    target.append("&lt;");
+                    break;
+                case '>':
+                    target.append("&gt;");
+                    break;
+                case '"':
+                    target.append("&quot;");
+                    break;
+                case '\'':
+                    target.append("&#x27;");
+                    break;
+                default:
+                    target.append(c);
+            }
+        }
+        return target;
+    }
+}
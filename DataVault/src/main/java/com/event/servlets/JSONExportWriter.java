@@ -0,0 +1,99 @@
+package com.event.servlets;
+
+import com.event.dao.RegistrationRowHandler;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Writes the participants JSON export one row at a time as registrations are streamed from the database
+ * Either a single document (metadata, then the participants array, then the record count) or
+ * NDJSON with one participant object per line; nothing but the current row is held in memory
+ */
+final class JSONExportWriter implements RegistrationRowHandler {
+
+    // PrintWriter swallows write errors; checking every this many rows stops the cursor soon after a disconnect
+    private static final int ERROR_CHECK_INTERVAL = 500;
+
+    private final PrintWriter out;
+    private final boolean ndjson;
+    private final StringBuilder row = new StringBuilder(256);
+    private int count;
+
+    /**
+     * Create a writer
+     * @param out Destination; rows are written as they arrive and flushed by the container's buffer
+     * @param ndjson true for one participant object per line without the surrounding document
+     */
+    JSONExportWriter(PrintWriter out, boolean ndjson) {
+        this.out = out;
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * Write the export metadata and open the participants array (nothing for NDJSON)
+     * @param eventFilter Event filter of the export, or null for all
+     * @param winnerFilter Winner filter of the export, or null for all
+     */
+    void begin(String eventFilter, String winnerFilter) {
+        if (ndjson) {
+            return;
+        }
+        out.print("{\n  \"export_date\": ");
+        out.print(JSONObject.quote(new Date().toString()));
+        out.print(",\n  \"filters\": ");
+        out.print(new JSONObject()
+            .put("event", eventFilter != null ? eventFilter : "all")
+            .put("winner_status", winnerFilter != null ? winnerFilter : "all"));
+        out.print(",\n  \"participants\": [");
+    }
+
+    @Override
+    public void handleRow(int id, String name, String email, String college, String event,
+                          Timestamp registrationDate, boolean winnerStatus) throws IOException {
+        // Same fields as Registration.toJSON
+        row.setLength(0);
+        row.append("{\"id\":").append(id)
+            .append(",\"name\":").append(quote(name))
+            .append(",\"email\":").append(quote(email))
+            .append(",\"college\":").append(quote(college))
+            .append(",\"event\":").append(quote(event));
+        if (registrationDate != null) {
+            row.append(",\"registration_date\":").append(JSONObject.quote(registrationDate.toString()));
+        }
+        row.append(",\"winner_status\":").append(winnerStatus).append('}');
+
+        if (ndjson) {
+            out.print(row);
+            out.print('\n');
+        } else {
+            out.print(count == 0 ? "\n    " : ",\n    ");
+            out.print(row);
+        }
+
+        if (++count % ERROR_CHECK_INTERVAL == 0 && out.checkError()) {
+            throw new IOException("Client disconnected after " + count + " rows");
+        }
+    }
+
+    /**
+     * Close the participants array and write the record count (nothing for NDJSON)
+     * The count comes last because it is only known once every row has been written
+     */
+    void finish() {
+        if (ndjson) {
+            return;
+        }
+        out.print(count == 0 ? "]" : "\n  ]");
+        out.print(",\n  \"total_records\": ");
+        out.print(count);
+        out.print("\n}\n");
+    }
+
+    private static String quote(String value) {
+        return value != null ? JSONObject.quote(value) : "null";
+    }
+}
@@ -0,0 +1,280 @@
+package com.event.servlets;
+
+import org.json.JSONObject;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor that runs database-bound request handling off the container's request threads
+ * Servlets put the request in async mode and hand it over, so a registration spike queues here,
+ * bounded and sized to the connection pool, instead of exhausting Tomcat's worker threads
+ */
+final class JdbcRequestExecutor {
+
+    /**
+     * Request handling moved to the executor; it writes the response as a blocking servlet would
+     */
+    @FunctionalInterface
+    interface RequestHandler {
+        void handle(HttpServletRequest request, HttpServletResponse response) throws IOException;
+    }
+
+    private static volatile JdbcRequestExecutor instance;
+    // Separate lane for exports, so long downloads cannot hold every thread of the main one
+    private static volatile JdbcRequestExecutor exportInstance;
+
+    private final ThreadPoolExecutor executor;
+    private final int retryAfterSeconds;
+
+    private final AtomicLong requestsDispatched = new AtomicLong();
+    private final AtomicLong requestsRejected = new AtomicLong();
+    private final AtomicLong requestsFailed = new AtomicLong();
+    private final AtomicLong totalQueueWaitNanos = new AtomicLong();
+
+    /**
+     * Create an executor and start its threads
+     * @param threads Number of requests handled at the same time; more than the connection pool only adds waiting
+     * @param queueCapacity Number of requests that may wait for a thread; further requests get 429
+     * @param retryAfterSeconds Retry-After sent with 429 responses
+     */
+    JdbcRequestExecutor(int threads, int queueCapacity, int retryAfterSeconds) {
+        int size = Math.max(1, threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                Thread thread = new Thread(runnable, "eventtech-jdbc-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    static void install(JdbcRequestExecutor requestExecutor) {
+        instance = requestExecutor;
+    }
+
+    static JdbcRequestExecutor getInstance() {
+        return instance;
+    }
+
+    static void installExport(JdbcRequestExecutor requestExecutor) {
+        exportInstance = requestExecutor;
+    }
+
+    static JdbcRequestExecutor getExportInstance() {
+        return exportInstance;
+    }
+
+    /**
+     * Handle a request on the JDBC executor
+     * Falls back to the calling thread when no executor is installed or the request cannot go async
+     * (for example a filter on its path does not support it)
+     * @param request Servlet request
+     * @param response Servlet response
+     * @param handler Request handling to run
+     * @throws IOException if handling on the calling thread fails
+     */
+    static void dispatch(HttpServletRequest request, HttpServletResponse response, RequestHandler handler)
+            throws IOException {
+        dispatch(instance, request, response, handler);
+    }
+
+    /**
+     * Handle an export on the export lane
+     * Exports stream for as long as the download takes; on their own small executor they queue behind
+     * each other instead of taking threads from registrations and the dashboard
+     * @param request Servlet request
+     * @param response Servlet response
+     * @param handler Export handling to run
+     * @throws IOException if handling on the calling thread fails
+     */
+    static void dispatchExport(HttpServletRequest request, HttpServletResponse response, RequestHandler handler)
+            throws IOException {
+        JdbcRequestExecutor requestExecutor = exportInstance;
+        dispatch(requestExecutor != null ? requestExecutor : instance, request, response, handler);
+    }
+
+    /**
+     * Run a task on the main executor, for work that must not block the thread that completes it
+     * @param task Task to run
+     * @return false if no executor is installed or its queue is full; the task was not run
+     */
+    static boolean execute(Runnable task) {
+        JdbcRequestExecutor requestExecutor = instance;
+        if (requestExecutor == null) {
+            return false;
+        }
+        try {
+            requestExecutor.executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static void dispatch(JdbcRequestExecutor requestExecutor, HttpServletRequest request,
+                                 HttpServletResponse response, RequestHandler handler) throws IOException {
+        if (requestExecutor == null || !request.isAsyncSupported()) {
+            handler.handle(request, response);
+            return;
+        }
+
+        requestExecutor.submit(request, response, handler);
+    }
+
+    private void submit(HttpServletRequest request, HttpServletResponse response, RequestHandler handler)
+            throws IOException {
+        AsyncContext asyncContext = request.startAsync(request, response);
+        // No container timeout: a timed-out request would be recycled while the handler still writes to it;
+        // the pool borrow timeout and the database bound how long a handler can run
+        asyncContext.setTimeout(0);
+
+        DispatchedRequest task = new DispatchedRequest(request, response, handler, asyncContext);
+        try {
+            executor.execute(task);
+            requestsDispatched.incrementAndGet();
+
+        } catch (RejectedExecutionException e) {
+            requestsRejected.incrementAndGet();
+            if (executor.isShutdown()) {
+                task.reject(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "The server is shutting down, please retry shortly");
+            } else {
+                task.reject(429, "The server is busy, please retry shortly");
+            }
+        }
+    }
+
+    /**
+     * Get executor statistics for the admin dashboard
+     * @return Map of thread, queue and request counters
+     */
+    Map<String, Object> getStatistics() {
+        long dispatched = requestsDispatched.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", executor.getMaximumPoolSize());
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queue_remaining_capacity", executor.getQueue().remainingCapacity());
+        stats.put("dispatched", dispatched);
+        stats.put("rejected", requestsRejected.get());
+        stats.put("failed", requestsFailed.get());
+        stats.put("mean_queue_wait_ms", dispatched > 0 ? totalQueueWaitNanos.get() / 1e6 / dispatched : 0.0);
+        return stats;
+    }
+
+    /**
+     * Stop accepting requests and wait briefly for running ones
+     * @param timeoutMillis How long to wait
+     */
+    void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejectQueued(executor.shutdownNow());
+            }
+        } catch (InterruptedException e) {
+            rejectQueued(executor.shutdownNow());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Answer requests that were still queued at shutdown, so their connections are not left open
+     * Other tasks (see execute) complete a request themselves and are short, so they are run here
+     */
+    private void rejectQueued(List<Runnable> queued) {
+        for (Runnable task : queued) {
+            if (task instanceof DispatchedRequest) {
+                requestsRejected.incrementAndGet();
+                ((DispatchedRequest) task).reject(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    "The server is shutting down, please retry shortly");
+            } else {
+                task.run();
+            }
+        }
+    }
+
+    /**
+     * A request waiting for, or running on, an executor thread
+     */
+    private final class DispatchedRequest implements Runnable {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final RequestHandler handler;
+        private final AsyncContext asyncContext;
+        private final long queuedAt = System.nanoTime();
+
+        DispatchedRequest(HttpServletRequest request, HttpServletResponse response, RequestHandler handler,
+                          AsyncContext asyncContext) {
+            this.request = request;
+            this.response = response;
+            this.handler = handler;
+            this.asyncContext = asyncContext;
+        }
+
+        @Override
+        public void run() {
+            totalQueueWaitNanos.addAndGet(System.nanoTime() - queuedAt);
+            try {
+                handler.handle(request, response);
+            } catch (Exception e) {
+                requestsFailed.incrementAndGet();
+                System.err.println("Error handling " + request.getRequestURI() + ": " + e.getMessage());
+                e.printStackTrace();
+                if (!response.isCommitted()) {
+                    try {
+                        response.reset();
+                        sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                            "An unexpected error occurred. Please try again.");
+                    } catch (IOException | IllegalStateException writeError) {
+                        System.err.println("Error writing failure response: " + writeError.getMessage());
+                    }
+                }
+            } finally {
+                asyncContext.complete();
+            }
+        }
+
+        /**
+         * Answer the request with an error instead of running it
+         */
+        void reject(int status, String message) {
+            try {
+                response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+                sendError(response, status, message);
+            } catch (IOException | IllegalStateException e) {
+                System.err.println("Error writing rejection response: " + e.getMessage());
+            } finally {
+                asyncContext.complete();
+            }
+        }
+    }
+
+    private static void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "error");
+        jsonResponse.put("message", message);
+
+        response.setStatus(status);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
+    }
+}
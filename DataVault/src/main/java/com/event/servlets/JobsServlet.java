@@ -0,0 +1,186 @@
+package com.event.servlets;
+
+import com.event.jobs.JobManager;
+import com.event.model.BackgroundJob;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+
+/**
+ * Servlet for background jobs
+ * Handles job status polling, job listing, cancellation and artifact downloads
+ */
+@WebServlet("/jobs")
+public class JobsServlet extends HttpServlet {
+
+    private static final int RECENT_JOBS_LIMIT = 50;
+
+    /**
+     * Handle GET requests: status, list and download
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!AdminLoginServlet.isAdminAuthenticated(request)) {
+            sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized access. Please login first.");
+            return;
+        }
+
+        JobManager jobManager = JobManager.getInstance();
+        if (jobManager == null) {
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Background jobs are disabled");
+            return;
+        }
+
+        String action = request.getParameter("action");
+
+        if ("status".equals(action)) {
+            getStatus(request, response, jobManager);
+        } else if ("list".equals(action)) {
+            listJobs(response, jobManager);
+        } else if ("download".equals(action)) {
+            download(request, response, jobManager);
+        } else {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid action specified");
+        }
+    }
+
+    /**
+     * Handle POST requests: cancel
+     */
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!AdminLoginServlet.isAdminAuthenticated(request)) {
+            sendError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized access. Please login first.");
+            return;
+        }
+
+        JobManager jobManager = JobManager.getInstance();
+        if (jobManager == null) {
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Background jobs are disabled");
+            return;
+        }
+
+        if (!"cancel".equals(request.getParameter("action"))) {
+            sendError(response, HttpServletResponse.SC_BAD_REQUEST, "Invalid action specified");
+            return;
+        }
+
+        String jobId = request.getParameter("job_id");
+        if (jobId == null || !jobManager.cancel(jobId)) {
+            sendError(response, HttpServletResponse.SC_CONFLICT, "Job is not queued or running");
+            return;
+        }
+
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("message", "Cancellation requested");
+        sendJson(response, jsonResponse);
+    }
+
+    private void getStatus(HttpServletRequest request, HttpServletResponse response, JobManager jobManager)
+            throws IOException {
+        BackgroundJob job = findJob(request, response, jobManager);
+        if (job == null) {
+            return;
+        }
+
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("job", job.toJSON());
+
+        response.setHeader("Cache-Control", "no-store");
+        sendJson(response, jsonResponse);
+    }
+
+    private void listJobs(HttpServletResponse response, JobManager jobManager) throws IOException {
+        JSONArray jobs = new JSONArray();
+        for (BackgroundJob job : jobManager.getRecentJobs(RECENT_JOBS_LIMIT)) {
+            jobs.put(job.toJSON());
+        }
+
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "success");
+        jsonResponse.put("jobs", jobs);
+        jsonResponse.put("statistics", new JSONObject(jobManager.getStatistics()));
+
+        response.setHeader("Cache-Control", "no-store");
+        sendJson(response, jsonResponse);
+    }
+
+    /**
+     * Stream a completed job's artifact file
+     */
+    private void download(HttpServletRequest request, HttpServletResponse response, JobManager jobManager)
+            throws IOException {
+        BackgroundJob job = findJob(request, response, jobManager);
+        if (job == null) {
+            return;
+        }
+
+        File artifact = jobManager.getArtifactFile(job.getId());
+        if (!job.hasArtifact() || !artifact.isFile()) {
+            sendError(response, HttpServletResponse.SC_CONFLICT,
+                job.isFinished() ? "Job has no file to download" : "Job is still " + job.getStatus());
+            return;
+        }
+
+        response.setContentType(job.getArtifactContentType());
+        response.setContentLengthLong(artifact.length());
+        response.setHeader("Content-Disposition", "attachment; filename=\""
+            + job.getArtifactName().replace("\"", "") + "\"");
+        response.setHeader("Cache-Control", "private, no-store");
+
+        try (InputStream in = new FileInputStream(artifact)) {
+            ServletOutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.flush();
+        }
+    }
+
+    private BackgroundJob findJob(HttpServletRequest request, HttpServletResponse response, JobManager jobManager)
+            throws IOException {
+        String jobId = request.getParameter("job_id");
+        BackgroundJob job = jobId != null ? jobManager.getJob(jobId.trim()) : null;
+        if (job == null) {
+            sendError(response, HttpServletResponse.SC_NOT_FOUND, "Job not found");
+        }
+        return job;
+    }
+
+    private void sendJson(HttpServletResponse response, JSONObject jsonResponse) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
+    }
+
+    private void sendError(HttpServletResponse response, int status, String message) throws IOException {
+        JSONObject jsonResponse = new JSONObject();
+        jsonResponse.put("status", "error");
+        jsonResponse.put("message", message);
+
+        response.setStatus(status);
+        sendJson(response, jsonResponse);
+    }
+}
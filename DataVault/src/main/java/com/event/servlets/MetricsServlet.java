@@ -0,0 +1,78 @@
+package com.event.servlets;
+
+import com.event.metrics.Metrics;
+import org.json.JSONObject;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Servlet exposing request and DAO metrics in the Prometheus text format
+ * Readable by logged-in admins, or by a scraper sending the METRICS_TOKEN environment value as a bearer token
+ */
+@WebServlet(urlPatterns = "/metrics", asyncSupported = true)
+public class MetricsServlet extends HttpServlet {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private byte[] metricsToken;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        String token = System.getenv("METRICS_TOKEN");
+        metricsToken = token != null && !token.trim().isEmpty() ? token.trim().getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Handle GET requests: write every metric
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+
+        if (!isAuthorized(request)) {
+            JSONObject jsonResponse = new JSONObject();
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Unauthorized access. Please login first.");
+
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+
+            PrintWriter out = response.getWriter();
+            out.print(jsonResponse.toString());
+            out.flush();
+            return;
+        }
+
+        response.setContentType("text/plain; version=0.0.4");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-cache");
+
+        PrintWriter out = response.getWriter();
+        Metrics.writePrometheus(out);
+        out.flush();
+    }
+
+    private boolean isAuthorized(HttpServletRequest request) {
+        if (AdminLoginServlet.isAdminAuthenticated(request)) {
+            return true;
+        }
+
+        String authorization = request.getHeader("Authorization");
+        if (metricsToken == null || authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+
+        byte[] presented = authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(metricsToken, presented);
+    }
+}
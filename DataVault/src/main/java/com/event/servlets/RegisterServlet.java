@@ -1,9 +1,14 @@
 package com.event.servlets;
 
+import com.event.dao.RegistrationBatcher;
 import com.event.dao.RegistrationDAO;
-import com.event.dao.CertificateDAO;
+import com.event.dao.RegistrationIndex;
+import com.event.dao.RegistrationRequest;
+import com.event.dao.RegistrationResult;
 import org.json.JSONObject;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServlet;
@@ -11,122 +16,222 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Servlet for handling participant registration
  * Processes registration forms and generates participation certificates
  */
-@WebServlet("/register")
+@WebServlet(urlPatterns = "/register", asyncSupported = true)
 public class RegisterServlet extends HttpServlet {
     
+    // How long a request waits for its batch to be written before giving up
+    private static final long BATCH_RESULT_TIMEOUT_MILLIS = 10000;
+    
     private RegistrationDAO registrationDAO;
-    private CertificateDAO certificateDAO;
+    private RegistrationBatcher registrationBatcher;
     
     @Override
     public void init() throws ServletException {
         super.init();
         registrationDAO = new RegistrationDAO();
-        certificateDAO = new CertificateDAO();
+        
+        // Optional write-behind batching for registration bursts (see web.xml)
+        ServletContext context = getServletContext();
+        if (Boolean.parseBoolean(context.getInitParameter("registration.batching.enabled"))) {
+            registrationBatcher = new RegistrationBatcher(registrationDAO,
+                ContextParameters.getInt(context, "registration.batching.queueCapacity", 10000),
+                ContextParameters.getInt(context, "registration.batching.maxBatchSize", 200),
+                ContextParameters.getInt(context, "registration.batching.maxDelayMillis", 20));
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        if (registrationBatcher != null) {
+            registrationBatcher.shutdown(BATCH_RESULT_TIMEOUT_MILLIS);
+        }
+        super.destroy();
     }
     
     /**
      * Handle POST requests for participant registration
+     * The form is validated on the request thread; storing it happens on the JDBC executor, or on the
+     * batcher thread when batching is enabled, so request threads never wait for the database
      */
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response) 
             throws ServletException, IOException {
         
-        // Set response content type to JSON
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
+        // Extract form parameters
+        String name = request.getParameter("name");
+        String email = request.getParameter("email");
+        String college = request.getParameter("college");
+        String event = request.getParameter("event");
         
-        PrintWriter out = response.getWriter();
-        JSONObject jsonResponse = new JSONObject();
+        // Validate input parameters
+        String validationError = null;
+        if (name == null || name.trim().isEmpty()) {
+            validationError = "Full name is required";
+        } else if (email == null || email.trim().isEmpty() || !isValidEmail(email)) {
+            validationError = "Valid email address is required";
+        } else if (college == null || college.trim().isEmpty()) {
+            validationError = "College name is required";
+        } else if (event == null || event.trim().isEmpty()) {
+            validationError = "Please select an event";
+        }
         
-        try {
-            // Extract form parameters
-            String name = request.getParameter("name");
-            String email = request.getParameter("email");
-            String college = request.getParameter("college");
-            String event = request.getParameter("event");
-            
-            // Validate input parameters
-            if (name == null || name.trim().isEmpty()) {
-                jsonResponse.put("status", "error");
-                jsonResponse.put("message", "Full name is required");
-                out.print(jsonResponse.toString());
-                return;
-            }
-            
-            if (email == null || email.trim().isEmpty() || !isValidEmail(email)) {
-                jsonResponse.put("status", "error");
-                jsonResponse.put("message", "Valid email address is required");
-                out.print(jsonResponse.toString());
-                return;
-            }
-            
-            if (college == null || college.trim().isEmpty()) {
-                jsonResponse.put("status", "error");
-                jsonResponse.put("message", "College name is required");
-                out.print(jsonResponse.toString());
-                return;
-            }
-            
-            if (event == null || event.trim().isEmpty()) {
-                jsonResponse.put("status", "error");
-                jsonResponse.put("message", "Please select an event");
-                out.print(jsonResponse.toString());
-                return;
-            }
-            
-            // Check if email is already registered for this event
-            if (registrationDAO.isEmailRegistered(email, event)) {
-                jsonResponse.put("status", "error");
-                jsonResponse.put("message", "Email is already registered for this event");
-                out.print(jsonResponse.toString());
-                return;
-            }
-            
-            // Register participant
-            int registrationId = registrationDAO.registerParticipant(name, email, college, event);
+        if (validationError != null) {
+            JSONObject jsonResponse = new JSONObject();
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", validationError);
+            writeResponse(response, jsonResponse);
+            return;
+        }
+        
+        RegistrationRequest registration = new RegistrationRequest(name, email, college, event);
+        
+        // Resubmits of a stored registration are answered from memory; the unique constraint decides the rest
+        if (RegistrationIndex.isKnownDuplicate(registration)) {
+            writeResponse(response, toJSON(RegistrationResult.duplicate()));
+            return;
+        }
+        
+        CompletableFuture<RegistrationResult> pending =
+            registrationBatcher != null ? registrationBatcher.submit(registration) : null;
+        
+        if (pending != null && request.isAsyncSupported()) {
+            // The batcher completes the request itself; no thread waits for the batch
+            AsyncContext asyncContext = request.startAsync();
+            asyncContext.setTimeout(0);
             
-            if (registrationId > 0) {
-                // Generate participation certificate data
-                Map<String, Object> certificateData = certificateDAO.generateCertificateData(
-                    registrationId, "participation");
+            pending.orTimeout(BATCH_RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    // This runs on the batcher's writer thread (or the timeout timer); the response is written
+                    // on a JDBC thread so a slow client cannot hold up the next batch
+                    if (!JdbcRequestExecutor.execute(() ->
+                            completeBatched(asyncContext, response, registration, result, error))) {
+                        // Executor saturated: answer here, without another database round-trip
+                        completeResponse(asyncContext, response, result != null ? result
+                            : error instanceof TimeoutException ? RegistrationResult.pending() : RegistrationResult.failed());
+                    }
+                });
+            return;
+        }
+        
+        JdbcRequestExecutor.dispatch(request, response, (asyncRequest, asyncResponse) -> {
+            JSONObject jsonResponse;
+            try {
+                // Register participant and issue the participation certificate in one transaction
+                jsonResponse = toJSON(register(registration, pending));
+            } catch (Exception e) {
+                System.err.println("Error in RegisterServlet: " + e.getMessage());
+                e.printStackTrace();
                 
-                if (certificateData != null) {
-                    // Track certificate generation
-                    String certificateId = (String) certificateData.get("certificate_id");
-                    certificateDAO.trackCertificateGeneration(registrationId, "participation", certificateId);
-                    
-                    // Success response with certificate data
-                    jsonResponse.put("status", "success");
-                    jsonResponse.put("message", "Registration successful! Your participation certificate is ready for download.");
-                    jsonResponse.put("registration_id", registrationId);
-                    jsonResponse.put("certificate_data", new JSONObject(certificateData));
-                } else {
-                    // Registration successful but certificate generation failed
-                    jsonResponse.put("status", "success");
-                    jsonResponse.put("message", "Registration successful! Certificate will be available shortly.");
-                    jsonResponse.put("registration_id", registrationId);
-                }
-            } else {
+                jsonResponse = new JSONObject();
                 jsonResponse.put("status", "error");
-                jsonResponse.put("message", "Registration failed. Please try again.");
+                jsonResponse.put("message", "An unexpected error occurred. Please try again.");
             }
-            
-        } catch (Exception e) {
-            System.err.println("Error in RegisterServlet: " + e.getMessage());
-            e.printStackTrace();
-            
-            jsonResponse.put("status", "error");
-            jsonResponse.put("message", "An unexpected error occurred. Please try again.");
+            writeResponse(asyncResponse, jsonResponse);
+        });
+    }
+    
+    /**
+     * Store a registration directly, or wait for the batch it was queued in
+     * @param request Registration to store
+     * @param pending Result of the batcher, or null when batching is disabled or its queue was full
+     * @return Registration result
+     */
+    private RegistrationResult register(RegistrationRequest request, CompletableFuture<RegistrationResult> pending)
+            throws Exception {
+        if (pending == null) {
+            return registrationDAO.registerWithCertificate(
+                request.getName(), request.getEmail(), request.getCollege(), request.getEvent());
+        }
+        
+        try {
+            return pending.get(BATCH_RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            System.err.println("Timed out waiting for registration batch: " + request.getEmail());
+            return resolveTimedOut(request);
+        }
+    }
+    
+    /**
+     * Work out the outcome of a registration whose batch did not finish in time
+     * The batch may still commit, so it is never reported as failed: a stored registration is returned
+     * with its certificate, anything else as pending
+     * @param request Registration that timed out
+     * @return Created or pending result
+     */
+    private RegistrationResult resolveTimedOut(RegistrationRequest request) {
+        RegistrationResult stored = registrationDAO.findRegistration(request.getEmail(), request.getEvent());
+        return stored != null ? stored : RegistrationResult.pending();
+    }
+    
+    /**
+     * Answer a registration that was queued in the batcher, once its batch finished or timed out
+     */
+    private void completeBatched(AsyncContext asyncContext, HttpServletResponse response,
+                                 RegistrationRequest registration, RegistrationResult result, Throwable error) {
+        if (error instanceof TimeoutException) {
+            System.err.println("Timed out waiting for registration batch: " + registration.getEmail());
+            result = resolveTimedOut(registration);
+        } else if (error != null) {
+            System.err.println("Registration batch failed for " + registration.getEmail() + ": " + error);
+            result = RegistrationResult.failed();
+        }
+        completeResponse(asyncContext, response, result);
+    }
+    
+    /**
+     * Write the response of an asynchronous registration and complete it
+     */
+    private void completeResponse(AsyncContext asyncContext, HttpServletResponse response, RegistrationResult result) {
+        try {
+            writeResponse(response, toJSON(result));
+        } catch (IOException e) {
+            System.err.println("Error writing registration response: " + e.getMessage());
         } finally {
-            out.print(jsonResponse.toString());
-            out.flush();
+            asyncContext.complete();
+        }
+    }
+    
+    /**
+     * Build the response for a registration result
+     */
+    private JSONObject toJSON(RegistrationResult result) {
+        JSONObject jsonResponse = new JSONObject();
+        
+        if (result.getStatus() == RegistrationResult.Status.CREATED) {
+            // Success response with certificate data
+            jsonResponse.put("status", "success");
+            jsonResponse.put("message", "Registration successful! Your participation certificate is ready for download.");
+            jsonResponse.put("registration_id", result.getRegistrationId());
+            jsonResponse.put("certificate_data", new JSONObject(result.getCertificateData()));
+        } else if (result.getStatus() == RegistrationResult.Status.DUPLICATE) {
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Email is already registered for this event");
+        } else if (result.getStatus() == RegistrationResult.Status.PENDING) {
+            jsonResponse.put("status", "pending");
+            jsonResponse.put("message", "Your registration is still being processed. Please wait a minute, then submit again to check its status.");
+        } else {
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Registration failed. Please try again.");
         }
+        
+        return jsonResponse;
+    }
+    
+    private void writeResponse(HttpServletResponse response, JSONObject jsonResponse) throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        PrintWriter out = response.getWriter();
+        out.print(jsonResponse.toString());
+        out.flush();
     }
     
     /**
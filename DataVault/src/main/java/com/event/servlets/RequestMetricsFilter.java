@@ -0,0 +1,248 @@
+package com.event.servlets;
+
+import com.event.metrics.Metrics;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletMapping;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.regex.Pattern;
+
+/**
+ * Filter that times every request and counts its response bytes
+ * Requests are labelled by servlet mapping and action parameter; async requests are recorded when they complete
+ */
+public class RequestMetricsFilter implements Filter {
+
+    // Action values outside this shape are client-controlled noise and would add series
+    private static final Pattern ACTION_PATTERN = Pattern.compile("[a-z0-9_]{1,32}");
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+
+        if (!(servletRequest instanceof HttpServletRequest) || !(servletResponse instanceof HttpServletResponse)) {
+            chain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        long start = System.nanoTime();
+        String path = getPath(request);
+        String action = getAction(request);
+
+        CountingResponse response = new CountingResponse((HttpServletResponse) servletResponse);
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+
+            if (request.isAsyncStarted()) {
+                async = true;
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        Metrics.recordRequest(path, action, System.nanoTime() - start, response.getByteCount());
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        // Followed by onComplete
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        // Followed by onComplete
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                        // Not restarted
+                    }
+                });
+            }
+        } finally {
+            if (!async) {
+                Metrics.recordRequest(path, action, System.nanoTime() - start, response.getByteCount());
+            }
+        }
+    }
+
+    private static String getPath(HttpServletRequest request) {
+        HttpServletMapping mapping = request.getHttpServletMapping();
+        if (mapping == null || mapping.getPattern() == null || mapping.getPattern().isEmpty()) {
+            return "/";
+        }
+        return mapping.getPattern();
+    }
+
+    private static String getAction(HttpServletRequest request) {
+        String action = request.getParameter("action");
+        if (action == null) {
+            // Exports are selected by format rather than action
+            action = request.getParameter("format");
+        }
+        if (action == null) {
+            return "";
+        }
+
+        action = action.trim().toLowerCase();
+        return ACTION_PATTERN.matcher(action).matches() ? action : "other";
+    }
+
+    /**
+     * Response wrapper that counts body bytes written through either the stream or the writer
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private volatile long byteCount;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        long getByteCount() {
+            return byteCount;
+        }
+
+        @Override
+        public synchronized ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CountingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public synchronized PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new CountingWriter(super.getWriter()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+
+        /**
+         * Output stream that counts bytes and passes non-blocking I/O through to the container
+         */
+        private final class CountingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream out;
+
+            CountingOutputStream(ServletOutputStream out) {
+                this.out = out;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                byteCount++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+                byteCount += len;
+            }
+
+            @Override
+            public void flush() throws IOException {
+                out.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return out.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                out.setWriteListener(writeListener);
+            }
+        }
+
+        /**
+         * Writer that counts the UTF-8 size of the characters passed to the container's writer
+         * The container's writer swallows I/O errors; they are rethrown on flush so checkError on the
+         * wrapping PrintWriter still reveals a disconnected client
+         */
+        private final class CountingWriter extends Writer {
+
+            private final PrintWriter out;
+
+            CountingWriter(PrintWriter out) {
+                this.out = out;
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) {
+                out.write(cbuf, off, len);
+                for (int i = off; i < off + len; i++) {
+                    count(cbuf[i]);
+                }
+            }
+
+            @Override
+            public void write(String str, int off, int len) {
+                out.write(str, off, len);
+                for (int i = off; i < off + len; i++) {
+                    count(str.charAt(i));
+                }
+            }
+
+            @Override
+            public void write(int c) {
+                out.write(c);
+                count((char) c);
+            }
+
+            private void count(char c) {
+                if (c < 0x80) {
+                    byteCount++;
+                } else if (c < 0x800 || Character.isSurrogate(c)) {
+                    // A surrogate pair is four bytes, two per half
+                    byteCount += 2;
+                } else {
+                    byteCount += 3;
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (out.checkError()) {
+                    throw new IOException("Client connection closed");
+                }
+            }
+
+            @Override
+            public void close() {
+                out.close();
+            }
+        }
+    }
+}
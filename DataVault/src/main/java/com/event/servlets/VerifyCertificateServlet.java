@@ -0,0 +1,91 @@
+package com.event.servlets;
+
+import com.event.dao.CertificateDAO;
+import org.json.JSONObject;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Public servlet for certificate verification
+ * Handles verification links shared with certificates; no login required
+ */
+@WebServlet("/verify")
+public class VerifyCertificateServlet extends HttpServlet {
+    
+    // How long browsers and proxies may reuse a verification answer
+    private static final int RESPONSE_MAX_AGE_SECONDS = 60;
+    
+    private CertificateDAO certificateDAO;
+    
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        certificateDAO = new CertificateDAO();
+    }
+    
+    /**
+     * Handle GET requests to verify a certificate ID
+     */
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) 
+            throws ServletException, IOException {
+        
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        PrintWriter out = response.getWriter();
+        JSONObject jsonResponse = new JSONObject();
+        
+        try {
+            String certificateId = request.getParameter("id");
+            
+            if (certificateId == null || certificateId.trim().isEmpty()) {
+                jsonResponse.put("status", "error");
+                jsonResponse.put("message", "Certificate ID is required");
+                return;
+            }
+            
+            Map<String, Object> verification = certificateDAO.verifyCertificate(certificateId);
+            boolean valid = Boolean.TRUE.equals(verification.get("valid"));
+            
+            response.setHeader("Cache-Control", "public, max-age=" + RESPONSE_MAX_AGE_SECONDS);
+            
+            jsonResponse.put("status", "success");
+            jsonResponse.put("valid", valid);
+            
+            if (valid) {
+                // Public answer: enough to confirm the certificate, without the participant's email
+                jsonResponse.put("certificate", new JSONObject()
+                    .put("certificate_id", certificateId.trim())
+                    .put("certificate_type", verification.get("certificate_type"))
+                    .put("name", verification.get("name"))
+                    .put("college", verification.get("college"))
+                    .put("event", verification.get("event"))
+                    .put("generated_date", String.valueOf(verification.get("generated_date"))));
+                jsonResponse.put("message", "Certificate is valid");
+            } else if (Boolean.TRUE.equals(verification.get("revoked"))) {
+                jsonResponse.put("revoked", true);
+                jsonResponse.put("message", "Certificate has been revoked");
+            } else {
+                jsonResponse.put("message", "Certificate not found");
+            }
+            
+        } catch (Exception e) {
+            System.err.println("Error verifying certificate: " + e.getMessage());
+            e.printStackTrace();
+            
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Failed to verify certificate");
+        } finally {
+            out.print(jsonResponse.toString());
+            out.flush();
+        }
+    }
+}
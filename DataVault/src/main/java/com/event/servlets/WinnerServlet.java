@@ -3,6 +3,11 @@ package com.event.servlets;
 import com.event.dao.RegistrationDAO;
 import com.event.dao.CertificateDAO;
 import com.event.dao.AdminDAO;
+import com.event.dao.BulkWinnerResult;
+import com.event.jobs.JobManager;
+import com.event.model.BackgroundJob;
+import com.event.model.Registration;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import javax.servlet.ServletException;
@@ -12,15 +17,31 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Servlet for winner management operations
- * Handles selecting and revoking winners, and generating winner certificates
+ * Handles selecting and revoking winners (one at a time or in bulk), and generating winner certificates
  */
 @WebServlet("/winner")
 public class WinnerServlet extends HttpServlet {
     
+    // Upper bound on participants touched by one bulk request
+    private static final int MAX_BULK_WINNERS = 500;
+    
+    // Background updates do not hold a request thread, so they may touch more participants
+    private static final int MAX_BACKGROUND_BULK_WINNERS = 10000;
+    
+    // Suggested wait before resubmitting when the job queue is full
+    private static final int JOB_RETRY_AFTER_SECONDS = 30;
+    
     private RegistrationDAO registrationDAO;
     private CertificateDAO certificateDAO;
     private AdminDAO adminDAO;
@@ -60,6 +81,10 @@ public class WinnerServlet extends HttpServlet {
             selectWinner(request, response);
         } else if ("revoke_winner".equals(action)) {
             revokeWinner(request, response);
+        } else if ("select_winners".equals(action)) {
+            updateWinners(request, response, true);
+        } else if ("revoke_winners".equals(action)) {
+            updateWinners(request, response, false);
         } else if ("generate_winner_certificate".equals(action)) {
             generateWinnerCertificate(request, response);
         } else {
@@ -108,7 +133,7 @@ public class WinnerServlet extends HttpServlet {
             }
             
             // Check if participant exists
-            Map<String, Object> participant = registrationDAO.getRegistrationById(participantId);
+            Registration participant = registrationDAO.getRegistrationById(participantId);
             if (participant == null) {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Participant not found");
@@ -117,7 +142,7 @@ public class WinnerServlet extends HttpServlet {
             }
             
             // Check if already a winner
-            if ((Boolean) participant.get("winner_status")) {
+            if (participant.isWinner()) {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Participant is already a winner");
                 out.print(jsonResponse.toString());
@@ -133,15 +158,21 @@ public class WinnerServlet extends HttpServlet {
                     participantId, "winner");
                 
                 if (winnerCertificateData != null) {
-                    String certificateId = (String) winnerCertificateData.get("certificate_id");
-                    certificateDAO.trackCertificateGeneration(participantId, "winner", certificateId);
+                    // A re-selected winner keeps the certificate ID already on record
+                    String certificateId = certificateDAO.trackCertificateGeneration(participantId, "winner",
+                        (String) winnerCertificateData.get("certificate_id"));
+                    if (certificateId != null) {
+                        winnerCertificateData.put("certificate_id", certificateId);
+                    } else {
+                        winnerCertificateData = null;
+                    }
                 }
                 
                 // Log admin action
                 Integer adminId = AdminLoginServlet.getAdminId(request);
                 if (adminId != null) {
-                    String participantName = (String) participant.get("name");
-                    String event = (String) participant.get("event");
+                    String participantName = participant.getName();
+                    String event = participant.getEvent();
                     adminDAO.logAdminAction(adminId, 
                         "Selected winner: " + participantName + " for event: " + event);
                 }
@@ -170,6 +201,201 @@ public class WinnerServlet extends HttpServlet {
         }
     }
     
+    /**
+     * Select or revoke several winners in one request
+     * Takes either ids (comma-separated or repeated) or, for selection, event plus count (earliest registrations);
+     * with async=true the update runs as a background job and larger batches are accepted
+     */
+    private void updateWinners(HttpServletRequest request, HttpServletResponse response, boolean isWinner) 
+            throws IOException {
+        
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        
+        PrintWriter out = response.getWriter();
+        JSONObject jsonResponse = new JSONObject();
+        
+        try {
+            boolean async = "true".equalsIgnoreCase(request.getParameter("async"));
+            int limit = async ? MAX_BACKGROUND_BULK_WINNERS : MAX_BULK_WINNERS;
+            
+            String event = request.getParameter("event");
+            String countParam = request.getParameter("count");
+            boolean byEvent = isWinner && event != null && !event.trim().isEmpty() && countParam != null;
+            int count = 0;
+            List<Integer> participantIds = null;
+            
+            if (byEvent) {
+                try {
+                    count = Integer.parseInt(countParam.trim());
+                } catch (NumberFormatException e) {
+                    count = 0;
+                }
+                
+                if (count < 1 || count > limit) {
+                    jsonResponse.put("status", "error");
+                    jsonResponse.put("message", "Count must be between 1 and " + limit);
+                    return;
+                }
+            } else {
+                try {
+                    participantIds = parseIds(request);
+                } catch (NumberFormatException e) {
+                    jsonResponse.put("status", "error");
+                    jsonResponse.put("message", "Invalid participant ID format");
+                    return;
+                }
+                
+                if (participantIds.isEmpty()) {
+                    jsonResponse.put("status", "error");
+                    jsonResponse.put("message", "Participant IDs are required");
+                    return;
+                }
+                
+                if (participantIds.size() > limit) {
+                    jsonResponse.put("status", "error");
+                    jsonResponse.put("message", "At most " + limit + " participants can be updated at once");
+                    return;
+                }
+            }
+            
+            Integer adminId = AdminLoginServlet.getAdminId(request);
+            String selectedEvent = byEvent ? event : null;
+            
+            if (async) {
+                submitWinnerJob(response, jsonResponse, isWinner, selectedEvent, count, participantIds, adminId);
+                return;
+            }
+            
+            BulkWinnerResult result = applyWinnerUpdate(isWinner, selectedEvent, count, participantIds, adminId);
+            putWinnerUpdateResult(jsonResponse, result, isWinner);
+            
+        } catch (Exception e) {
+            System.err.println("Error updating winners: " + e.getMessage());
+            e.printStackTrace();
+            
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "An unexpected error occurred");
+        } finally {
+            out.print(jsonResponse.toString());
+            out.flush();
+        }
+    }
+    
+    /**
+     * Queue a bulk winner update as a background job; its JSON result becomes the job's artifact
+     */
+    private void submitWinnerJob(HttpServletResponse response, JSONObject jsonResponse, boolean isWinner,
+                                 String event, int count, List<Integer> participantIds, Integer adminId) {
+        JobManager jobManager = JobManager.getInstance();
+        if (jobManager == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Background jobs are disabled");
+            return;
+        }
+        
+        String description = (isWinner ? "Select " : "Revoke ") + (event != null
+            ? count + " winner(s) for event: " + event
+            : participantIds.size() + " winner(s)");
+        
+        BackgroundJob job = jobManager.submit("winner_update", adminId, description, context -> {
+            BulkWinnerResult result = applyWinnerUpdate(isWinner, event, count, participantIds, adminId);
+            
+            JSONObject jobResult = new JSONObject();
+            putWinnerUpdateResult(jobResult, result, isWinner);
+            
+            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+            try (PrintWriter writer = context.openArtifactWriter("winner_update_" + timestamp + ".json", "application/json")) {
+                writer.print(jobResult.toString(2));
+            }
+            context.reportProgress(result.getChanged().size(), result.getChanged().size());
+            context.setMessage(jobResult.getString("message"));
+        });
+        
+        if (job == null) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(JOB_RETRY_AFTER_SECONDS));
+            jsonResponse.put("status", "error");
+            jsonResponse.put("message", "Job queue is full, please retry shortly");
+            return;
+        }
+        
+        response.setStatus(HttpServletResponse.SC_ACCEPTED);
+        jsonResponse.put("status", "success");
+        jsonResponse.put("message", "Winner update queued");
+        jsonResponse.put("job", job.toJSON());
+    }
+    
+    /**
+     * Apply a bulk winner update and write one audit entry for the whole operation
+     * @param event Event to pick the earliest registrations from, or null to use participantIds
+     */
+    private BulkWinnerResult applyWinnerUpdate(boolean isWinner, String event, int count,
+                                               List<Integer> participantIds, Integer adminId) throws SQLException {
+        BulkWinnerResult result = event != null
+            ? registrationDAO.selectTopWinners(event, count)
+            : registrationDAO.updateWinnerStatuses(participantIds, isWinner);
+        
+        if (adminId != null && !result.getChanged().isEmpty()) {
+            Set<String> events = new TreeSet<>();
+            StringBuilder ids = new StringBuilder();
+            for (Registration participant : result.getChanged()) {
+                events.add(participant.getEvent());
+                ids.append(ids.length() > 0 ? ", " : "").append(participant.getId());
+            }
+            adminDAO.logAdminAction(adminId, (isWinner ? "Selected " : "Revoked ") + result.getChanged().size()
+                + " winner(s) for event(s): " + String.join(", ", events) + " (IDs: " + ids + ")");
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Describe a bulk winner update in the response shape the dashboard expects
+     */
+    private void putWinnerUpdateResult(JSONObject jsonResponse, BulkWinnerResult result, boolean isWinner) {
+        JSONArray certificates = new JSONArray();
+        for (Map<String, Object> certificateData : result.getCertificates()) {
+            certificates.put(new JSONObject(certificateData));
+        }
+        
+        jsonResponse.put("status", "success");
+        jsonResponse.put("message", result.getChanged().size()
+            + (isWinner ? " winner(s) selected" : " winner status(es) revoked"));
+        jsonResponse.put("updated_count", result.getChanged().size());
+        jsonResponse.put(isWinner ? "already_winners" : "not_winners", new JSONArray(result.getUnchanged()));
+        jsonResponse.put("not_found", new JSONArray(result.getNotFound()));
+        if (isWinner) {
+            jsonResponse.put("certificates", certificates);
+        }
+    }
+    
+    /**
+     * Collect participant IDs from repeated id parameters and comma-separated ids parameters
+     * @throws NumberFormatException if an ID is not a number
+     */
+    private List<Integer> parseIds(HttpServletRequest request) {
+        List<Integer> ids = new ArrayList<>();
+        
+        for (String name : new String[] { "ids", "id" }) {
+            String[] values = request.getParameterValues(name);
+            if (values == null) {
+                continue;
+            }
+            
+            for (String value : values) {
+                for (String id : value.split(",")) {
+                    if (!id.trim().isEmpty()) {
+                        ids.add(Integer.parseInt(id.trim()));
+                    }
+                }
+            }
+        }
+        
+        return ids;
+    }
+    
     /**
      * Revoke winner status from a participant
      */
@@ -203,7 +429,7 @@ public class WinnerServlet extends HttpServlet {
             }
             
             // Check if participant exists
-            Map<String, Object> participant = registrationDAO.getRegistrationById(participantId);
+            Registration participant = registrationDAO.getRegistrationById(participantId);
             if (participant == null) {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Participant not found");
@@ -212,7 +438,7 @@ public class WinnerServlet extends HttpServlet {
             }
             
             // Check if is a winner
-            if (!(Boolean) participant.get("winner_status")) {
+            if (!participant.isWinner()) {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Participant is not a winner");
                 out.print(jsonResponse.toString());
@@ -226,8 +452,8 @@ public class WinnerServlet extends HttpServlet {
                 // Log admin action
                 Integer adminId = AdminLoginServlet.getAdminId(request);
                 if (adminId != null) {
-                    String participantName = (String) participant.get("name");
-                    String event = (String) participant.get("event");
+                    String participantName = participant.getName();
+                    String event = participant.getEvent();
                     adminDAO.logAdminAction(adminId, 
                         "Revoked winner status: " + participantName + " for event: " + event);
                 }
@@ -285,7 +511,7 @@ public class WinnerServlet extends HttpServlet {
             }
             
             // Check if participant exists and is a winner
-            Map<String, Object> participant = registrationDAO.getRegistrationById(participantId);
+            Registration participant = registrationDAO.getRegistrationById(participantId);
             if (participant == null) {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Participant not found");
@@ -293,7 +519,7 @@ public class WinnerServlet extends HttpServlet {
                 return;
             }
             
-            if (!(Boolean) participant.get("winner_status")) {
+            if (!participant.isWinner()) {
                 jsonResponse.put("status", "error");
                 jsonResponse.put("message", "Participant is not a winner");
                 out.print(jsonResponse.toString());
@@ -304,14 +530,20 @@ public class WinnerServlet extends HttpServlet {
             Map<String, Object> winnerCertificateData = certificateDAO.generateCertificateData(
                 participantId, "winner");
             
+            String certificateId = null;
             if (winnerCertificateData != null) {
-                String certificateId = (String) winnerCertificateData.get("certificate_id");
-                certificateDAO.trackCertificateGeneration(participantId, "winner", certificateId);
+                // Regenerating keeps the certificate ID already on record
+                certificateId = certificateDAO.trackCertificateGeneration(participantId, "winner",
+                    (String) winnerCertificateData.get("certificate_id"));
+            }
+            
+            if (certificateId != null) {
+                winnerCertificateData.put("certificate_id", certificateId);
                 
                 // Log admin action
                 Integer adminId = AdminLoginServlet.getAdminId(request);
                 if (adminId != null) {
-                    String participantName = (String) participant.get("name");
+                    String participantName = participant.getName();
                     adminDAO.logAdminAction(adminId, 
                         "Generated winner certificate for: " + participantName);
                 }
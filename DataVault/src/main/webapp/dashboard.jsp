@@ -111,6 +111,16 @@
                     <p>Certificates Generated</p>
                 </div>
             </div>
+            
+            <div class="stat-card">
+                <div class="stat-icon">
+                    <i data-feather="database"></i>
+                </div>
+                <div class="stat-content">
+                    <h3 id="poolUsage">Loading...</h3>
+                    <p id="poolDetails">DB Connections (active / max)</p>
+                </div>
+            </div>
         </div>
 
         <!-- Participants Management -->
@@ -126,6 +136,10 @@
                         <i data-feather="file-text"></i>
                         Export HTML
                     </button>
+                    <button class="action-btn secondary" onclick="downloadEventCertificates()">
+                        <i data-feather="archive"></i>
+                        Certificates ZIP
+                    </button>
                 </div>
             </div>
 
@@ -244,9 +258,17 @@
         // Global variables
         let currentPage = 1;
         let totalPages = 1;
+        let hasNextPage = false;
+        let pageCursors = { 1: '' }; // Cursor that starts each visited page
         let participantsData = [];
         let pendingAction = null;
         
+        // Live updates: counters are kept here and moved by the deltas pushed over dashboard-events
+        let dashboardStream = null;
+        let streamLive = false;
+        let participantsRefreshTimer = null;
+        let dashboardCounters = null;
+        
         // Initialize dashboard
         document.addEventListener('DOMContentLoaded', function() {
             initializeDashboard();
@@ -254,9 +276,14 @@
         
         // Initialize dashboard
         function initializeDashboard() {
-            loadStatistics();
+            loadPoolStatistics();
             loadParticipants();
             loadEventFilters();
+            
+            // The stream starts with the full statistics; without it they are fetched once
+            if (!connectDashboardStream()) {
+                loadStatistics();
+            }
         }
         
         // Load dashboard statistics
@@ -265,11 +292,7 @@
                 .then(response => response.json())
                 .then(data => {
                     if (data.status === 'success') {
-                        const stats = data.statistics;
-                        document.getElementById('totalRegistrations').textContent = stats.total_registrations || 0;
-                        document.getElementById('totalWinners').textContent = stats.total_winners || 0;
-                        document.getElementById('totalEvents').textContent = Object.keys(stats.event_registrations || {}).length;
-                        document.getElementById('totalCertificates').textContent = stats.certificate_statistics?.total_certificates || 0;
+                        applyStatistics(data.statistics);
                     }
                 })
                 .catch(error => {
@@ -278,16 +301,171 @@
                 });
         }
         
+        // Replace the counters with a full statistics snapshot
+        function applyStatistics(stats) {
+            dashboardCounters = {
+                total_registrations: stats.total_registrations || 0,
+                total_winners: stats.total_winners || 0,
+                participation_certificates: stats.certificate_statistics?.participation_certificates || 0,
+                winner_certificates: stats.certificate_statistics?.winner_certificates || 0,
+                event_registrations: Object.assign({}, stats.event_registrations || {})
+            };
+            renderStatistics();
+        }
+        
+        // Move the counters by a pushed delta
+        function applyStatisticsDelta(delta) {
+            if (!dashboardCounters || !delta) {
+                return;
+            }
+            
+            ['total_registrations', 'total_winners', 'participation_certificates', 'winner_certificates'].forEach(key => {
+                dashboardCounters[key] += delta[key] || 0;
+            });
+            Object.entries(delta.event_registrations || {}).forEach(([event, change]) => {
+                const count = (dashboardCounters.event_registrations[event] || 0) + change;
+                if (count > 0) {
+                    dashboardCounters.event_registrations[event] = count;
+                } else {
+                    delete dashboardCounters.event_registrations[event];
+                }
+            });
+            renderStatistics();
+        }
+        
+        function renderStatistics() {
+            document.getElementById('totalRegistrations').textContent = dashboardCounters.total_registrations;
+            document.getElementById('totalWinners').textContent = dashboardCounters.total_winners;
+            document.getElementById('totalEvents').textContent = Object.keys(dashboardCounters.event_registrations).length;
+            document.getElementById('totalCertificates').textContent =
+                dashboardCounters.participation_certificates + dashboardCounters.winner_certificates;
+        }
+        
+        // Subscribe to live dashboard updates; returns false when the browser has no EventSource
+        function connectDashboardStream() {
+            if (typeof EventSource === 'undefined') {
+                return false;
+            }
+            
+            const stream = new EventSource('dashboard-events');
+            dashboardStream = stream;
+            
+            stream.addEventListener('statistics', event => {
+                streamLive = true;
+                applyStatistics(JSON.parse(event.data));
+            });
+            
+            stream.addEventListener('registration-created', event => {
+                const data = JSON.parse(event.data);
+                applyStatisticsDelta(data.delta);
+                // Newest registrations are listed first, so only the first page changes
+                if (currentPage === 1) {
+                    scheduleParticipantsRefresh();
+                }
+            });
+            
+            stream.addEventListener('winner-changed', event => {
+                const data = JSON.parse(event.data);
+                applyStatisticsDelta(data.delta);
+                if (data.registration_ids.some(id => participantsData.some(participant => participant.id === id))) {
+                    scheduleParticipantsRefresh();
+                }
+            });
+            
+            stream.addEventListener('participant-deleted', event => {
+                const data = JSON.parse(event.data);
+                applyStatisticsDelta(data.delta);
+                if (participantsData.some(participant => participant.id === data.registration_id)) {
+                    scheduleParticipantsRefresh();
+                }
+            });
+            
+            stream.addEventListener('certificates-issued', event => {
+                applyStatisticsDelta(JSON.parse(event.data).delta);
+            });
+            
+            // Deltas can no longer be trusted: start a fresh stream, which begins with a new snapshot
+            stream.addEventListener('resync', () => {
+                stream.close();
+                connectDashboardStream();
+                scheduleParticipantsRefresh();
+            });
+            
+            stream.onerror = () => {
+                // While reconnecting the browser resumes from the last event by itself
+                if (stream.readyState !== EventSource.CLOSED || dashboardStream !== stream) {
+                    return;
+                }
+                
+                // Refused (logged out, disabled or too many dashboards): poll as before and try again later
+                streamLive = false;
+                dashboardStream = null;
+                loadStatistics();
+                setTimeout(() => {
+                    if (!dashboardStream) {
+                        connectDashboardStream();
+                    }
+                }, 60000);
+            };
+            
+            return true;
+        }
+        
+        // Whether counters and the participant table are being kept current by the stream
+        function isDashboardStreamLive() {
+            return streamLive && dashboardStream !== null && dashboardStream.readyState !== EventSource.CLOSED;
+        }
+        
+        // Reload the current page of participants once a burst of changes has settled
+        function scheduleParticipantsRefresh() {
+            clearTimeout(participantsRefreshTimer);
+            participantsRefreshTimer = setTimeout(() => loadParticipants(currentPage), 1000);
+        }
+        
+        // After an admin action: the stream reports the change itself, otherwise reload
+        function refreshAfterChange() {
+            if (!isDashboardStreamLive()) {
+                loadParticipants(currentPage);
+                loadStatistics();
+            }
+        }
+        
+        // Load database connection pool statistics
+        function loadPoolStatistics() {
+            fetch('admin-dashboard?action=get_pool_statistics')
+                .then(response => response.json())
+                .then(data => {
+                    if (data.status === 'success') {
+                        const pool = data.pool_statistics;
+                        document.getElementById('poolUsage').textContent = `${pool.active_connections} / ${pool.max_size}`;
+                        document.getElementById('poolDetails').textContent =
+                            `DB Connections (${pool.idle_connections} idle, ${pool.waiting_threads} waiting, ` +
+                            `avg borrow ${pool.borrow_latency.mean_ms.toFixed(2)} ms)`;
+                    }
+                })
+                .catch(error => {
+                    console.error('Error loading pool statistics:', error);
+                });
+        }
+        
         // Load participants
         function loadParticipants(page = 1) {
+            if (page === 1 || !(page in pageCursors)) {
+                page = 1;
+                pageCursors = { 1: '' };
+            }
             currentPage = page;
             
-            fetch(`admin-dashboard?action=get_participants&page=${page}&limit=10`)
+            fetch(`admin-dashboard?action=get_participants&cursor=${encodeURIComponent(pageCursors[page])}&limit=10`)
                 .then(response => response.json())
                 .then(data => {
                     if (data.status === 'success') {
                         participantsData = data.participants;
-                        totalPages = data.pagination.total_pages;
+                        hasNextPage = data.pagination.has_next;
+                        if (hasNextPage) {
+                            pageCursors[page + 1] = data.pagination.next_cursor;
+                        }
+                        totalPages = Math.max(page, Math.ceil(data.pagination.total_count / data.pagination.limit));
                         displayParticipants(data.participants);
                         updatePagination(data.pagination);
                     } else {
@@ -357,16 +535,16 @@
         // Update pagination
         function updatePagination(pagination) {
             document.getElementById('paginationInfo').textContent = 
-                `Page ${pagination.current_page} of ${pagination.total_pages} (${pagination.total_count} total)`;
+                `Page ${currentPage} of ${totalPages} (${pagination.total_count} total)`;
             
-            document.getElementById('prevBtn').disabled = !pagination.has_previous;
+            document.getElementById('prevBtn').disabled = currentPage <= 1;
             document.getElementById('nextBtn').disabled = !pagination.has_next;
         }
         
         // Change page
         function changePage(direction) {
             const newPage = currentPage + direction;
-            if (newPage >= 1 && newPage <= totalPages) {
+            if (newPage >= 1 && (direction < 0 || hasNextPage)) {
                 loadParticipants(newPage);
             }
         }
@@ -375,6 +553,7 @@
         function refreshDashboard() {
             showToast('Refreshing dashboard...', 'info');
             loadStatistics();
+            loadPoolStatistics();
             loadParticipants(currentPage);
         }
         
@@ -398,11 +577,100 @@
             }
         }
         
-        // Export data
+        // Export data as a background job, downloading the file once it is ready
+        // (or straight away when the server has background jobs disabled)
         function exportData(format) {
-            const url = `export?format=${format}`;
-            window.open(url, '_blank');
-            showToast(`Exporting data as ${format.toUpperCase()}...`, 'info');
+            // Export only what the current filters show
+            const params = new URLSearchParams({ format: format, async: 'true' });
+            const eventFilter = document.getElementById('eventFilter').value;
+            const statusFilter = document.getElementById('statusFilter').value;
+            if (eventFilter) params.set('event', eventFilter);
+            if (statusFilter) params.set('winner', statusFilter);
+            
+            fetch(`export?${params.toString()}`)
+                .then(response => response.json())
+                .then(data => {
+                    if (data.jobs_enabled === false) {
+                        params.delete('async');
+                        const link = document.createElement('a');
+                        link.href = `export?${params.toString()}`;
+                        document.body.appendChild(link);
+                        link.click();
+                        document.body.removeChild(link);
+                        showToast(`Downloading data as ${format.toUpperCase()}...`, 'info');
+                        return;
+                    }
+                    if (data.status !== 'success') {
+                        showToast(data.message || 'Failed to start export', 'error');
+                        return;
+                    }
+                    showToast(`Exporting data as ${format.toUpperCase()}...`, 'info');
+                    pollBackgroundJob(data.job.job_id);
+                })
+                .catch(error => {
+                    console.error('Error starting export:', error);
+                    showToast('Failed to start export', 'error');
+                });
+        }
+        
+        // Build every certificate of the filtered event into a ZIP archive
+        function downloadEventCertificates() {
+            const eventFilter = document.getElementById('eventFilter').value;
+            if (!eventFilter) {
+                showToast('Select an event to download its certificates', 'warning');
+                return;
+            }
+            
+            fetch('bulk-certificates', {
+                method: 'POST',
+                body: new URLSearchParams({ action: 'queue', event: eventFilter, format: 'pdf' })
+            })
+            .then(response => response.json())
+            .then(data => {
+                if (data.status !== 'success') {
+                    showToast(data.message || 'Failed to start certificate download', 'error');
+                    return;
+                }
+                showToast('Preparing certificates for ' + eventFilter + '...', 'info');
+                pollBackgroundJob(data.job.job_id);
+            })
+            .catch(error => {
+                console.error('Error starting certificate download:', error);
+                showToast('Failed to start certificate download', 'error');
+            });
+        }
+        
+        // Report background job progress and download its file when it completes
+        function pollBackgroundJob(jobId) {
+            setTimeout(() => {
+                fetch('jobs?action=status&job_id=' + encodeURIComponent(jobId))
+                    .then(response => response.json())
+                    .then(data => {
+                        if (data.status !== 'success') {
+                            return;
+                        }
+                        
+                        const job = data.job;
+                        if (job.status === 'queued' || job.status === 'running') {
+                            if (job.progress_total > 0) {
+                                showToast(`${job.description}: ${job.progress_done} / ${job.progress_total}`, 'info', 2000);
+                            }
+                            pollBackgroundJob(jobId);
+                        } else if (job.status === 'completed') {
+                            if (job.artifact) {
+                                const link = document.createElement('a');
+                                link.href = job.artifact.download_url;
+                                document.body.appendChild(link);
+                                link.click();
+                                document.body.removeChild(link);
+                            }
+                            showToast(job.message || (job.description + ' completed'), 'success');
+                        } else {
+                            showToast(`${job.description} ${job.status}` + (job.message ? ': ' + job.message : ''), 'error');
+                        }
+                    })
+                    .catch(error => console.error('Error polling background job:', error));
+            }, 2000);
         }
         
         // Select winner
@@ -422,8 +690,7 @@
                     .then(data => {
                         if (data.status === 'success') {
                             showToast(data.message, 'success');
-                            loadParticipants(currentPage);
-                            loadStatistics();
+                            refreshAfterChange();
                             
                             // Show winner certificate if available
                             if (data.certificate_data) {
@@ -458,8 +725,7 @@
                     .then(data => {
                         if (data.status === 'success') {
                             showToast(data.message, 'success');
-                            loadParticipants(currentPage);
-                            loadStatistics();
+                            refreshAfterChange();
                         } else {
                             showToast(data.message, 'error');
                         }
@@ -489,8 +755,7 @@
                     .then(data => {
                         if (data.status === 'success') {
                             showToast(data.message, 'success');
-                            loadParticipants(currentPage);
-                            loadStatistics();
+                            refreshAfterChange();
                         } else {
                             showToast(data.message, 'error');
                         }
@@ -1,7 +1,7 @@
 <%@ page contentType="text/html;charset=UTF-8" language="java" %>
 <%@ page import="com.event.dao.EventDAO" %>
+<%@ page import="com.event.model.Event" %>
 <%@ page import="java.util.List" %>
-<%@ page import="java.util.Map" %>
 <!DOCTYPE html>
 <html lang="en">
 <head>
@@ -36,7 +36,7 @@
         <div class="game-grid">
             <%
                 EventDAO eventDAO = new EventDAO();
-                List<Map<String, Object>> events = eventDAO.getAllEvents();
+                List<Event> events = eventDAO.getAllEvents();
                 
                 // Default events if database is empty
                 String[][] defaultEvents = {
@@ -65,13 +65,13 @@
                     }
                 } else {
                     // Display events from database
-                    for (Map<String, Object> event : events) {
+                    for (Event event : events) {
             %>
                         <div class="game-card">
                             <div class="card-glow"></div>
-                            <h3><%= event.get("event_name") %></h3>
-                            <p><%= event.get("description") %></p>
-                            <button class="reveal-btn" onclick="openRegistrationModal('<%= event.get("event_name") %>')">
+                            <h3><%= event.getName() %></h3>
+                            <p><%= event.getDescription() %></p>
+                            <button class="reveal-btn" onclick="openRegistrationModal('<%= event.getName() %>')">
                                 <span>Register Now</span>
                                 <div class="btn-shine"></div>
                             </button>
@@ -124,9 +124,9 @@
                         <%
                                 }
                             } else {
-                                for (Map<String, Object> event : events) {
+                                for (Event event : events) {
                         %>
-                                    <option value="<%= event.get("event_name") %>"><%= event.get("event_name") %></option>
+                                    <option value="<%= event.getName() %>"><%= event.getName() %></option>
                         <%
                                 }
                             }
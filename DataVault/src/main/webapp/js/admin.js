@@ -82,13 +82,18 @@ function setupAutoRefresh() {
     // Auto-refresh every 5 minutes for dashboard
     if (window.location.pathname.includes('dashboard.jsp')) {
         setInterval(() => {
-            if (document.visibilityState === 'visible') {
+            if (document.visibilityState === 'visible' && !isLiveDashboard()) {
                 refreshDashboardData();
             }
         }, 300000); // 5 minutes
     }
 }
 
+// Whether the dashboard receives live updates, making timed refreshes unnecessary
+function isLiveDashboard() {
+    return typeof isDashboardStreamLive === 'function' && isDashboardStreamLive();
+}
+
 // Setup admin keybindings
 function setupAdminKeybindings() {
     document.addEventListener('keydown', handleAdminKeybindings);
@@ -292,6 +297,9 @@ function refreshDashboardData() {
     if (typeof loadStatistics === 'function') {
         loadStatistics();
     }
+    if (typeof loadPoolStatistics === 'function') {
+        loadPoolStatistics();
+    }
     if (typeof loadParticipants === 'function') {
         loadParticipants(1);
     }
@@ -320,55 +328,36 @@ function bulkSelectWinners() {
 
 // Process bulk winner selection
 function processBulkWinnerSelection(participants) {
-    let completed = 0;
-    let failed = 0;
-    
-    const updateProgress = () => {
-        const total = participants.length;
-        const progress = ((completed + failed) / total * 100).toFixed(1);
-        showToast(`Processing: ${progress}% complete`, 'info', 1000);
-    };
-    
-    // Process participants one by one to avoid overwhelming the server
-    participants.forEach((participantId, index) => {
-        setTimeout(() => {
-            fetch('winner', {
-                method: 'POST',
-                body: new URLSearchParams({
-                    action: 'select_winner',
-                    id: participantId
-                })
-            })
-            .then(response => response.json())
-            .then(data => {
-                if (data.status === 'success') {
-                    completed++;
-                } else {
-                    failed++;
-                    console.error(`Failed to select winner ${participantId}:`, data.message);
-                }
-                
-                updateProgress();
-                
-                // If this is the last participant, refresh the dashboard
-                if (completed + failed === participants.length) {
-                    const message = `Bulk operation completed. ${completed} successful, ${failed} failed.`;
-                    showToast(message, failed === 0 ? 'success' : 'warning');
-                    
-                    if (typeof loadParticipants === 'function') {
-                        loadParticipants(1);
-                    }
-                    if (typeof loadStatistics === 'function') {
-                        loadStatistics();
-                    }
-                }
-            })
-            .catch(error => {
-                failed++;
-                console.error(`Error processing participant ${participantId}:`, error);
-                updateProgress();
-            });
-        }, index * 200); // Stagger requests by 200ms
+    showToast(`Selecting ${participants.length} winner(s)...`, 'info', 1000);
+    
+    // One request for the whole selection; the server updates and issues certificates in a single transaction
+    fetch('winner', {
+        method: 'POST',
+        body: new URLSearchParams({
+            action: 'select_winners',
+            ids: participants.join(',')
+        })
+    })
+    .then(response => response.json())
+    .then(data => {
+        if (data.status === 'success') {
+            const skipped = data.already_winners.length + data.not_found.length;
+            const message = `Bulk operation completed. ${data.updated_count} selected, ${skipped} skipped.`;
+            showToast(message, skipped === 0 ? 'success' : 'warning');
+        } else {
+            showToast(data.message || 'Bulk winner selection failed', 'error');
+        }
+        
+        if (typeof loadParticipants === 'function') {
+            loadParticipants(1);
+        }
+        if (typeof loadStatistics === 'function') {
+            loadStatistics();
+        }
+    })
+    .catch(error => {
+        console.error('Error processing bulk winner selection:', error);
+        showToast('Bulk winner selection failed', 'error');
     });
 }
 
@@ -589,7 +578,7 @@ document.addEventListener('visibilitychange', function() {
         const lastRefresh = localStorage.getItem('lastAdminRefresh');
         const now = Date.now();
         
-        if (!lastRefresh || now - parseInt(lastRefresh) > 300000) {
+        if (!isLiveDashboard() && (!lastRefresh || now - parseInt(lastRefresh) > 300000)) {
             refreshDashboardData();
             localStorage.setItem('lastAdminRefresh', now.toString());
         }
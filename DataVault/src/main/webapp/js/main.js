@@ -166,7 +166,7 @@ function submitRegistration(event) {
     submitBtn.disabled = true;
     
     // Submit registration
-    fetch('register', {
+    fetchWithRetry('register', {
         method: 'POST',
         body: formData
     })
@@ -183,6 +183,9 @@ function submitRegistration(event) {
                     showCertificate(data.certificate_data);
                 }, 1000);
             }
+        } else if (data.status === 'pending') {
+            // Accepted but not confirmed yet; the form stays open so it can be resubmitted
+            showToast(data.message, 'warning');
         } else {
             showToast(data.message, 'error');
         }
@@ -417,8 +420,45 @@ function formatCertificateDate(date) {
     return new Date(date).toLocaleDateString('en-US', options);
 }
 
-// Download certificate
+// Download certificate, preferring the server-rendered PDF
 function downloadCertificate() {
+    const certificateId = currentCertificateData?.certificate_id;
+    if (!certificateId) {
+        downloadRenderedCertificate();
+        return;
+    }
+    
+    const downloadBtn = event.target.closest('button');
+    const originalText = downloadBtn.innerHTML;
+    downloadBtn.innerHTML = '<div class="spinner"></div><span>Generating...</span>';
+    downloadBtn.disabled = true;
+    
+    const url = `certificate?id=${encodeURIComponent(certificateId)}&format=pdf&download=true`;
+    fetch(url, { method: 'HEAD' }).then(response => {
+        if (!response.ok) {
+            throw new Error('Server certificate unavailable: ' + response.status);
+        }
+        
+        const link = document.createElement('a');
+        link.href = url;
+        document.body.appendChild(link);
+        link.click();
+        document.body.removeChild(link);
+        
+        downloadBtn.innerHTML = originalText;
+        downloadBtn.disabled = false;
+        showToast('Certificate downloaded successfully!', 'success');
+        trackCertificateDownload(certificateId);
+    }).catch(error => {
+        console.warn('Falling back to client-side certificate:', error);
+        downloadBtn.innerHTML = originalText;
+        downloadBtn.disabled = false;
+        downloadRenderedCertificate(downloadBtn);
+    });
+}
+
+// Download the certificate as drawn in the page
+function downloadRenderedCertificate(button) {
     const certificate = document.querySelector('#certificateContainer .certificate');
     if (!certificate) {
         showToast('Certificate not found. Please try again.', 'error');
@@ -426,7 +466,7 @@ function downloadCertificate() {
     }
     
     // Show loading state
-    const downloadBtn = event.target.closest('button');
+    const downloadBtn = button || event.target.closest('button');
     const originalText = downloadBtn.innerHTML;
     downloadBtn.innerHTML = '<div class="spinner"></div><span>Generating...</span>';
     downloadBtn.disabled = true;
@@ -479,6 +519,19 @@ function trackCertificateDownload(certificateId) {
     console.log('Certificate downloaded:', certificateId);
 }
 
+// Fetch, waiting for Retry-After and trying again while the server answers 429 (busy)
+function fetchWithRetry(url, options, attempts = 3) {
+    return fetch(url, options).then(response => {
+        if (response.status !== 429 || attempts <= 1) {
+            return response;
+        }
+        
+        const delaySeconds = parseInt(response.headers.get('Retry-After'), 10) || 2;
+        return new Promise(resolve => setTimeout(resolve, delaySeconds * 1000))
+            .then(() => fetchWithRetry(url, options, attempts - 1));
+    });
+}
+
 // Toast notification system
 function showToast(message, type = 'info', duration = 5000) {
     const container = document.getElementById('toast-container');